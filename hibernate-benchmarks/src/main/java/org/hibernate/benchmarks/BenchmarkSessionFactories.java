@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.benchmarks.model.Edition;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+/**
+ * Builds the {@link SessionFactory} instances used by the benchmarks, each backed
+ * by its own H2 in-memory database.
+ */
+public final class BenchmarkSessionFactories {
+
+	private BenchmarkSessionFactories() {
+	}
+
+	/**
+	 * Build a {@link SessionFactory} over a fresh, empty H2 in-memory database.
+	 *
+	 * @param settings Additional settings, overriding the defaults
+	 */
+	public static SessionFactory build(Map<String, Object> settings) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.JAKARTA_JDBC_USER, "sa" )
+				.applySetting( AvailableSettings.JAKARTA_JDBC_PASSWORD, "" )
+				.applySetting( AvailableSettings.POOL_SIZE, 4 )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, 50 )
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, false )
+				.applySetting( AvailableSettings.SHOW_SQL, false )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, false )
+				.applySettings( settings )
+				.build();
+		try {
+			return new MetadataSources( registry )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Book.class )
+					.addAnnotatedClass( Edition.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Settings enabling the second-level cache through {@code hibernate-jcache}.
+	 */
+	public static Map<String, Object> secondLevelCacheSettings() {
+		return Map.of(
+				AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+				AvailableSettings.CACHE_REGION_FACTORY, "jcache",
+				"hibernate.javax.cache.missing_cache_strategy", "create"
+		);
+	}
+
+	/**
+	 * Insert {@code authorCount} authors, each with {@code booksPerAuthor} books.
+	 */
+	public static void populate(SessionFactory sessionFactory, int authorCount, int booksPerAuthor) {
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( int i = 0; i < authorCount; i++ ) {
+				final Author author = new Author( "Author #" + i );
+				session.insert( author );
+				for ( int j = 0; j < booksPerAuthor; j++ ) {
+					session.insert( book( i * booksPerAuthor + j, author ) );
+				}
+			}
+		} );
+	}
+
+	/**
+	 * Create a new, transient {@link Book}.
+	 */
+	public static Book book(int index, Author author) {
+		return new Book(
+				"Title #" + index,
+				"978-" + index,
+				BigDecimal.valueOf( 10 + index % 90 ),
+				LocalDate.of( 2000, 1, 1 ).plusDays( index % 5000 ),
+				author
+		);
+	}
+}
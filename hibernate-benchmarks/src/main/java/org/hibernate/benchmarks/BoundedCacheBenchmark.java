@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.WindowTinyLfuMap;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the bounded maps which may back the query interpretation cache,
+ * {@link BoundedConcurrentHashMap} with LIRS eviction and {@link WindowTinyLfuMap},
+ * used as a cache by several threads looking up keys drawn from a Zipf
+ * distribution, as the query strings of an application typically are.
+ * <p>
+ * Besides the throughput, the number of hits and misses is reported for each
+ * map, from which the hit rate follows. Vary the number of threads to observe
+ * the contention:
+ * <pre>
+ * gradlew :hibernate-benchmarks:jmh -PjmhInclude=BoundedCache -PjmhArgs="-t 16"
+ * </pre>
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 2 )
+@Threads( 4 )
+public class BoundedCacheBenchmark {
+
+	private static final int KEY_COUNT = 100_000;
+	private static final int SAMPLE_COUNT = 1 << 20;
+
+	@Param( { "lirs", "tinylfu" } )
+	public String map;
+
+	@Param( { "1000" } )
+	public int maximumSize;
+
+	/**
+	 * The exponent of the Zipf distribution: the higher, the more skewed.
+	 */
+	@Param( { "0.8", "1.2" } )
+	public double skew;
+
+	private ConcurrentMap<Integer, Integer> cache;
+	private Integer[] samples;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		cache = "lirs".equals( map )
+				? new BoundedConcurrentHashMap<>( maximumSize, 20, BoundedConcurrentHashMap.Eviction.LIRS )
+				: new WindowTinyLfuMap<>( maximumSize );
+
+		final double[] cumulative = new double[KEY_COUNT];
+		double sum = 0;
+		for ( int rank = 0; rank < KEY_COUNT; rank++ ) {
+			sum += 1 / Math.pow( rank + 1, skew );
+			cumulative[rank] = sum;
+		}
+		final Random random = new Random( 42 );
+		samples = new Integer[SAMPLE_COUNT];
+		for ( int i = 0; i < SAMPLE_COUNT; i++ ) {
+			final int index = Arrays.binarySearch( cumulative, random.nextDouble() * sum );
+			samples[i] = index >= 0 ? index : Math.min( -index - 1, KEY_COUNT - 1 );
+		}
+	}
+
+	/**
+	 * The hits and misses of each thread, summed up by JMH.
+	 */
+	@State( Scope.Thread )
+	@AuxCounters( AuxCounters.Type.EVENTS )
+	public static class Lookups {
+		public long hits;
+		public long misses;
+		private int position;
+
+		@Setup( Level.Trial )
+		public void setUp() {
+			// the threads start at different points of the sequence
+			position = new Random().nextInt( SAMPLE_COUNT );
+		}
+	}
+
+	@Benchmark
+	public Integer lookup(Lookups lookups) {
+		final Integer key = samples[lookups.position++ & ( SAMPLE_COUNT - 1 )];
+		final Integer value = cache.get( key );
+		if ( value == null ) {
+			lookups.misses++;
+			cache.put( key, key );
+			return key;
+		}
+		else {
+			lookups.hits++;
+			return value;
+		}
+	}
+}
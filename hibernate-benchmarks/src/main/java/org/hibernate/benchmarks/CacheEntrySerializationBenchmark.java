@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.benchmarks.model.Edition;
+import org.hibernate.benchmarks.model.Isbn;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the Java serialization of the second-level cache entry of a {@link Book}, or
+ * of an {@link Edition} with enum and custom-typed attributes, as done by replicated and
+ * remote cache regions, with the standard entry format and with
+ * {@linkplain org.hibernate.cache.spi.entry.CompactCacheEntry compact} entries.
+ * <p>
+ * The size of the serialized entry is printed when each trial starts.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 2 )
+public class CacheEntrySerializationBenchmark {
+
+	@Param( { "false", "true" } )
+	public boolean compact;
+
+	@Param( { "Book", "Edition" } )
+	public String entity;
+
+	private SessionFactoryImplementor sessionFactory;
+	private CacheEntryStructure structure;
+	private CacheEntry entry;
+	private byte[] serialized;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		final Map<String, Object> settings = new HashMap<>( BenchmarkSessionFactories.secondLevelCacheSettings() );
+		settings.put( CacheSettings.USE_COMPACT_CACHE, compact );
+		sessionFactory = BenchmarkSessionFactories.build( settings ).unwrap( SessionFactoryImplementor.class );
+		BenchmarkSessionFactories.populate( sessionFactory, 1, 1 );
+		sessionFactory.inStatelessTransaction( session -> session.insert( new Edition(
+				"Title #0",
+				new Isbn( "978-0" ),
+				Edition.Format.PAPERBACK,
+				Edition.Status.IN_PRINT,
+				BigDecimal.TEN
+		) ) );
+
+		final Class<?> entityClass = entity.equals( "Edition" ) ? Edition.class : Book.class;
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( entityClass );
+		structure = persister.getCacheEntryStructure();
+		entry = sessionFactory.fromSession( session -> {
+			final Object loaded = session.createSelectionQuery( "from " + entity, Object.class ).getSingleResult();
+			final SessionImplementor sessionImplementor = session.unwrap( SessionImplementor.class );
+			final Object[] state = sessionImplementor.getPersistenceContextInternal().getEntry( loaded ).getLoadedState();
+			return persister.buildCacheEntry( loaded, state, null, sessionImplementor );
+		} );
+		serialized = serialize();
+		System.out.printf(
+				Locale.ROOT,
+				"%nSerialized %s cache entry size (compact = %s): %d bytes%n",
+				entity,
+				compact,
+				serialized.length
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public byte[] serialize() {
+		return SerializationHelper.serialize( (Serializable) structure.structure( entry ) );
+	}
+
+	@Benchmark
+	public Object deserialize() {
+		return structure.destructure( SerializationHelper.deserialize( serialized ), sessionFactory );
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the initialization of lazy collections, one at a time and for many
+ * owners at once, where {@code hibernate.default_batch_fetch_size} drives batch
+ * fetching through the {@code BatchFetchQueue}.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 2 )
+public class CollectionFetchBenchmark {
+
+	private static final int AUTHOR_COUNT = 200;
+	private static final int BOOKS_PER_AUTHOR = 10;
+
+	@Param( { "1", "16", "64" } )
+	public int batchSize;
+
+	private SessionFactory sessionFactory;
+	private long minId;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build(
+				Map.of( AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, batchSize )
+		);
+		BenchmarkSessionFactories.populate( sessionFactory, AUTHOR_COUNT, BOOKS_PER_AUTHOR );
+		minId = sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "select min(id) from Author", Long.class ).getSingleResult()
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public int initializeSingleCollection(ThreadCounter counter) {
+		try ( Session session = sessionFactory.openSession() ) {
+			final Author author = session.find( Author.class, minId + counter.next( AUTHOR_COUNT ) );
+			Hibernate.initialize( author.getBooks() );
+			return author.getBooks().size();
+		}
+	}
+
+	@Benchmark
+	public int initializeAllCollections() {
+		try ( Session session = sessionFactory.openSession() ) {
+			final List<Author> authors = session.createSelectionQuery( "from Author", Author.class ).getResultList();
+			int count = 0;
+			for ( Author author : authors ) {
+				count += author.getBooks().size();
+			}
+			return count;
+		}
+	}
+}
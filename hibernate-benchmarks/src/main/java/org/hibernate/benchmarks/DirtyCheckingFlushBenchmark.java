@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the flush of a persistence context holding N managed entities, which
+ * is dominated by the dirty checking done by {@code DefaultFlushEntityEventListener}.
+ * <p>
+ * {@link #flushUnmodified()} measures the (common) case where nothing changed,
+ * {@link #flushOneModified()} the case where a single entity has to be updated.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 2 )
+public class DirtyCheckingFlushBenchmark {
+
+	@Param( { "100", "1000", "10000" } )
+	public int entityCount;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+	private List<Book> books;
+	private int counter;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( Map.of() );
+		BenchmarkSessionFactories.populate( sessionFactory, 1, entityCount );
+
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		session.getTransaction().rollback();
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void flushUnmodified() {
+		session.flush();
+	}
+
+	@Benchmark
+	public void flushOneModified() {
+		final Book book = books.get( counter++ % books.size() );
+		book.setTitle( "Modified #" + counter );
+		session.flush();
+	}
+}
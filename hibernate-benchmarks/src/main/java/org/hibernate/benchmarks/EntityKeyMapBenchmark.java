@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@code EntityKey} registries of the persistence context, backed by
+ * {@link HashMap} or by {@link OpenAddressingHashMap}, when registering and then
+ * looking up a large number of entities, as a batch session would.
+ * <p>
+ * The keys are created up front, so that the memory allocated per operation is the
+ * footprint of the map itself. Run with the GC profiler to report it:
+ * <pre>
+ * gradlew :hibernate-benchmarks:jmh -PjmhInclude=EntityKeyMap -PjmhArgs="-prof gc"
+ * </pre>
+ * and compare the {@code gc.alloc.rate.norm} of the two implementations.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 2 )
+public class EntityKeyMapBenchmark {
+
+	@Param( { "200000" } )
+	public int entityCount;
+
+	@Param( { "hash", "open-addressing" } )
+	public String map;
+
+	private SessionFactoryImplementor sessionFactory;
+	private EntityKey[] keys;
+	private Object[] values;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( Map.of() ).unwrap( SessionFactoryImplementor.class );
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		keys = new EntityKey[entityCount];
+		values = new Object[entityCount];
+		for ( int i = 0; i < entityCount; i++ ) {
+			keys[i] = new EntityKey( (long) i, persister );
+			values[i] = new Object();
+		}
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Map<EntityKey, Object> registerAndLookup(Blackhole blackhole) {
+		// sized like the persistence context, which starts small and grows
+		final Map<EntityKey, Object> registry = "hash".equals( map )
+				? new HashMap<>( 8 )
+				: new OpenAddressingHashMap<>( 8 );
+		for ( int i = 0; i < keys.length; i++ ) {
+			registry.put( keys[i], values[i] );
+		}
+		for ( EntityKey key : keys ) {
+			blackhole.consume( registry.get( key ) );
+		}
+		return registry;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code Session#find} by identifier in a short-lived session, with and
+ * without the second-level cache.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 2 )
+public class FindByIdBenchmark {
+
+	private static final int BOOK_COUNT = 1000;
+
+	@Param( { "false", "true" } )
+	public boolean secondLevelCache;
+
+	private SessionFactory sessionFactory;
+	private long minId;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build(
+				secondLevelCache ? BenchmarkSessionFactories.secondLevelCacheSettings() : Map.of()
+		);
+		BenchmarkSessionFactories.populate( sessionFactory, 1, BOOK_COUNT );
+		minId = sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "select min(id) from Book", Long.class ).getSingleResult()
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Book find(ThreadCounter counter) {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.find( Book.class, minId + counter.next( BOOK_COUNT ) );
+		}
+	}
+}
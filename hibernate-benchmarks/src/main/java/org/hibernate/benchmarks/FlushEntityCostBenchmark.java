@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of flushing a single unmodified managed entity, by
+ * reporting the flush of {@value #ENTITY_COUNT} entities per entity.
+ * <p>
+ * Run with the GC profiler to report the memory allocated per entity:
+ * <pre>
+ * gradlew :hibernate-benchmarks:jmh -PjmhInclude=FlushEntityCost -PjmhArgs="-prof gc"
+ * </pre>
+ * The {@code gc.alloc.rate.norm} of an unmodified entity without collections
+ * should be close to zero.
+ *
+ * @see DirtyCheckingFlushBenchmark
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 2 )
+public class FlushEntityCostBenchmark {
+
+	private static final int ENTITY_COUNT = 1000;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( Map.of() );
+		BenchmarkSessionFactories.populate( sessionFactory, 1, ENTITY_COUNT );
+
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		session.createSelectionQuery( "from Book", Book.class ).getResultList();
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		session.getTransaction().rollback();
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation( ENTITY_COUNT )
+	public void flushUnmodifiedEntity() {
+		session.flush();
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures HQL queries: listing 10k entities (row assembly through
+ * {@code StandardRowReader} and the entity initializers), a scalar projection of
+ * the same rows, and a single-row query by parameter whose cost is dominated by
+ * the query plan cache lookup.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 2 )
+public class HqlListBenchmark {
+
+	private static final int BOOK_COUNT = 10_000;
+
+	private SessionFactory sessionFactory;
+	private long minId;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( Map.of() );
+		BenchmarkSessionFactories.populate( sessionFactory, 10, BOOK_COUNT / 10 );
+		minId = sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "select min(id) from Book", Long.class ).getSingleResult()
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> listEntities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> listProjection() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "select b.id, b.title, b.price from Book b", Object[].class )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public Book selectByParameter(ThreadCounter counter) {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Book b where b.id = :id", Book.class )
+					.setParameter( "id", minId + counter.next( BOOK_COUNT ) )
+					.getSingleResult();
+		}
+	}
+}
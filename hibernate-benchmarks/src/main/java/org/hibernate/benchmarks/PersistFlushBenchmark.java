@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code persist()} of N new entities followed by the flush and commit
+ * of the owning transaction, covering identifier generation, the insert actions
+ * of the {@code ActionQueue} and JDBC batching.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 2 )
+public class PersistFlushBenchmark {
+
+	@Param( { "10", "100", "1000" } )
+	public int entityCount;
+
+	private SessionFactory sessionFactory;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( Map.of() );
+	}
+
+	@TearDown( Level.Iteration )
+	public void deleteBooks() {
+		sessionFactory.inTransaction( session -> session.createMutationQuery( "delete Book" ).executeUpdate() );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void persistAndFlush() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < entityCount; i++ ) {
+				session.persist( BenchmarkSessionFactories.book( i, null ) );
+			}
+			session.getTransaction().commit();
+		}
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread counter used to spread the benchmarked operations over a range of rows.
+ */
+@State( Scope.Thread )
+public class ThreadCounter {
+	private int value;
+
+	/**
+	 * The next value in {@code [0, bound)}, cycling.
+	 */
+	public int next(int bound) {
+		if ( value >= bound ) {
+			value = 0;
+		}
+		return value++;
+	}
+}
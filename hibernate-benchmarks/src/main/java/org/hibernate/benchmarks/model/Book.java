@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+
+@Entity
+@Cacheable
+@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+public class Book {
+	@Id
+	@GeneratedValue( generator = "book_seq" )
+	@SequenceGenerator( name = "book_seq", allocationSize = 50 )
+	private Long id;
+
+	private String title;
+	private String isbn;
+	private BigDecimal price;
+	private LocalDate published;
+
+	@ManyToOne( fetch = FetchType.LAZY )
+	private Author author;
+
+	protected Book() {
+		// for Hibernate use
+	}
+
+	public Book(String title, String isbn, BigDecimal price, LocalDate published, Author author) {
+		this.title = title;
+		this.isbn = isbn;
+		this.price = price;
+		this.published = published;
+		this.author = author;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getIsbn() {
+		return isbn;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public void setPrice(BigDecimal price) {
+		this.price = price;
+	}
+
+	public LocalDate getPublished() {
+		return published;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.math.BigDecimal;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+/**
+ * An entity with enum and custom-typed attributes, whose values have no
+ * dedicated representation in the second-level cache entries.
+ */
+@Entity
+@Cacheable
+@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+public class Edition {
+	public enum Format {
+		HARDCOVER,
+		PAPERBACK,
+		EBOOK
+	}
+
+	public enum Status {
+		ANNOUNCED,
+		IN_PRINT,
+		OUT_OF_PRINT
+	}
+
+	@Id
+	@GeneratedValue( generator = "edition_seq" )
+	@SequenceGenerator( name = "edition_seq", allocationSize = 50 )
+	private Long id;
+
+	private String title;
+
+	@JavaType( IsbnJavaType.class )
+	@JdbcTypeCode( SqlTypes.VARCHAR )
+	private Isbn isbn;
+
+	@Enumerated( EnumType.STRING )
+	private Format format;
+
+	private Status status;
+
+	private BigDecimal price;
+
+	protected Edition() {
+		// for Hibernate use
+	}
+
+	public Edition(String title, Isbn isbn, Format format, Status status, BigDecimal price) {
+		this.title = title;
+		this.isbn = isbn;
+		this.format = format;
+		this.status = status;
+		this.price = price;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public Isbn getIsbn() {
+		return isbn;
+	}
+
+	public Format getFormat() {
+		return format;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+}
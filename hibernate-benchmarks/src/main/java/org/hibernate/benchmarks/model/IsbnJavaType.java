@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+
+public class IsbnJavaType extends AbstractClassJavaType<Isbn> {
+
+	public IsbnJavaType() {
+		super( Isbn.class );
+	}
+
+	@Override
+	public String toString(Isbn value) {
+		return value.getValue();
+	}
+
+	@Override
+	public Isbn fromString(CharSequence string) {
+		return new Isbn( string.toString() );
+	}
+
+	@Override
+	@SuppressWarnings( "unchecked" )
+	public <X> X unwrap(Isbn value, Class<X> type, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+		if ( String.class.isAssignableFrom( type ) ) {
+			return (X) value.getValue();
+		}
+		throw unknownUnwrap( type );
+	}
+
+	@Override
+	public <X> Isbn wrap(X value, WrapperOptions options) {
+		if ( value == null ) {
+			return null;
+		}
+		if ( value instanceof String ) {
+			return new Isbn( (String) value );
+		}
+		throw unknownWrap( value.getClass() );
+	}
+}
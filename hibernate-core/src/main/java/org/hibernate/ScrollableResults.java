@@ -147,4 +147,38 @@ public interface ScrollableResults<R> extends AutoCloseable, Closeable {
 	 * @since 6.1.2
 	 */
 	void setFetchSize(int fetchSize);
+
+	/**
+	 * Automatically detach the entities used by each row from the
+	 * persistence context once at least the given number of rows have
+	 * been read after the last row using them. An entity is used by a
+	 * row if it is returned by the row, reachable from an entity returned
+	 * by the row through loaded associations, or loaded while reading the
+	 * row. Their collections are detached along with them.
+	 * <p>
+	 * This keeps the size of the persistence context bounded while
+	 * scrolling over a very large result set, without the need to
+	 * {@linkplain Session#clear() clear} the session periodically. The
+	 * entities are detached in chunks of the given number of rows, so
+	 * that at most twice as many rows are managed at once. Unless the
+	 * {@linkplain Session#getHibernateFlushMode() flush mode} is
+	 * {@link FlushMode#MANUAL MANUAL}, the session is flushed before
+	 * entities are detached, so that the changes made to them are not
+	 * lost, which requires a JDBC driver allowing statements to be
+	 * executed while the result set is open. An entity must not be used
+	 * once detached.
+	 * <p>
+	 * If {@code 0}, the default, entities are never detached automatically.
+	 * This setting has no effect on the results of a {@link StatelessSession}.
+	 *
+	 * @param rows The number of rows whose entities are kept managed
+	 *
+	 * @see org.hibernate.query.SelectionQuery#setDetachWindow(int)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default void setDetachWindow(int rows) {
+		throw new UnsupportedOperationException( "Detach window not supported by " + getClass().getName() );
+	}
 }
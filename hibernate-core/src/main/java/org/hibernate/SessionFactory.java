@@ -17,6 +17,7 @@ import javax.naming.Referenceable;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.graph.RootGraph;
+import org.hibernate.query.PreparedSelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.relational.SchemaManager;
 import org.hibernate.stat.Statistics;
@@ -312,6 +313,25 @@ public interface SessionFactory extends EntityManagerFactory, Referenceable, Ser
 	@Override
 	HibernateCriteriaBuilder getCriteriaBuilder();
 
+	/**
+	 * Interpret the given HQL selection query, and obtain a handle which may
+	 * be used to execute it from any session belonging to this factory,
+	 * without interpreting it again.
+	 *
+	 * @param hql The HQL selection query as a string
+	 * @param resultType The {@link Class} object representing the query
+	 *                   result type
+	 *
+	 * @throws org.hibernate.query.IllegalSelectQueryException if the given
+	 * HQL query is an insert, update or delete query
+	 *
+	 * @see PreparedSelectionQuery#createQuery(SharedSessionContract)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	<R> PreparedSelectionQuery<R> prepareQuery(String hql, Class<R> resultType);
+
 	/**
 	 * Destroy this {@code SessionFactory} and release all its resources,
 	 * including caches and connection pools.
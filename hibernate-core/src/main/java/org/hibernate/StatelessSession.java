@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 import jakarta.persistence.EntityGraph;
 import org.hibernate.graph.GraphSemantic;
 
@@ -176,6 +178,76 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void upsert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple records, using a single JDBC batch for each run of
+	 * consecutive entities of the same type, regardless of the configured
+	 * {@linkplain #getJdbcBatchSize() JDBC batch size}. The batch is
+	 * executed before this method returns.
+	 * <p>
+	 * The entities are inserted in the order of the given list, which is
+	 * therefore expected to respect foreign key dependencies between the
+	 * records. Grouping entities of the same type together in the list
+	 * maximizes the size of the batches.
+	 *
+	 * @param entities a list of transient instances to be inserted
+	 *
+	 * @see #insert(Object)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update multiple records, using a single JDBC batch for each run of
+	 * consecutive entities of the same type, regardless of the configured
+	 * {@linkplain #getJdbcBatchSize() JDBC batch size}. The batch is
+	 * executed before this method returns.
+	 *
+	 * @param entities a list of detached instances to be updated
+	 *
+	 * @see #update(Object)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete multiple records, using a single JDBC batch for each run of
+	 * consecutive entities of the same type, regardless of the configured
+	 * {@linkplain #getJdbcBatchSize() JDBC batch size}. The batch is
+	 * executed before this method returns.
+	 * <p>
+	 * The entities are deleted in the order of the given list, which is
+	 * therefore expected to respect foreign key dependencies between the
+	 * records.
+	 *
+	 * @param entities a list of detached instances to be deleted
+	 *
+	 * @see #delete(Object)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
+	/**
+	 * Perform an upsert of multiple records, using a single JDBC batch for
+	 * each run of consecutive entities of the same type, regardless of the
+	 * configured {@linkplain #getJdbcBatchSize() JDBC batch size}. The batch
+	 * is executed before this method returns.
+	 *
+	 * @param entities a list of detached instances, or new instances with
+	 *                 assigned identifiers
+	 *
+	 * @see #upsert(Object)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	void upsertMultiple(List<?> entities);
+
 	/**
 	 * Retrieve a record.
 	 *
@@ -218,6 +290,30 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(Class<T> entityClass, Object id, LockMode lockMode);
 
+	/**
+	 * Retrieve multiple records by id, in as few round trips to the
+	 * database as possible. If the dialect supports SQL arrays, the
+	 * records are fetched using a single query with one array-typed
+	 * parameter. Otherwise, the ids are split into chunks according
+	 * to the dialect's batch loading strategy.
+	 * <p>
+	 * The returned list has the same size as the given list of ids,
+	 * and the record at each position is the one identified by the id
+	 * at the same position, or {@code null} if there is no such record.
+	 *
+	 * @param entityClass The class of the entities to retrieve
+	 * @param ids The ids of the entities to retrieve, which must not
+	 *            contain {@code null} elements
+	 *
+	 * @return a list of detached entity instances
+	 *
+	 * @see #get(Class, Object)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	<T> List<T> getMultiple(Class<T> entityClass, List<?> ids);
+
 	/**
 	 * Retrieve a record, fetching associations specified by the
 	 * given {@link EntityGraph}.
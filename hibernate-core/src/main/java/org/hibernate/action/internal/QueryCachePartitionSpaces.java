@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.action.internal;
+
+import java.util.Set;
+
+import org.hibernate.action.spi.Executable;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.spi.QueryCachePartitioning;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Determines the query spaces invalidated by an {@link Executable}, taking
+ * into account the {@linkplain QueryCachePartitioning partitioning} of the
+ * tables it affects.
+ * <p>
+ * An insert, update, or delete of a single entity instance invalidates the
+ * partition spaces of the values of the partition column held by the row
+ * before and after the change. Any other action, or an entity action for
+ * which a value is not known, invalidates every partition of the table.
+ *
+ * @since 6.6
+ */
+public final class QueryCachePartitionSpaces {
+	private QueryCachePartitionSpaces() {
+	}
+
+	/**
+	 * Add the query spaces invalidated by the given action to the given set.
+	 */
+	public static void addSpacesToInvalidate(
+			Executable executable,
+			QueryCachePartitioning partitioning,
+			Set<String> spaces) {
+		for ( String space : executable.getPropertySpaces() ) {
+			spaces.add( space );
+			final String partitionColumn = partitioning.getPartitionColumn( space );
+			if ( partitionColumn != null
+					&& !addPartitionSpaces( executable, space, partitionColumn, partitioning, spaces ) ) {
+				spaces.add( partitioning.allPartitionsSpace( space ) );
+			}
+		}
+	}
+
+	private static boolean addPartitionSpaces(
+			Executable executable,
+			String table,
+			String column,
+			QueryCachePartitioning partitioning,
+			Set<String> spaces) {
+		if ( executable instanceof AbstractEntityInsertAction ) {
+			final AbstractEntityInsertAction action = (AbstractEntityInsertAction) executable;
+			return addPartitionSpace( action, action.getState(), table, column, partitioning, spaces );
+		}
+		else if ( executable instanceof EntityUpdateAction ) {
+			final EntityUpdateAction action = (EntityUpdateAction) executable;
+			return addPartitionSpace( action, action.getPreviousState(), table, column, partitioning, spaces )
+					&& addPartitionSpace( action, action.getState(), table, column, partitioning, spaces );
+		}
+		else if ( executable instanceof EntityDeleteAction ) {
+			final EntityDeleteAction action = (EntityDeleteAction) executable;
+			return addPartitionSpace( action, action.getState(), table, column, partitioning, spaces );
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static boolean addPartitionSpace(
+			EntityAction action,
+			Object[] state,
+			String table,
+			String column,
+			QueryCachePartitioning partitioning,
+			Set<String> spaces) {
+		if ( state == null ) {
+			return false;
+		}
+		final String partitionSpace =
+				partitioning.partitionSpace( table, columnValue( action, state, table, column ) );
+		if ( partitionSpace == null ) {
+			return false;
+		}
+		spaces.add( partitionSpace );
+		return true;
+	}
+
+	private static Object columnValue(EntityAction action, Object[] state, String table, String column) {
+		final EntityPersister persister = action.getPersister();
+		final SharedSessionContractImplementor session = action.getSession();
+		final Object[] columnValue = new Object[1];
+		final ModelPart.JdbcValueConsumer consumer = (valueIndex, value, selectable) -> {
+			if ( columnValue[0] == null
+					&& !selectable.isFormula()
+					&& selectable.getCustomWriteExpression() == null
+					&& table.equals( selectable.getContainingTableExpression() )
+					&& column.equalsIgnoreCase( selectable.getSelectionExpression() ) ) {
+				columnValue[0] = value;
+			}
+		};
+		final Object id = action.getId();
+		if ( id != null && !( id instanceof DelayedPostInsertIdentifier ) ) {
+			persister.getIdentifierMapping().breakDownJdbcValues( id, consumer, session );
+		}
+		final AttributeMappingsList attributeMappings = persister.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size() && columnValue[0] == null; i++ ) {
+			final AttributeMapping attributeMapping = attributeMappings.get( i );
+			final Object value = state[attributeMapping.getStateArrayPosition()];
+			if ( !attributeMapping.isPluralAttributeMapping()
+					&& value != LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				attributeMapping.breakDownJdbcValues( value, consumer, session );
+			}
+		}
+		return columnValue[0];
+	}
+}
@@ -70,6 +70,7 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 						.getService( BytecodeProvider.class );
 		addSessionFactoryObservers( new SessionFactoryObserverForBytecodeEnhancer( bytecodeProvider ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForNamedQueryValidation( metadata ) );
+		addSessionFactoryObservers( new SessionFactoryObserverForQueryInterpretationCache() );
 		addSessionFactoryObservers( new SessionFactoryObserverForSchemaExport( metadata ) );
 		addSessionFactoryObservers( new SessionFactoryObserverForRegistration() );
 	}
@@ -9,6 +9,7 @@ package org.hibernate.boot.internal;
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryEngine;
@@ -35,7 +36,8 @@ class SessionFactoryObserverForNamedQueryValidation implements SessionFactoryObs
 		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
 		queryEngine.getNamedObjectRepository().prepare( sessionFactory, metadata );
-		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		if ( options.isNamedQueryStartupCheckingEnabled() && !options.isLazyNamedQueryInterpretationEnabled() ) {
 			queryEngine.validateNamedQueries();
 		}
 	}
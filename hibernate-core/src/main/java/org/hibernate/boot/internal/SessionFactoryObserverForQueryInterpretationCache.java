@@ -0,0 +1,350 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.Version;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.Query;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.type.Type;
+
+import jakarta.persistence.Tuple;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_INTERPRETATION_CACHE_FILE;
+
+/**
+ * Responsible for reading the HQL query strings listed in the file named by
+ * {@value org.hibernate.cfg.QuerySettings#QUERY_INTERPRETATION_CACHE_FILE}
+ * and interpreting them after the {@link SessionFactory} is created, and for
+ * writing the query strings in the {@linkplain QueryEngine#getInterpretationCache()
+ * interpretation cache} to the file when it is closed.
+ * <p>
+ * The interpretations themselves refer to the runtime metamodel, so it's the
+ * query strings which are written, and they are parsed and interpreted again
+ * by a background thread, so that the startup of the {@code SessionFactory}
+ * is not delayed. The {@linkplain org.hibernate.query.spi.SelectQueryPlan plan}
+ * of each select query is also resolved and cached, with the options of the
+ * named query when the query string is that of a named query. The file is
+ * ignored unless it was written by the same version of Hibernate, for the same
+ * dialect, and the same mapping of the entities, and a query is skipped unless
+ * its result type is a mapped type, or a type known to the type system.
+ */
+class SessionFactoryObserverForQueryInterpretationCache implements SessionFactoryObserver {
+	private static final Logger log = Logger.getLogger( SessionFactoryObserverForQueryInterpretationCache.class );
+
+	private static final int MAGIC = 0x48514C43;
+	private static final int FORMAT_VERSION = 1;
+	/**
+	 * The maximum length, in bytes, of a query string read from the file
+	 */
+	private static final int MAX_STRING_LENGTH = 1 << 20;
+
+	private Thread warmUpThread;
+	private volatile boolean closing;
+	/**
+	 * The entries read from the file which were not yet interpreted
+	 */
+	private volatile List<String[]> pendingEntries = Collections.emptyList();
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final Path file = cacheFile( sessionFactory );
+		if ( file != null && Files.isRegularFile( file ) ) {
+			warmUpThread = new Thread(
+					() -> {
+						try {
+							warmUp( sessionFactory, file );
+						}
+						catch (IOException | RuntimeException e) {
+							log.warnf( e, "Unable to read query interpretation cache file '%s'", file );
+						}
+					},
+					"Hibernate query interpretation cache warm-up"
+			);
+			warmUpThread.setDaemon( true );
+			warmUpThread.start();
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		closing = true;
+		awaitWarmUp();
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final Path file = cacheFile( sessionFactory );
+		if ( file != null ) {
+			try {
+				write( sessionFactory, file );
+			}
+			catch (IOException | RuntimeException e) {
+				log.warnf( e, "Unable to write query interpretation cache file '%s'", file );
+			}
+		}
+	}
+
+	private void awaitWarmUp() {
+		if ( warmUpThread != null ) {
+			try {
+				// the warm-up stops after the query it is currently interpreting
+				warmUpThread.join();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			warmUpThread = null;
+		}
+	}
+
+	private static Path cacheFile(SessionFactoryImplementor sessionFactory) {
+		final Object setting = sessionFactory.getProperties().get( QUERY_INTERPRETATION_CACHE_FILE );
+		if ( setting == null || setting.toString().isBlank() ) {
+			return null;
+		}
+		else {
+			return setting instanceof Path ? (Path) setting : Paths.get( setting.toString().trim() );
+		}
+	}
+
+	private void warmUp(SessionFactoryImplementor sessionFactory, Path file) throws IOException {
+		final ClassLoaderService classLoaderService =
+				sessionFactory.getServiceRegistry().requireService( ClassLoaderService.class );
+		try ( DataInputStream input =
+					new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) ) ) {
+			if ( input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION ) {
+				log.debugf( "Ignoring query interpretation cache file '%s' in an unknown format", file );
+				return;
+			}
+			final byte[] hash = readBytes( input );
+			if ( !Arrays.equals( hash, mappingHash( sessionFactory ) ) ) {
+				log.debugf( "Ignoring query interpretation cache file '%s' written for a different mapping", file );
+				return;
+			}
+			final int count = input.readInt();
+			if ( count < 0 ) {
+				throw new IOException( "Corrupt query interpretation cache file" );
+			}
+			final List<String[]> entries = new ArrayList<>();
+			for ( int i = 0; i < count; i++ ) {
+				entries.add( new String[] { readString( input ), readString( input ) } );
+			}
+			pendingEntries = entries;
+		}
+
+		final List<String[]> entries = pendingEntries;
+		final Set<String> knownTypeNames = knownTypeNames( sessionFactory );
+		final Map<String, String> namedQueries = namedQueries( sessionFactory );
+		int interpreted = 0;
+		int processed = 0;
+		try ( Session session = sessionFactory.openSession() ) {
+			while ( processed < entries.size() && !closing ) {
+				final String resultTypeName = entries.get( processed )[0];
+				final String hql = entries.get( processed )[1];
+				processed++;
+				if ( !resultTypeName.isEmpty() && !knownTypeNames.contains( resultTypeName ) ) {
+					log.debugf( "Skipping cached query with result type '%s', which is neither mapped nor known: %s",
+							resultTypeName, hql );
+					continue;
+				}
+				try {
+					final Class<?> resultType = resultTypeName.isEmpty()
+							? null
+							: classLoaderService.classForName( resultTypeName );
+					prepareSelectQueryPlan( session.createQuery( hql, resultType ) );
+					final String queryName = namedQueries.get( hql );
+					if ( queryName != null ) {
+						// a named query has its own options, which are part of the key of its plan
+						prepareSelectQueryPlan( session.createNamedQuery( queryName, resultType ) );
+					}
+					interpreted++;
+				}
+				catch (RuntimeException e) {
+					log.debugf( e, "Unable to interpret cached query: %s", hql );
+				}
+			}
+		}
+		pendingEntries = entries.subList( processed, entries.size() );
+		log.debugf( "Interpreted %s of %s queries from query interpretation cache file '%s'",
+				interpreted, entries.size(), file );
+	}
+
+	private static void prepareSelectQueryPlan(Query<?> query) {
+		if ( query instanceof QuerySqmImpl ) {
+			( (QuerySqmImpl<?>) query ).prepareSelectQueryPlan();
+		}
+	}
+
+	/**
+	 * The names of the types which may be the result type of a cached query: the
+	 * mapped entity and embeddable types, the types known to the type system, and
+	 * the types of query results with no particular mapping
+	 */
+	private static Set<String> knownTypeNames(SessionFactoryImplementor sessionFactory) {
+		final Set<String> names = new HashSet<>();
+		sessionFactory.getJpaMetamodel().getManagedTypes().forEach( managedType -> {
+			if ( managedType.getJavaType() != null ) {
+				names.add( managedType.getJavaType().getName() );
+			}
+		} );
+		sessionFactory.getTypeConfiguration().getJavaTypeRegistry().forEachDescriptor( javaType -> {
+			if ( javaType.getJavaTypeClass() != null ) {
+				names.add( javaType.getJavaTypeClass().getName() );
+			}
+		} );
+		names.add( Object.class.getName() );
+		names.add( Object[].class.getName() );
+		names.add( Tuple.class.getName() );
+		names.add( Map.class.getName() );
+		names.add( List.class.getName() );
+		return names;
+	}
+
+	/**
+	 * The names of the named HQL queries, by query string
+	 */
+	private static Map<String, String> namedQueries(SessionFactoryImplementor sessionFactory) {
+		final Map<String, String> names = new HashMap<>();
+		sessionFactory.getQueryEngine().getNamedObjectRepository().visitSqmQueryMementos(
+				memento -> names.putIfAbsent( memento.getHqlString(), memento.getRegistrationName() )
+		);
+		return names;
+	}
+
+	private void write(SessionFactoryImplementor sessionFactory, Path file) throws IOException {
+		final Set<List<String>> entries = new LinkedHashSet<>();
+		sessionFactory.getQueryEngine().getInterpretationCache().forEachCachedHqlInterpretation(
+				(hql, resultType) -> entries.add( List.of( resultType == null ? "" : resultType.getName(), hql ) )
+		);
+		// keep the queries which the warm-up did not get to before closing
+		for ( String[] entry : pendingEntries ) {
+			entries.add( List.of( entry[0], entry[1] ) );
+		}
+		final Path directory = file.toAbsolutePath().getParent();
+		if ( directory != null ) {
+			Files.createDirectories( directory );
+		}
+		final Path temporaryFile = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+		try {
+			try ( DataOutputStream output =
+						new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+				output.writeInt( MAGIC );
+				output.writeInt( FORMAT_VERSION );
+				writeBytes( output, mappingHash( sessionFactory ) );
+				output.writeInt( entries.size() );
+				for ( List<String> entry : entries ) {
+					writeString( output, entry.get( 0 ) );
+					writeString( output, entry.get( 1 ) );
+				}
+			}
+			Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		finally {
+			Files.deleteIfExists( temporaryFile );
+		}
+		log.debugf( "Wrote %s queries to query interpretation cache file '%s'", entries.size(), file );
+	}
+
+	/**
+	 * A hash of everything an interpretation of a query depends on: the version
+	 * of Hibernate, the dialect, and the names, tables, and attribute types of
+	 * the entities.
+	 */
+	private static byte[] mappingHash(SessionFactoryImplementor sessionFactory) {
+		final TreeSet<String> entities = new TreeSet<>();
+		sessionFactory.getMappingMetamodel().forEachEntityDescriptor( persister -> entities.add( describe( persister ) ) );
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException( e );
+		}
+		update( digest, Version.getVersionString() );
+		update( digest, sessionFactory.getJdbcServices().getDialect().getClass().getName() );
+		for ( String entity : entities ) {
+			update( digest, entity );
+		}
+		return digest.digest();
+	}
+
+	private static String describe(EntityPersister persister) {
+		final StringBuilder description = new StringBuilder( persister.getEntityName() )
+				.append( Arrays.toString( persister.getQuerySpaces() ) )
+				.append( '#' ).append( persister.getIdentifierPropertyName() )
+				.append( ':' ).append( typeName( persister.getIdentifierType() ) );
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			description.append( ',' ).append( propertyNames[i] )
+					.append( ':' ).append( typeName( propertyTypes[i] ) );
+		}
+		return description.toString();
+	}
+
+	private static String typeName(Type type) {
+		return type == null ? "" : type.getName();
+	}
+
+	private static void update(MessageDigest digest, String string) {
+		digest.update( string.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	private static void writeString(DataOutputStream output, String string) throws IOException {
+		writeBytes( output, string.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String( readBytes( input ), StandardCharsets.UTF_8 );
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final int length = input.readInt();
+		if ( length < 0 || length > MAX_STRING_LENGTH ) {
+			throw new IOException( "Corrupt query interpretation cache file" );
+		}
+		final byte[] bytes = new byte[length];
+		input.readFully( bytes );
+		return bytes;
+	}
+}
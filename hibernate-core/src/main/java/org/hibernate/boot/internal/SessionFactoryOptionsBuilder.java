@@ -108,6 +108,7 @@ import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
@@ -129,8 +130,10 @@ import static org.hibernate.cfg.AvailableSettings.USE_SQL_COMMENTS;
 import static org.hibernate.cfg.AvailableSettings.USE_STRUCTURED_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SUBSELECT_FETCH;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
+import static org.hibernate.cfg.CacheSettings.USE_COMPACT_CACHE;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
+import static org.hibernate.cfg.QuerySettings.LAZY_NAMED_QUERY_INTERPRETATION;
 import static org.hibernate.cfg.QuerySettings.PORTABLE_INTEGER_DIVISION;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
 import static org.hibernate.internal.CoreLogging.messageLogger;
@@ -206,6 +209,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private int parallelDirtyCheckingThreshold;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private boolean UnownedAssociationTransientCheck;
 
@@ -224,6 +228,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final Boolean useOfJdbcNamedParametersEnabled;
 	private boolean namedQueryStartupCheckingEnabled;
+	private final boolean lazyNamedQueryInterpretationEnabled;
 	private final boolean preferJavaTimeJdbcTypes;
 	private final boolean preferNativeEnumTypes;
 	private final int preferredSqlTypeCodeForBoolean;
@@ -241,6 +246,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private final boolean compactCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -259,6 +265,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TimeZone jdbcTimeZone;
 	private final ValueHandlingMode criteriaValueHandlingMode;
 	private final boolean criteriaCopyTreeEnabled;
+	private final boolean criteriaPlanCacheEnabled;
 	private final boolean nativeJdbcParametersIgnored;
 	private final ImmutableEntityUpdateQueryHandlingMode immutableEntityUpdateQueryHandlingMode;
 	// These two settings cannot be modified from the builder,
@@ -396,6 +403,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.orderUpdatesEnabled = getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = getBoolean( ORDER_INSERTS, configurationSettings );
+		this.parallelDirtyCheckingThreshold = getInt( PARALLEL_DIRTY_CHECKING_THRESHOLD, configurationSettings, 0 );
 
 		this.callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -447,6 +455,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.useOfJdbcNamedParametersEnabled = configurationService.getSetting( CALLABLE_NAMED_PARAMS_ENABLED, BOOLEAN, true );
 
 		this.namedQueryStartupCheckingEnabled = configurationService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		this.lazyNamedQueryInterpretationEnabled =
+				configurationService.getSetting( LAZY_NAMED_QUERY_INTERPRETATION, BOOLEAN, false );
 		this.preferJavaTimeJdbcTypes = MetadataBuildingContext.isPreferJavaTimeJdbcTypesEnabled( configurationService );
 		this.preferNativeEnumTypes = MetadataBuildingContext.isPreferNativeEnumTypesEnabled( configurationService );
 		this.preferredSqlTypeCodeForBoolean = ConfigurationHelper.getPreferredSqlTypeCodeForBoolean( serviceRegistry );
@@ -480,6 +490,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.compactCacheEntriesEnabled = configurationService.getSetting( USE_COMPACT_CACHE, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = configurationService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -495,6 +506,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.compactCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -584,6 +596,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				jpaBootstrap
 		);
+		this.criteriaPlanCacheEnabled = getBoolean(
+				AvailableSettings.CRITERIA_PLAN_CACHE_ENABLED,
+				configurationSettings,
+				false
+		);
 
 		this.nativeJdbcParametersIgnored = getBoolean(
 				AvailableSettings.NATIVE_IGNORE_JDBC_PARAMETERS,
@@ -1053,6 +1070,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return parallelDirtyCheckingThreshold;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1073,6 +1095,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return namedQueryStartupCheckingEnabled;
 	}
 
+	@Override
+	public boolean isLazyNamedQueryInterpretationEnabled() {
+		return lazyNamedQueryInterpretationEnabled;
+	}
+
 	@Override
 	public boolean isSecondLevelCacheEnabled() {
 		return secondLevelCacheEnabled;
@@ -1108,6 +1135,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1208,6 +1240,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return criteriaCopyTreeEnabled;
 	}
 
+	@Override
+	public boolean isCriteriaPlanCacheEnabled() {
+		return criteriaPlanCacheEnabled;
+	}
+
 	@Override
 	public boolean getNativeJdbcParametersIgnored() {
 		return nativeJdbcParametersIgnored;
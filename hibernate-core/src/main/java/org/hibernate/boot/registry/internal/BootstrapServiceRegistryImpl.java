@@ -9,6 +9,7 @@ package org.hibernate.boot.registry.internal;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.boot.registry.BootstrapServiceRegistry;
 import org.hibernate.boot.registry.classloading.internal.ClassLoaderServiceImpl;
@@ -56,6 +57,12 @@ public class BootstrapServiceRegistryImpl
 
 	private Set<ServiceRegistryImplementor> childRegistries;
 
+	/**
+	 * Guards the lifecycle of the registry. A lock is used instead of the
+	 * monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
 	/**
 	 * Constructs a BootstrapServiceRegistryImpl.
 	 *
@@ -209,26 +216,32 @@ public class BootstrapServiceRegistryImpl
 	}
 
 	@Override
-	public synchronized void destroy() {
-		if ( !active ) {
-			return;
-		}
-		active = false;
-		destroy( classLoaderServiceBinding );
-		destroy( strategySelectorBinding );
-		destroy( integratorServiceBinding );
-
-		if ( childRegistries != null ) {
-			for(ServiceRegistry serviceRegistry : childRegistries) {
-				if(serviceRegistry instanceof ServiceRegistryImplementor) {
-					ServiceRegistryImplementor serviceRegistryImplementor = (ServiceRegistryImplementor) serviceRegistry;
-					serviceRegistryImplementor.destroy();
+	public void destroy() {
+		lock.lock();
+		try {
+			if ( !active ) {
+				return;
+			}
+			active = false;
+			destroy( classLoaderServiceBinding );
+			destroy( strategySelectorBinding );
+			destroy( integratorServiceBinding );
+
+			if ( childRegistries != null ) {
+				for(ServiceRegistry serviceRegistry : childRegistries) {
+					if(serviceRegistry instanceof ServiceRegistryImplementor) {
+						ServiceRegistryImplementor serviceRegistryImplementor = (ServiceRegistryImplementor) serviceRegistry;
+						serviceRegistryImplementor.destroy();
+					}
 				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
-	
-	private synchronized void destroy(ServiceBinding serviceBinding) {
+
+	private void destroy(ServiceBinding serviceBinding) {
 		serviceBinding.getLifecycleOwner().stopService( serviceBinding );
 	}
 
@@ -262,52 +275,70 @@ public class BootstrapServiceRegistryImpl
 	}
 
 	@Override
-	public synchronized <R extends Service> void stopService(ServiceBinding<R> binding) {
-		final Service service = binding.getService();
-		if ( service instanceof Stoppable ) {
-			try {
-				( (Stoppable) service ).stop();
-			}
-			catch ( Exception e ) {
-				LOG.unableToStopService( service.getClass(), e );
+	public <R extends Service> void stopService(ServiceBinding<R> binding) {
+		lock.lock();
+		try {
+			final Service service = binding.getService();
+			if ( service instanceof Stoppable ) {
+				try {
+					( (Stoppable) service ).stop();
+				}
+				catch ( Exception e ) {
+					LOG.unableToStopService( service.getClass(), e );
+				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
-	public synchronized void registerChild(ServiceRegistryImplementor child) {
-		if ( childRegistries == null ) {
-			childRegistries = new HashSet<>();
+	public void registerChild(ServiceRegistryImplementor child) {
+		lock.lock();
+		try {
+			if ( childRegistries == null ) {
+				childRegistries = new HashSet<>();
+			}
+			if ( !childRegistries.add( child ) ) {
+				LOG.warnf(
+						"Child ServiceRegistry [%s] was already registered; this will end badly later...",
+						child
+				);
+			}
 		}
-		if ( !childRegistries.add( child ) ) {
-			LOG.warnf(
-					"Child ServiceRegistry [%s] was already registered; this will end badly later...",
-					child
-			);
+		finally {
+			lock.unlock();
 		}
 	}
 
 	@Override
-	public synchronized void deRegisterChild(ServiceRegistryImplementor child) {
-		if ( childRegistries == null ) {
-			throw new IllegalStateException( "No child ServiceRegistry registrations found" );
-		}
-		childRegistries.remove( child );
-		if ( childRegistries.isEmpty() ) {
-			if ( autoCloseRegistry ) {
-				LOG.debug(
-						"Implicitly destroying Boot-strap registry on de-registration " +
-								"of all child ServiceRegistries"
-				);
-				destroy();
+	public void deRegisterChild(ServiceRegistryImplementor child) {
+		lock.lock();
+		try {
+			if ( childRegistries == null ) {
+				throw new IllegalStateException( "No child ServiceRegistry registrations found" );
 			}
-			else {
-				LOG.debug(
-						"Skipping implicitly destroying Boot-strap registry on de-registration " +
-								"of all child ServiceRegistries"
-				);
+			childRegistries.remove( child );
+			if ( childRegistries.isEmpty() ) {
+				if ( autoCloseRegistry ) {
+					LOG.debug(
+							"Implicitly destroying Boot-strap registry on de-registration " +
+									"of all child ServiceRegistries"
+					);
+					destroy();
+				}
+				else {
+					LOG.debug(
+							"Skipping implicitly destroying Boot-strap registry on de-registration " +
+									"of all child ServiceRegistries"
+					);
+				}
 			}
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	@Override
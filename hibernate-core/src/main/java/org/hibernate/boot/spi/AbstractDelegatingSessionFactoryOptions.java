@@ -234,6 +234,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public boolean isLazyNamedQueryInterpretationEnabled() {
+		return delegate.isLazyNamedQueryInterpretationEnabled();
+	}
+
 	@Override
 	public boolean isAllowOutOfTransactionUpdateOperations() {
 		return delegate.isAllowOutOfTransactionUpdateOperations();
@@ -279,6 +284,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -394,6 +404,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isCriteriaCopyTreeEnabled();
 	}
 
+	@Override
+	public boolean isCriteriaPlanCacheEnabled() {
+		return delegate.isCriteriaPlanCacheEnabled();
+	}
+
 	public boolean getNativeJdbcParametersIgnored() {
 		return delegate.getNativeJdbcParametersIgnored();
 	}
@@ -512,4 +527,9 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public FormatMapper getXmlFormatMapper() {
 		return delegate.getXmlFormatMapper();
 	}
+
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return delegate.getParallelDirtyCheckingThreshold();
+	}
 }
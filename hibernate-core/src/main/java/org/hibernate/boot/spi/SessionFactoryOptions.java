@@ -163,6 +163,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#LAZY_NAMED_QUERY_INTERPRETATION
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isLazyNamedQueryInterpretationEnabled() {
+		return false;
+	}
+
 	boolean isSecondLevelCacheEnabled();
 
 	boolean isQueryCacheEnabled();
@@ -178,6 +188,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -237,6 +257,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#CRITERIA_PLAN_CACHE_ENABLED
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isCriteriaPlanCacheEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#NATIVE_IGNORE_JDBC_PARAMETERS
 	 */
@@ -374,4 +404,17 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	default JavaType<Object> getDefaultTenantIdentifierJavaType() {
 		return ObjectJavaType.INSTANCE;
 	}
+
+	/**
+	 * The number of entities associated with a session above which a flush
+	 * performs dirty checking in parallel, or {@code 0} if it never does.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
 }
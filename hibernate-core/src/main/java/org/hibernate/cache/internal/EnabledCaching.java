@@ -25,6 +25,7 @@ import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryCachePartitioning;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
@@ -68,6 +69,7 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final Map<NavigableRole,CollectionDataAccess> collectionAccessMap = new ConcurrentHashMap<>();
 
 	private final TimestampsCache timestampsCache;
+	private final QueryCachePartitioning queryCachePartitioning;
 
 	private final QueryResultsCache defaultQueryResultsCache;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
@@ -103,10 +105,12 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 					queryResultsRegion,
 					timestampsCache
 			);
+			queryCachePartitioning = QueryCachePartitioning.fromSettings( sessionFactory.getProperties() );
 		}
 		else {
 			timestampsCache = new TimestampsCacheDisabledImpl();
 			defaultQueryResultsCache = null;
+			queryCachePartitioning = null;
 		}
 	}
 
@@ -209,6 +213,11 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		return timestampsCache;
 	}
 
+	@Override
+	public QueryCachePartitioning getQueryCachePartitioning() {
+		return queryCachePartitioning;
+	}
+
 
 	@Override
 	public Region getRegion(String regionName) {
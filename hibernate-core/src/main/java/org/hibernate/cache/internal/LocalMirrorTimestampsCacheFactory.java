@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_TIMESTAMPS_MIRROR_REFRESH_INTERVAL;
+
+/**
+ * A {@link TimestampsCacheFactory} which keeps a node-local mirror of the
+ * timestamps of the {@link TimestampsRegion}, so that most up-to-date checks
+ * of cached query results do not access the region, which is usually remote
+ * when the second-level cache is clustered.
+ * <p>
+ * Timestamps written by this node are visible to it immediately. Timestamps
+ * written by other nodes are visible after at most the refresh interval, as
+ * specified by {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_TIMESTAMPS_MIRROR_REFRESH_INTERVAL},
+ * or earlier, if an invalidation listener registered with the caching provider
+ * {@linkplain LocalMirrorTimestampsRegion#evict evicts} them from the mirror.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_FACTORY
+ *
+ * @since 6.6
+ */
+@Incubating
+public class LocalMirrorTimestampsCacheFactory implements TimestampsCacheFactory {
+	/**
+	 * The default refresh interval, in milliseconds.
+	 */
+	public static final int DEFAULT_REFRESH_INTERVAL = 1000;
+
+	private final Duration refreshInterval;
+
+	/**
+	 * Create a factory with the refresh interval given by the setting
+	 * {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_TIMESTAMPS_MIRROR_REFRESH_INTERVAL}.
+	 */
+	public LocalMirrorTimestampsCacheFactory() {
+		this.refreshInterval = null;
+	}
+
+	/**
+	 * Create a factory with the given refresh interval.
+	 */
+	public LocalMirrorTimestampsCacheFactory(Duration refreshInterval) {
+		if ( refreshInterval.isNegative() ) {
+			throw new IllegalArgumentException( "Refresh interval must not be negative" );
+		}
+		this.refreshInterval = refreshInterval;
+	}
+
+	@Override
+	public TimestampsCache buildTimestampsCache(CacheImplementor cacheManager, TimestampsRegion timestampsRegion) {
+		final long refreshIntervalNanos = refreshInterval == null
+				? TimeUnit.MILLISECONDS.toNanos( ConfigurationHelper.getLong(
+						QUERY_CACHE_TIMESTAMPS_MIRROR_REFRESH_INTERVAL,
+						cacheManager.getSessionFactory().getProperties(),
+						DEFAULT_REFRESH_INTERVAL
+				) )
+				: refreshInterval.toNanos();
+		return new TimestampsCacheEnabledImpl(
+				new LocalMirrorTimestampsRegion( timestampsRegion, refreshIntervalNanos )
+		);
+	}
+}
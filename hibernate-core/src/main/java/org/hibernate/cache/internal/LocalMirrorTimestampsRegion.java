@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A {@link TimestampsRegion} which keeps a node-local mirror of the
+ * timestamps held by a shared region.
+ * <ul>
+ * <li>Timestamps written by this node are written through to the shared
+ *     region and to the mirror, and so are immediately visible locally.
+ * <li>Timestamps read from the mirror are served without accessing the
+ *     shared region, unless they were read from the shared region longer
+ *     than the refresh interval ago, in which case they are read again,
+ *     together with any other expired timestamp needed by the same lookup.
+ * </ul>
+ * <p>
+ * Thus, a timestamp written by another node becomes visible at the latest
+ * after the refresh interval, or as soon as it is {@linkplain #evict evicted}
+ * from the mirror by an invalidation listener of the caching provider.
+ *
+ * @see LocalMirrorTimestampsCacheFactory
+ */
+public class LocalMirrorTimestampsRegion implements TimestampsRegion {
+	private final TimestampsRegion region;
+	private final long refreshIntervalNanos;
+	private final ConcurrentHashMap<Object, Mirrored> mirror = new ConcurrentHashMap<>();
+
+	LocalMirrorTimestampsRegion(TimestampsRegion region, long refreshIntervalNanos) {
+		this.region = region;
+		this.refreshIntervalNanos = refreshIntervalNanos;
+	}
+
+	/**
+	 * The timestamp of a space, as last written or read by this node.
+	 */
+	private static final class Mirrored {
+		private final Object timestamp;
+		private final long mirroredAt;
+
+		private Mirrored(Object timestamp, long mirroredAt) {
+			this.timestamp = timestamp;
+			this.mirroredAt = mirroredAt;
+		}
+	}
+
+	/**
+	 * Remove the timestamp of the given space from the mirror, so that
+	 * it is read from the shared region the next time it is needed.
+	 */
+	public void evict(Object space) {
+		mirror.remove( space );
+	}
+
+	private boolean isFresh(Mirrored mirrored, long now) {
+		return mirrored != null && now - mirrored.mirroredAt < refreshIntervalNanos;
+	}
+
+	/**
+	 * Record a timestamp read from the shared region, unless a timestamp was
+	 * written or read since the given time, in which case it is more recent.
+	 */
+	private void refreshed(Object space, Object timestamp, long readAt) {
+		mirror.compute(
+				space,
+				(key, current) -> current != null && current.mirroredAt - readAt >= 0
+						? current
+						: new Mirrored( timestamp, readAt )
+		);
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final long now = System.nanoTime();
+		final Mirrored mirrored = mirror.get( key );
+		if ( isFresh( mirrored, now ) ) {
+			return mirrored.timestamp;
+		}
+		else {
+			final Object timestamp = region.getFromCache( key, session );
+			refreshed( key, timestamp, now );
+			return timestamp;
+		}
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final long now = System.nanoTime();
+		final Map<Object, Object> timestamps = new HashMap<>( keys.size() );
+		List<Object> expired = null;
+		for ( Object key : keys ) {
+			final Mirrored mirrored = mirror.get( key );
+			if ( isFresh( mirrored, now ) ) {
+				if ( mirrored.timestamp != null ) {
+					timestamps.put( key, mirrored.timestamp );
+				}
+			}
+			else {
+				if ( expired == null ) {
+					expired = new ArrayList<>( keys.size() );
+				}
+				expired.add( key );
+			}
+		}
+		if ( expired != null ) {
+			final Map<Object, Object> read = region.getAllFromCache( expired, session );
+			for ( Object key : expired ) {
+				final Object timestamp = read.get( key );
+				refreshed( key, timestamp, now );
+				if ( timestamp != null ) {
+					timestamps.put( key, timestamp );
+				}
+			}
+		}
+		return timestamps;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		region.putIntoCache( key, value, session );
+		mirror.put( key, new Mirrored( value, System.nanoTime() ) );
+	}
+
+	@Override
+	public String getName() {
+		return region.getName();
+	}
+
+	@Override
+	public RegionFactory getRegionFactory() {
+		return region.getRegionFactory();
+	}
+
+	@Override
+	public void clear() {
+		mirror.clear();
+		region.clear();
+	}
+
+	@Override
+	public void destroy() {
+		mirror.clear();
+		region.destroy();
+	}
+}
@@ -6,7 +6,9 @@
  */
 package org.hibernate.cache.internal;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -130,23 +132,45 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		return spaces.length == 1
+				? isUpToDate( spaces[0], timestamp, session )
+				: isUpToDate( Arrays.asList( spaces ), timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		if ( spaces.size() == 1 ) {
+			return isUpToDate( spaces.iterator().next(), timestamp, session );
+		}
+		else if ( spaces.isEmpty() ) {
+			return true;
+		}
 
+		// fetch the timestamps of all the spaces in a single round trip
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Map<Object, Object> lastUpdates = getLastUpdateTimestampsForSpaces( spaces, session );
 		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+			if ( isSpaceOutOfDate( space, (Long) lastUpdates.get( space ), timestamp, statistics ) ) {
 				return false;
 			}
 		}
-
 		return true;
 	}
 
+	private boolean isUpToDate(String space, Long timestamp, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
+		return !isSpaceOutOfDate( space, lastUpdate, timestamp, statistics );
+	}
+
 	private boolean isSpaceOutOfDate(
 			String space,
+			Long lastUpdate,
 			Long timestamp,
-			SharedSessionContractImplementor session,
 			StatisticsImplementor statistics) {
-		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
 		if ( lastUpdate == null ) {
 			// the last update timestamp for the given space was evicted from the
 			// cache or there have been no writes to it since startup
@@ -176,22 +200,6 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return false;
 	}
 
-	@Override
-	public boolean isUpToDate(
-			Collection<String> spaces,
-			Long timestamp,
-			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
-			}
-		}
-
-		return true;
-	}
-
 	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		final EventManager eventManager = session.getEventManager();
@@ -212,4 +220,27 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return ts;
 	}
 
+	private Map<Object, Object> getLastUpdateTimestampsForSpaces(
+			Collection<String> spaces,
+			SharedSessionContractImplementor session) {
+		Map<Object, Object> timestamps = null;
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			session.getEventListenerManager().cacheGetStart();
+			timestamps = timestampsRegion.getAllFromCache( spaces, session );
+		}
+		finally {
+			final boolean hit = timestamps != null && !timestamps.isEmpty();
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					timestampsRegion,
+					hit
+			);
+			session.getEventListenerManager().cacheGetEnd( hit );
+		}
+		return timestamps;
+	}
+
 }
@@ -11,6 +11,7 @@ import java.util.Set;
 
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.Remove;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
@@ -22,6 +23,8 @@ import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * An SPI supported by any Hibernate {@linkplain Service service} that provides an
  * implementation of the {@link Cache} API. Extends {@code Cache} with operations
@@ -107,6 +110,20 @@ public interface CacheImplementor extends Service, Cache, Serializable {
 	 */
 	QueryResultsCache getQueryResultsCacheStrictly(String regionName);
 
+	/**
+	 * The partitioning of query spaces for the purpose of query cache
+	 * invalidation, or {@code null} if no table is partitioned, or if
+	 * Hibernate is not configured for query result caching.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_PARTITION_COLUMNS
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default @Nullable QueryCachePartitioning getQueryCachePartitioning() {
+		return null;
+	}
+
 	/**
 	 * Clean up the default query cache
 	 *
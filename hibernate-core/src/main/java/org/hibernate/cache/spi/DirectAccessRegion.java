@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -23,6 +27,28 @@ public interface DirectAccessRegion extends Region {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the values of several keys in a single operation.
+	 *
+	 * @return The values found in the cache, keyed by their key.  Keys with
+	 * no value in the cache are not contained in the returned map.
+	 *
+	 * @implNote The default implementation calls {@link #getFromCache} for
+	 * each key.
+	 *
+	 * @since 6.6
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> values = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Put a value by key
 	 */
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.Incubating;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_PARTITION_COLUMNS;
+
+/**
+ * Determines the query spaces of tables whose cached query results are
+ * partitioned by the value of a column, as specified by
+ * {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_PARTITION_COLUMNS}.
+ * <p>
+ * For a partitioned table {@code T} with partition column {@code c}:
+ * <ul>
+ * <li>a cached query which restricts {@code c} to the value {@code v}
+ *     depends on the {@linkplain #partitionSpace partition space}
+ *     {@code T#c=v} and on the {@linkplain #allPartitionsSpace marker
+ *     space} {@code T#c}, instead of on {@code T},
+ * <li>a change to a row with the value {@code v} invalidates {@code T}
+ *     and {@code T#c=v}, and
+ * <li>any other change to the table invalidates {@code T} and {@code T#c}.
+ * </ul>
+ * <p>
+ * Only values of type {@link Boolean}, {@link UUID}, and of integral
+ * numeric types are supported. Queries and changes involving values of
+ * other types fall back to whole-table invalidation. In particular,
+ * character values are not supported, since whether two strings denote
+ * the same partition depends on the collation of the column, which
+ * might ignore case or trailing blanks.
+ *
+ * @since 6.6
+ */
+@Incubating
+public final class QueryCachePartitioning {
+	private final Map<String, String> partitionColumns;
+
+	private QueryCachePartitioning(Map<String, String> partitionColumns) {
+		this.partitionColumns = partitionColumns;
+	}
+
+	/**
+	 * Interpret the setting
+	 * {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_PARTITION_COLUMNS}.
+	 *
+	 * @return the partitioning, or {@code null} if no table is partitioned
+	 */
+	public static @Nullable QueryCachePartitioning fromSettings(Map<String, Object> settings) {
+		final String setting = ConfigurationHelper.getString( QUERY_CACHE_PARTITION_COLUMNS, settings );
+		if ( StringHelper.isBlank( setting ) ) {
+			return null;
+		}
+		final Map<String, String> partitionColumns = new HashMap<>();
+		for ( String tableAndColumn : StringHelper.split( ", \t\n", setting ) ) {
+			final int dot = tableAndColumn.lastIndexOf( '.' );
+			if ( dot <= 0 || dot == tableAndColumn.length() - 1 ) {
+				throw new ConfigurationException(
+						"Invalid partition column '" + tableAndColumn + "' specified by '"
+								+ QUERY_CACHE_PARTITION_COLUMNS + "' (expected 'table.column')"
+				);
+			}
+			partitionColumns.put( tableAndColumn.substring( 0, dot ), tableAndColumn.substring( dot + 1 ) );
+		}
+		return new QueryCachePartitioning( partitionColumns );
+	}
+
+	/**
+	 * The partition column of the given table, or {@code null} if the
+	 * table is not partitioned.
+	 */
+	public @Nullable String getPartitionColumn(String table) {
+		return partitionColumns.get( table );
+	}
+
+	/**
+	 * Is the given column the partition column of the given table?
+	 */
+	public boolean isPartitionColumn(String table, String column) {
+		final String partitionColumn = partitionColumns.get( table );
+		return partitionColumn != null && partitionColumn.equalsIgnoreCase( column );
+	}
+
+	/**
+	 * The query space representing the rows of the given partitioned table
+	 * with the given value of the partition column.
+	 *
+	 * @return the partition space, or {@code null} if the value is not
+	 *         of a supported type
+	 */
+	public @Nullable String partitionSpace(String table, @Nullable Object value) {
+		final String partitionValue = partitionValue( value );
+		return partitionValue == null ? null : allPartitionsSpace( table ) + '=' + partitionValue;
+	}
+
+	/**
+	 * The query space invalidated by every change to the given partitioned
+	 * table which is not attributable to a single partition.
+	 */
+	public String allPartitionsSpace(String table) {
+		return table + '#' + partitionColumns.get( table );
+	}
+
+	private static @Nullable String partitionValue(@Nullable Object value) {
+		if ( value instanceof Boolean || value instanceof UUID || value instanceof BigInteger ) {
+			return value.toString();
+		}
+		else if ( value instanceof Long || value instanceof Integer
+				|| value instanceof Short || value instanceof Byte ) {
+			// normalize, since the same column value might be
+			// represented by different wrapper types
+			return Long.toString( ( (Number) value ).longValue() );
+		}
+		else {
+			return null;
+		}
+	}
+}
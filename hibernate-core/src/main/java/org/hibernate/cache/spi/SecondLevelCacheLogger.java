@@ -102,4 +102,11 @@ public interface SecondLevelCacheLogger extends BasicLogger {
 	)
 	void nonStandardSupportForAccessType(String key, String accessType, String regionName);
 
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Ignoring unreadable compact cache entry for [%s], treating it as a cache miss: %s",
+			id = NAMESPACE + 9
+	)
+	void unreadableCompactCacheEntry(String role, String reason);
+
 }
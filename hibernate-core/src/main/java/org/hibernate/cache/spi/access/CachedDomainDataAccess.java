@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
@@ -57,6 +61,34 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve several objects from the cache at once.  Used when
+	 * resolving many entities/collections of the same role from the second
+	 * level cache, for example during multi-id loading or batch fetching.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data, keyed by the given keys; keys for which there
+	 * is no cached data are not contained in the returned map
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote The default implementation calls {@link #get} for each key.
+	 *
+	 * @since 6.6
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> values = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * Compact CacheEntry format for entities. Used to store the entry into the second-level cache
+ * as a {@code byte[]}, which is much smaller, and much faster to serialize, than a
+ * {@link StandardCacheEntryImpl} written using Java serialization.
+ * <p>
+ * The layout of the entry is determined by the mapping model: the values of the attributes
+ * are written in the order of the properties of the entity, without the property names or
+ * their number, and the entity name is omitted when the entry is for the root entity of the
+ * hierarchy. The entity name is not relative to the persister handling the entry, since an
+ * entry written by the persister for a subclass may be read by the persister for one of its
+ * superclasses. Enum and other basic values are written according to the type of their
+ * attribute, and so without their class.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE
+ *
+ * @since 6.6
+ */
+@Incubating
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final int ROOT_ENTITY = 1;
+
+	private final EntityPersister persister;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final SessionFactoryImplementor factory = persister.getFactory();
+		final CompactCacheEntryValues.Writer writer = CompactCacheEntryValues.writer( factory.getWrapperOptions() );
+		writer.writeByte( CompactCacheEntryValues.FORMAT_VERSION );
+		if ( persister.getRootEntityName().equals( entry.getSubclass() ) ) {
+			writer.writeByte( ROOT_ENTITY );
+		}
+		else {
+			writer.writeByte( 0 );
+			writer.writeString( entry.getSubclass() );
+		}
+		writer.writeValue( entry.getVersion() );
+		final Type[] types = subclassPersister( entry.getSubclass(), factory ).getPropertyTypes();
+		final Serializable[] disassembledState = entry.getDisassembledState();
+		for ( int i = 0; i < disassembledState.length; i++ ) {
+			writer.writeValue( disassembledState[i], types[i] );
+		}
+		return writer.toByteArray();
+	}
+
+	/**
+	 * @return The {@link StandardCacheEntryImpl}, or {@code null} if the entry
+	 *         was written in a different format, or could not be read
+	 */
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		try {
+			return read( structured, factory );
+		}
+		catch (RuntimeException e) {
+			// for example, an entry written by a different version during a rolling upgrade
+			L2CACHE_LOGGER.unreadableCompactCacheEntry( persister.getEntityName(), e.getMessage() );
+			return null;
+		}
+	}
+
+	private Object read(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] ) ) {
+			throw new CacheException( "Not a compact cache entry" );
+		}
+		final CompactCacheEntryValues.Reader reader =
+				CompactCacheEntryValues.reader( (byte[]) structured, factory.getWrapperOptions() );
+		if ( reader.readByte() != CompactCacheEntryValues.FORMAT_VERSION ) {
+			throw new CacheException( "Unsupported format version" );
+		}
+		final String subclass = reader.readByte() == ROOT_ENTITY ? persister.getRootEntityName() : reader.readString();
+		final Object version = reader.readValue();
+
+		final Type[] types = subclassPersister( subclass, factory ).getPropertyTypes();
+		final Serializable[] disassembledState = new Serializable[types.length];
+		for ( int i = 0; i < disassembledState.length; i++ ) {
+			disassembledState[i] = (Serializable) reader.readValue( types[i] );
+		}
+		return new StandardCacheEntryImpl( disassembledState, subclass, version );
+	}
+
+	private EntityPersister subclassPersister(String subclass, SessionFactoryImplementor factory) {
+		return subclass.equals( persister.getEntityName() )
+				? persister
+				: factory.getRuntimeMetamodels().getMappingMetamodel().getEntityDescriptor( subclass );
+	}
+}
@@ -0,0 +1,627 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.HibernateException;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.CustomType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.EnumJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * Writes and reads the values held by {@linkplain CompactCacheEntry compact
+ * cache entries}.
+ * <p>
+ * Each value is preceded by a one-byte tag identifying its type, since the
+ * disassembled state of an attribute is not necessarily an instance of the
+ * Java type of the attribute: it might be the identifier of an associated
+ * entity, the state of an embeddable, or a marker for an unfetched property.
+ * Integral values are written as variable-length integers.
+ * <p>
+ * When the {@linkplain Type type} of the attribute is known, the values of
+ * its {@link JavaType} are written without their class: an enum as its
+ * ordinal, or as its name when it is mapped to a character column, and a
+ * value of any other type as its JDBC representation. Values of types not
+ * listed here are written using Java serialization.
+ * <p>
+ * The {@link Reader} throws {@link CacheException} when the data is not
+ * well-formed, never allocating more than the data could possibly hold.
+ *
+ * @since 6.6
+ */
+final class CompactCacheEntryValues {
+	/**
+	 * Identifies the format, so that an entry written by an incompatible
+	 * version is detected instead of being misinterpreted.
+	 */
+	static final byte FORMAT_VERSION = 2;
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte INTEGER = 2;
+	private static final byte LONG = 3;
+	private static final byte SHORT = 4;
+	private static final byte BYTE = 5;
+	private static final byte TRUE = 6;
+	private static final byte FALSE = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte FLOAT = 9;
+	private static final byte CHARACTER = 10;
+	private static final byte BIG_DECIMAL = 11;
+	private static final byte BIG_INTEGER = 12;
+	private static final byte UUID_VALUE = 13;
+	private static final byte BYTES = 14;
+	private static final byte LOCAL_DATE = 15;
+	private static final byte LOCAL_TIME = 16;
+	private static final byte LOCAL_DATE_TIME = 17;
+	private static final byte INSTANT = 18;
+	private static final byte DATE = 19;
+	private static final byte SQL_DATE = 20;
+	private static final byte SQL_TIME = 21;
+	private static final byte SQL_TIMESTAMP = 22;
+	private static final byte OBJECT_ARRAY = 23;
+	private static final byte SERIALIZABLE_ARRAY = 24;
+	private static final byte UNFETCHED_PROPERTY = 25;
+	private static final byte UNKNOWN_BACKREF = 26;
+	private static final byte SERIALIZED = 27;
+	private static final byte ENUM_ORDINAL = 28;
+	private static final byte ENUM_NAME = 29;
+	private static final byte JAVA_TYPE = 30;
+
+	private CompactCacheEntryValues() {
+	}
+
+	static Writer writer() {
+		return writer( null );
+	}
+
+	/**
+	 * @param options The options for {@linkplain JavaType#unwrap unwrapping}
+	 * values of attributes whose type is known, or {@code null} if every value
+	 * is written untyped
+	 */
+	static Writer writer(WrapperOptions options) {
+		return new Writer( options );
+	}
+
+	static Reader reader(byte[] bytes) {
+		return reader( bytes, null );
+	}
+
+	static Reader reader(byte[] bytes, WrapperOptions options) {
+		return new Reader( bytes, options );
+	}
+
+	/**
+	 * The {@link JavaType} of the disassembled values of an attribute of the
+	 * given type, or {@code null} if they are not necessarily of a single type.
+	 */
+	private static JavaType<?> disassembledJavaType(Type type) {
+		// the disassembled form of a converted value is its relational form,
+		// while a user type disassembles its values however it likes
+		return type instanceof BasicType<?> && !( type instanceof CustomType<?> )
+				? ( (BasicType<?>) type ).getJdbcJavaType()
+				: null;
+	}
+
+	/**
+	 * Whether the given non-null value has no tag of its own, and would be
+	 * written using Java serialization.
+	 */
+	private static boolean needsSerialization(Object value) {
+		final Class<?> valueClass = value.getClass();
+		return !( valueClass == String.class
+				|| valueClass == Integer.class
+				|| valueClass == Long.class
+				|| valueClass == Short.class
+				|| valueClass == Byte.class
+				|| valueClass == Boolean.class
+				|| valueClass == Double.class
+				|| valueClass == Float.class
+				|| valueClass == Character.class
+				|| valueClass == BigDecimal.class
+				|| valueClass == BigInteger.class
+				|| valueClass == UUID.class
+				|| valueClass == byte[].class
+				|| valueClass == LocalDate.class
+				|| valueClass == LocalTime.class
+				|| valueClass == LocalDateTime.class
+				|| valueClass == Instant.class
+				|| valueClass == Date.class
+				|| valueClass == java.sql.Date.class
+				|| valueClass == java.sql.Time.class
+				|| valueClass == java.sql.Timestamp.class
+				|| valueClass == Object[].class
+				|| valueClass == Serializable[].class );
+	}
+
+	private static boolean isMappedToName(Type type) {
+		return ( (BasicType<?>) type ).getJdbcType().isStringLike();
+	}
+
+	static final class Writer {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 );
+		private final DataOutputStream output = new DataOutputStream( bytes );
+		private final WrapperOptions options;
+
+		private Writer(WrapperOptions options) {
+			this.options = options;
+		}
+
+		byte[] toByteArray() {
+			return bytes.toByteArray();
+		}
+
+		void writeByte(int value) {
+			bytes.write( value );
+		}
+
+		void writeString(String value) {
+			try {
+				output.writeUTF( value );
+			}
+			catch (IOException e) {
+				throw new CacheException( "Unable to write compact cache entry", e );
+			}
+		}
+
+		void writeVarInt(long value) {
+			// zig-zag encoding, so that small negative values are also short
+			long encoded = ( value << 1 ) ^ ( value >> 63 );
+			while ( ( encoded & ~0x7FL ) != 0 ) {
+				bytes.write( (int) ( ( encoded & 0x7F ) | 0x80 ) );
+				encoded >>>= 7;
+			}
+			bytes.write( (int) encoded );
+		}
+
+		void writeValue(Object value) {
+			writeValue( value, null );
+		}
+
+		/**
+		 * Write the disassembled value of an attribute of the given type.
+		 */
+		void writeValue(Object value, Type type) {
+			try {
+				final JavaType<?> javaType = type == null || options == null ? null : disassembledJavaType( type );
+				if ( javaType == null || !writeTypedValue( value, type, javaType ) ) {
+					doWriteValue( value );
+				}
+			}
+			catch (IOException e) {
+				throw new CacheException( "Unable to write compact cache entry", e );
+			}
+		}
+
+		/**
+		 * Write a value of the given {@link JavaType} without its class, which the
+		 * reader obtains from the type of the attribute.
+		 *
+		 * @return {@code false} if the value is written as any other value
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private boolean writeTypedValue(Object value, Type type, JavaType javaType) throws IOException {
+			if ( value instanceof Enum<?> ) {
+				if ( javaType instanceof EnumJavaType<?>
+						&& javaType.getJavaTypeClass() == ( (Enum<?>) value ).getDeclaringClass() ) {
+					if ( isMappedToName( type ) ) {
+						bytes.write( ENUM_NAME );
+						output.writeUTF( ( (Enum<?>) value ).name() );
+					}
+					else {
+						bytes.write( ENUM_ORDINAL );
+						writeVarInt( ( (Enum<?>) value ).ordinal() );
+					}
+					return true;
+				}
+			}
+			else if ( value != null && needsSerialization( value ) && javaType.isInstance( value ) ) {
+				final Class<?> jdbcClass = ( (BasicType<?>) type ).getJdbcType().getPreferredJavaTypeClass( options );
+				if ( jdbcClass != null ) {
+					final Object jdbcValue;
+					try {
+						jdbcValue = javaType.unwrap( value, jdbcClass, options );
+					}
+					catch (HibernateException e) {
+						// the JavaType does not support its preferred JDBC representation
+						return false;
+					}
+					if ( jdbcValue != null && !needsSerialization( jdbcValue ) ) {
+						bytes.write( JAVA_TYPE );
+						doWriteValue( jdbcValue );
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		private void doWriteValue(Object value) throws IOException {
+			if ( value == null ) {
+				bytes.write( NULL );
+			}
+			else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				bytes.write( UNFETCHED_PROPERTY );
+			}
+			else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+				bytes.write( UNKNOWN_BACKREF );
+			}
+			else {
+				final Class<?> valueClass = value.getClass();
+				if ( valueClass == String.class ) {
+					bytes.write( STRING );
+					writeLongString( (String) value );
+				}
+				else if ( valueClass == Integer.class ) {
+					bytes.write( INTEGER );
+					writeVarInt( (Integer) value );
+				}
+				else if ( valueClass == Long.class ) {
+					bytes.write( LONG );
+					writeVarInt( (Long) value );
+				}
+				else if ( valueClass == Short.class ) {
+					bytes.write( SHORT );
+					writeVarInt( (Short) value );
+				}
+				else if ( valueClass == Byte.class ) {
+					bytes.write( BYTE );
+					bytes.write( (Byte) value );
+				}
+				else if ( valueClass == Boolean.class ) {
+					bytes.write( (Boolean) value ? TRUE : FALSE );
+				}
+				else if ( valueClass == Double.class ) {
+					bytes.write( DOUBLE );
+					output.writeDouble( (Double) value );
+				}
+				else if ( valueClass == Float.class ) {
+					bytes.write( FLOAT );
+					output.writeFloat( (Float) value );
+				}
+				else if ( valueClass == Character.class ) {
+					bytes.write( CHARACTER );
+					output.writeChar( (Character) value );
+				}
+				else if ( valueClass == BigDecimal.class ) {
+					final BigDecimal decimal = (BigDecimal) value;
+					bytes.write( BIG_DECIMAL );
+					writeVarInt( decimal.scale() );
+					writeByteArray( decimal.unscaledValue().toByteArray() );
+				}
+				else if ( valueClass == BigInteger.class ) {
+					bytes.write( BIG_INTEGER );
+					writeByteArray( ( (BigInteger) value ).toByteArray() );
+				}
+				else if ( valueClass == UUID.class ) {
+					final UUID uuid = (UUID) value;
+					bytes.write( UUID_VALUE );
+					output.writeLong( uuid.getMostSignificantBits() );
+					output.writeLong( uuid.getLeastSignificantBits() );
+				}
+				else if ( valueClass == byte[].class ) {
+					bytes.write( BYTES );
+					writeByteArray( (byte[]) value );
+				}
+				else if ( valueClass == LocalDate.class ) {
+					bytes.write( LOCAL_DATE );
+					writeVarInt( ( (LocalDate) value ).toEpochDay() );
+				}
+				else if ( valueClass == LocalTime.class ) {
+					bytes.write( LOCAL_TIME );
+					writeVarInt( ( (LocalTime) value ).toNanoOfDay() );
+				}
+				else if ( valueClass == LocalDateTime.class ) {
+					final LocalDateTime dateTime = (LocalDateTime) value;
+					bytes.write( LOCAL_DATE_TIME );
+					writeVarInt( dateTime.toLocalDate().toEpochDay() );
+					writeVarInt( dateTime.toLocalTime().toNanoOfDay() );
+				}
+				else if ( valueClass == Instant.class ) {
+					final Instant instant = (Instant) value;
+					bytes.write( INSTANT );
+					writeVarInt( instant.getEpochSecond() );
+					writeVarInt( instant.getNano() );
+				}
+				else if ( valueClass == Date.class ) {
+					bytes.write( DATE );
+					writeVarInt( ( (Date) value ).getTime() );
+				}
+				else if ( valueClass == java.sql.Date.class ) {
+					bytes.write( SQL_DATE );
+					writeVarInt( ( (java.sql.Date) value ).getTime() );
+				}
+				else if ( valueClass == java.sql.Time.class ) {
+					bytes.write( SQL_TIME );
+					writeVarInt( ( (java.sql.Time) value ).getTime() );
+				}
+				else if ( valueClass == java.sql.Timestamp.class ) {
+					final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+					bytes.write( SQL_TIMESTAMP );
+					writeVarInt( timestamp.getTime() );
+					writeVarInt( timestamp.getNanos() );
+				}
+				else if ( valueClass == Object[].class ) {
+					bytes.write( OBJECT_ARRAY );
+					writeValues( (Object[]) value );
+				}
+				else if ( valueClass == Serializable[].class ) {
+					bytes.write( SERIALIZABLE_ARRAY );
+					writeValues( (Object[]) value );
+				}
+				else {
+					bytes.write( SERIALIZED );
+					writeByteArray( SerializationHelper.serialize( (Serializable) value ) );
+				}
+			}
+		}
+
+		private void writeValues(Object[] values) throws IOException {
+			writeVarInt( values.length );
+			for ( Object element : values ) {
+				doWriteValue( element );
+			}
+		}
+
+		private void writeLongString(String value) throws IOException {
+			// DataOutput#writeUTF() is limited to 64K of encoded bytes
+			if ( value.length() <= 0x3FFF ) {
+				output.writeUTF( value );
+			}
+			else {
+				bytes.write( 0xFF );
+				bytes.write( 0xFF );
+				writeVarInt( value.length() );
+				output.writeChars( value );
+			}
+		}
+
+		private void writeByteArray(byte[] value) {
+			writeVarInt( value.length );
+			bytes.write( value, 0, value.length );
+		}
+	}
+
+	static final class Reader {
+		private final ByteArrayInputStream bytes;
+		private final DataInputStream input;
+		private final WrapperOptions options;
+
+		private Reader(byte[] bytes, WrapperOptions options) {
+			this.bytes = new ByteArrayInputStream( bytes );
+			this.input = new DataInputStream( this.bytes );
+			this.options = options;
+		}
+
+		int readByte() {
+			try {
+				return input.readUnsignedByte();
+			}
+			catch (IOException e) {
+				throw new CacheException( "Unable to read compact cache entry", e );
+			}
+		}
+
+		String readString() {
+			try {
+				return input.readUTF();
+			}
+			catch (IOException e) {
+				throw new CacheException( "Unable to read compact cache entry", e );
+			}
+		}
+
+		long readVarInt() {
+			try {
+				return doReadVarInt();
+			}
+			catch (IOException e) {
+				throw new CacheException( "Unable to read compact cache entry", e );
+			}
+		}
+
+		Object readValue() {
+			return readValue( null );
+		}
+
+		/**
+		 * Read the disassembled value of an attribute of the given type.
+		 */
+		Object readValue(Type type) {
+			try {
+				input.mark( 1 );
+				final byte tag = input.readByte();
+				switch ( tag ) {
+					case ENUM_ORDINAL:
+						final EnumJavaType<?> enumJavaType = enumJavaType( type );
+						return enumJavaType.fromOrdinal( readOrdinal( enumJavaType ) );
+					case ENUM_NAME:
+						return enumJavaType( type ).fromName( input.readUTF() );
+					case JAVA_TYPE:
+						return javaType( type ).wrap( doReadValue(), options );
+					default:
+						input.reset();
+						return doReadValue();
+				}
+			}
+			catch (IOException e) {
+				throw new CacheException( "Unable to read compact cache entry", e );
+			}
+		}
+
+		private JavaType<?> javaType(Type type) {
+			final JavaType<?> javaType = type == null ? null : disassembledJavaType( type );
+			if ( javaType == null ) {
+				throw new CacheException( "Typed value in compact cache entry for an attribute of type " + type );
+			}
+			return javaType;
+		}
+
+		private EnumJavaType<?> enumJavaType(Type type) {
+			final JavaType<?> javaType = javaType( type );
+			if ( !( javaType instanceof EnumJavaType<?> ) ) {
+				throw new CacheException( "Enum value in compact cache entry for an attribute of type " + type );
+			}
+			return (EnumJavaType<?>) javaType;
+		}
+
+		private int readOrdinal(EnumJavaType<?> javaType) throws IOException {
+			final long ordinal = doReadVarInt();
+			if ( ordinal < 0 || ordinal >= javaType.getJavaTypeClass().getEnumConstants().length ) {
+				throw new CacheException( "Invalid ordinal " + ordinal + " of " + javaType.getTypeName()
+						+ " in compact cache entry" );
+			}
+			return (int) ordinal;
+		}
+
+		private long doReadVarInt() throws IOException {
+			long encoded = 0;
+			int shift = 0;
+			int next;
+			do {
+				if ( shift > 63 ) {
+					throw new CacheException( "Malformed variable-length integer in compact cache entry" );
+				}
+				next = input.readUnsignedByte();
+				encoded |= (long) ( next & 0x7F ) << shift;
+				shift += 7;
+			}
+			while ( ( next & 0x80 ) != 0 );
+			return ( encoded >>> 1 ) ^ -( encoded & 1 );
+		}
+
+		private Object doReadValue() throws IOException {
+			final byte tag = input.readByte();
+			switch ( tag ) {
+				case NULL:
+					return null;
+				case UNFETCHED_PROPERTY:
+					return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+				case UNKNOWN_BACKREF:
+					return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+				case STRING:
+					return readLongString();
+				case INTEGER:
+					return (int) doReadVarInt();
+				case LONG:
+					return doReadVarInt();
+				case SHORT:
+					return (short) doReadVarInt();
+				case BYTE:
+					return input.readByte();
+				case TRUE:
+					return Boolean.TRUE;
+				case FALSE:
+					return Boolean.FALSE;
+				case DOUBLE:
+					return input.readDouble();
+				case FLOAT:
+					return input.readFloat();
+				case CHARACTER:
+					return input.readChar();
+				case BIG_DECIMAL:
+					final int scale = (int) doReadVarInt();
+					return new BigDecimal( new BigInteger( readByteArray() ), scale );
+				case BIG_INTEGER:
+					return new BigInteger( readByteArray() );
+				case UUID_VALUE:
+					return new UUID( input.readLong(), input.readLong() );
+				case BYTES:
+					return readByteArray();
+				case LOCAL_DATE:
+					return LocalDate.ofEpochDay( doReadVarInt() );
+				case LOCAL_TIME:
+					return LocalTime.ofNanoOfDay( doReadVarInt() );
+				case LOCAL_DATE_TIME:
+					final LocalDate date = LocalDate.ofEpochDay( doReadVarInt() );
+					return LocalDateTime.of( date, LocalTime.ofNanoOfDay( doReadVarInt() ) );
+				case INSTANT:
+					final long epochSecond = doReadVarInt();
+					return Instant.ofEpochSecond( epochSecond, doReadVarInt() );
+				case DATE:
+					return new Date( doReadVarInt() );
+				case SQL_DATE:
+					return new java.sql.Date( doReadVarInt() );
+				case SQL_TIME:
+					return new java.sql.Time( doReadVarInt() );
+				case SQL_TIMESTAMP:
+					final java.sql.Timestamp timestamp = new java.sql.Timestamp( doReadVarInt() );
+					timestamp.setNanos( (int) doReadVarInt() );
+					return timestamp;
+				case OBJECT_ARRAY:
+					// every element takes at least one byte
+					return readValues( new Object[readLength( 1 )] );
+				case SERIALIZABLE_ARRAY:
+					return readValues( new Serializable[readLength( 1 )] );
+				case SERIALIZED:
+					return SerializationHelper.deserialize( readByteArray() );
+				default:
+					throw new CacheException( "Unknown value type " + tag + " in compact cache entry" );
+			}
+		}
+
+		private Object[] readValues(Object[] values) throws IOException {
+			for ( int i = 0; i < values.length; i++ ) {
+				values[i] = doReadValue();
+			}
+			return values;
+		}
+
+		private String readLongString() throws IOException {
+			input.mark( 2 );
+			if ( input.readUnsignedShort() != 0xFFFF ) {
+				input.reset();
+				return input.readUTF();
+			}
+			final char[] chars = new char[readLength( 2 )];
+			for ( int i = 0; i < chars.length; i++ ) {
+				chars[i] = input.readChar();
+			}
+			return new String( chars );
+		}
+
+		private byte[] readByteArray() throws IOException {
+			final byte[] value = new byte[readLength( 1 )];
+			input.readFully( value );
+			return value;
+		}
+
+		/**
+		 * Read the length of an array whose elements take at least the given
+		 * number of bytes, checking that the remaining data could hold it.
+		 */
+		private int readLength(int minimumElementSize) throws IOException {
+			final long length = doReadVarInt();
+			if ( length < 0 || length * minimumElementSize > bytes.available() ) {
+				throw new CacheException( "Invalid length " + length + " in compact cache entry" );
+			}
+			return (int) length;
+		}
+	}
+}
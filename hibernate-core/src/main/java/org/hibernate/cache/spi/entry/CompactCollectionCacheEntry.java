@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * Compact CacheEntry format for persistent collections, see {@link CompactCacheEntry}.
+ *
+ * @since 6.6
+ */
+@Incubating
+public class CompactCollectionCacheEntry implements CacheEntryStructure {
+	/**
+	 * Access to the singleton reference.
+	 */
+	public static final CompactCollectionCacheEntry INSTANCE = new CompactCollectionCacheEntry();
+
+	@Override
+	public Object structure(Object item) {
+		final CollectionCacheEntry entry = (CollectionCacheEntry) item;
+		final CompactCacheEntryValues.Writer writer = CompactCacheEntryValues.writer();
+		writer.writeByte( CompactCacheEntryValues.FORMAT_VERSION );
+		writer.writeValue( entry.getState() );
+		return writer.toByteArray();
+	}
+
+	/**
+	 * @return The {@link CollectionCacheEntry}, or {@code null} if the entry
+	 *         was written in a different format, or could not be read
+	 */
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		try {
+			if ( !( structured instanceof byte[] ) ) {
+				throw new CacheException( "Not a compact cache entry" );
+			}
+			final CompactCacheEntryValues.Reader reader = CompactCacheEntryValues.reader( (byte[]) structured );
+			if ( reader.readByte() != CompactCacheEntryValues.FORMAT_VERSION ) {
+				throw new CacheException( "Unsupported format version" );
+			}
+			return new CollectionCacheEntry( (Serializable) reader.readValue() );
+		}
+		catch (RuntimeException e) {
+			L2CACHE_LOGGER.unreadableCompactCacheEntry( "collection", e.getMessage() );
+			return null;
+		}
+	}
+
+	private CompactCollectionCacheEntry() {
+	}
+}
@@ -7,8 +7,11 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -99,6 +102,32 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Like {@link #get}, but fetches all the items from the underlying storage in a single operation.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by keys %s", getRegion().getName(), getAccessType(), keys );
+		}
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final Map<Object, Object> values = new HashMap<>( items.size() );
+			final long cachingTimestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item != null && item.isReadable( cachingTimestamp ) ) {
+					values.put( entry.getKey(), item.getValue() );
+				}
+			}
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -28,6 +32,27 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Get several items from the cache in a single operation.
+	 *
+	 * @return The items found in the cache, keyed by their key.  Keys with no
+	 * item in the cache are not contained in the returned map.
+	 *
+	 * @implNote The default implementation calls {@link #getFromCache} for each
+	 * key.  Providers able to fetch several entries in one round trip (remote or
+	 * near caches, for example) should override it.
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.jpa.LegacySpecHints;
 import org.hibernate.jpa.SpecHints;
 
@@ -205,6 +206,26 @@ public interface AvailableSettings
 	 */
 	String CUSTOM_ENTITY_DIRTINESS_STRATEGY = "hibernate.entity_dirtiness_strategy";
 
+	/**
+	 * Specifies a number of entities associated with a session above which a flush
+	 * performs the dirty checking of those entities in parallel, using the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool common pool}. Any
+	 * resulting updates are still scheduled sequentially, in the usual order.
+	 * <p>
+	 * Only entities without collections or lazy attributes, which are dirty checked
+	 * against the state captured when they were loaded, are checked in parallel. The
+	 * state of these entities is read at the start of the flush, so dirty checking is
+	 * never parallel when an {@link org.hibernate.Interceptor}, a custom
+	 * {@link org.hibernate.event.spi.FlushEntityEventListener}, or a {@code PreUpdate}
+	 * callback of a flushed entity might change other entities during the flush.
+	 *
+	 * @settingDefault {@code 0}, meaning that dirty checking is never parallel
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
 	/**
 	 * Event listener configuration properties follow the pattern
 	 * {@code hibernate.event.listener.eventType packageName.ClassName1, packageName.ClassName2}
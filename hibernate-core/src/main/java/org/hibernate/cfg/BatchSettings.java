@@ -8,6 +8,7 @@ package org.hibernate.cfg;
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -65,6 +66,43 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that a full JDBC batch should be executed asynchronously,
+	 * while the next batch of the same statements is being bound on the flushing thread.
+	 * The batches are still executed one at a time, and in order, over the connection of
+	 * the session.
+	 * <p/>
+	 * This reduces the latency of flushing large numbers of entities, but is only safe
+	 * with a JDBC driver whose {@link java.sql.Connection} and {@link java.sql.PreparedStatement}
+	 * objects are documented as thread-safe: while one thread executes a batch, another
+	 * thread sets the parameters of, and adds a batch to, a <em>different</em> statement
+	 * of the same connection. Hibernate guarantees that every statement of the next batch
+	 * is prepared before the execution starts, and that no other statement is prepared or
+	 * executed over the connection until the execution completes. It has no effect unless
+	 * {@linkplain #STATEMENT_BATCH_SIZE batching} is enabled, or when a custom
+	 * {@linkplain #BUILDER batch builder} is used.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * Specifies the maximum number of threads used to execute JDBC batches when
+	 * {@linkplain #BATCH_PIPELINING pipelining} is enabled. Since each thread
+	 * executes a batch over the connection of a flushing session, there is no
+	 * point in making this larger than the size of the connection pool. When all
+	 * threads are busy, further batches wait for a thread to become available.
+	 *
+	 * @settingDefault The number of {@linkplain Runtime#availableProcessors() available processors}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String BATCH_PIPELINING_THREADS = "hibernate.jdbc.batch_pipelining_threads";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
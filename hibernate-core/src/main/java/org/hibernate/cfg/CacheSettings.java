@@ -111,6 +111,48 @@ public interface CacheSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * When the {@linkplain #QUERY_CACHE_FACTORY timestamps cache factory} is
+	 * {@link org.hibernate.cache.internal.LocalMirrorTimestampsCacheFactory},
+	 * the maximum time in milliseconds for which a timestamp read from the
+	 * shared timestamps region is served from the node-local mirror, that is,
+	 * the maximum delay before query results cached by this node are known
+	 * to be stale after another node modified one of the underlying tables.
+	 * <p>
+	 * Defaults to {@value org.hibernate.cache.internal.LocalMirrorTimestampsCacheFactory#DEFAULT_REFRESH_INTERVAL}.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_CACHE_TIMESTAMPS_MIRROR_REFRESH_INTERVAL = "hibernate.cache.query_cache_timestamps_mirror_refresh_interval";
+
+	/**
+	 * A comma-separated list of {@code table.column} pairs, each specifying a
+	 * column by which the cached results of queries against the given table
+	 * are partitioned for the purpose of invalidation. A cached query which
+	 * restricts the column to a single value, via a top-level {@code =}
+	 * condition in its {@code where} clause, is only invalidated when a row
+	 * of the table having that value is inserted, updated, or deleted, and
+	 * not by changes to rows with other values.
+	 * <p>
+	 * Bulk updates and deletes, collection changes, and any other change for
+	 * which the value of the column is unknown still invalidate every cached
+	 * query against the table.
+	 * <p>
+	 * Since one timestamp is maintained per distinct value, this is intended
+	 * for columns with a bounded number of values, for example, a numeric
+	 * tenant or region identifier, and the timestamps region must not evict
+	 * entries. Columns of character type are not partitioned, because their
+	 * values might be compared using a case-insensitive or blank-padding
+	 * collation, so queries against them invalidate as usual.
+	 *
+	 * @see org.hibernate.cache.spi.QueryCachePartitioning
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_CACHE_PARTITION_COLUMNS = "hibernate.cache.query_cache_partition_columns";
+
 	/**
 	 * The {@code CacheProvider} region name prefix
 	 *
@@ -161,6 +203,23 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of compact second-level cache entries, which hold the state
+	 * of an entity or collection in a binary format, laid out according to the
+	 * mapping model. A compact entry is much smaller than its Java serialization,
+	 * which matters for replicated and remote cache regions.
+	 * <p>
+	 * This setting takes precedence over {@value #USE_STRUCTURED_CACHE}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String USE_COMPACT_CACHE = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
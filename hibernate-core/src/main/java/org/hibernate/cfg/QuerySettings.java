@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.query.NullPrecedence;
 import org.hibernate.query.spi.QueryPlan;
@@ -61,6 +62,44 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * Specifies the maximum number of threads used to check named HQL queries
+	 * during startup, when {@value #QUERY_STARTUP_CHECKING} is enabled. Each
+	 * query is interpreted only once, and its interpretation is kept in the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}, so the checking also spares the parsing of the
+	 * named queries when they are first executed.
+	 * <p>
+	 * A value of {@code 1} specifies that the queries be checked sequentially,
+	 * on the thread creating the {@link org.hibernate.SessionFactory}.
+	 * <p>
+	 * By default, the number of available processors.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_STARTUP_CHECKING_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
+	/**
+	 * When enabled, specifies that named HQL queries are not interpreted
+	 * when the {@link org.hibernate.SessionFactory} is created, but only
+	 * when each query is first used. Once interpreted, a named query keeps
+	 * its interpretation for the lifetime of the {@code SessionFactory},
+	 * even when the interpretation is evicted from the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}.
+	 * <p>
+	 * This setting takes precedence over {@value #QUERY_STARTUP_CHECKING},
+	 * and is intended for short-lived processes which use only some of the
+	 * named queries of the application.
+	 * <p>
+	 * By default, named queries are interpreted at startup.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String LAZY_NAMED_QUERY_INTERPRETATION = "hibernate.query.lazy_named_query_interpretation";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -134,6 +173,27 @@ public interface QuerySettings {
 	 */
 	String CRITERIA_COPY_TREE = "hibernate.criteria.copy_tree";
 
+	/**
+	 * When enabled, specifies that the plan of a {@linkplain CriteriaQuery criteria query}
+	 * is cached by the structure of the criteria tree, so that structurally equivalent
+	 * criteria queries, even when built separately, share the cached SQL AST and JDBC
+	 * operation, and are not translated again for each execution.
+	 * <p>
+	 * Values {@linkplain org.hibernate.query.criteria.HibernateCriteriaBuilder#value(Object) bound}
+	 * as parameters, as specified by {@value #CRITERIA_VALUE_HANDLING_MODE}, are not part
+	 * of the structure of the criteria tree, while inlined literals are.
+	 * <p>
+	 * By default, the plan of a criteria query is only cached when explicitly requested
+	 * using {@link org.hibernate.query.SelectionQuery#setQueryPlanCacheable(boolean)},
+	 * and only for executions of the very same criteria query object.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String CRITERIA_PLAN_CACHE_ENABLED = "hibernate.criteria.plan_cache_enabled";
+
 	/**
 	 * When set to true, indicates that ordinal parameters (represented by the '?' placeholder) in native queries will be ignored.
 	 * <p>
@@ -233,6 +293,61 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * When enabled, specifies that the caches making up the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache} should start out small, and grow or shrink
+	 * according to their observed miss and eviction rates. The maximum
+	 * given by {@value #QUERY_PLAN_CACHE_MAX_SIZE} is then the budget
+	 * within which each cache may grow.
+	 * <p>
+	 * By default, each cache is allocated its maximum size up front.
+	 *
+	 * @see org.hibernate.stat.QueryInterpretationCacheStatistics
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_ADAPTIVE = "hibernate.query.plan_cache_adaptive";
+
+	/**
+	 * Selects the eviction policy of the caches making up the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}, either:
+	 * <ul>
+	 *     <li>{@code lirs}, the Low Inter-reference Recency Set policy of a
+	 *     segment-locked hash map, or
+	 *     <li>{@code tinylfu}, the frequency-aware W-TinyLFU policy of a hash
+	 *     map which does not lock on reads, which may perform better under
+	 *     heavy concurrent load, or when a few queries dominate the workload.
+	 * </ul>
+	 * <p>
+	 * The default is {@code lirs}.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_EVICTION = "hibernate.query.plan_cache_eviction";
+
+	/**
+	 * Specifies the path of a file to which the HQL query strings with a cached
+	 * {@linkplain org.hibernate.query.spi.HqlInterpretation interpretation} are
+	 * written when the {@link org.hibernate.SessionFactory} is closed, and from
+	 * which they are read and interpreted again, by a background thread, after
+	 * the {@code SessionFactory} is next created, so that the queries used before
+	 * a restart do not need to be parsed when they are first executed after it.
+	 * <p>
+	 * The file is ignored if it was written for a different version of Hibernate,
+	 * a different {@linkplain org.hibernate.dialect.Dialect dialect}, or a
+	 * different mapping of the entities.
+	 * <p>
+	 * By default, no such file is written.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_INTERPRETATION_CACHE_FILE = "hibernate.query.interpretation_cache_file";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -6,6 +6,9 @@
  */
 package org.hibernate.engine.internal;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.MutableCacheKeyBuilder;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
@@ -88,6 +91,75 @@ public final class CacheHelper {
 		}
 		return cachedValue;
 	}
+	/**
+	 * Retrieve the cached data of several entities in a single call to the second-level cache.
+	 *
+	 * @return the cached data keyed by cache key; keys with no cached data are absent
+	 *
+	 * @see CachedDomainDataAccess#getAll
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && !cachedValues.isEmpty();
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					false,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
+	/**
+	 * Retrieve the cached data of several collections in a single call to the second-level cache.
+	 *
+	 * @return the cached data keyed by cache key; keys with no cached data are absent
+	 *
+	 * @see CachedDomainDataAccess#getAll
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			CollectionPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && !cachedValues.isEmpty();
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
 	public static void addBasicValueToCacheKey(
 			MutableCacheKeyBuilder cacheKey,
 			Object value,
@@ -7,6 +7,12 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -17,6 +23,8 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -28,8 +36,9 @@ import static org.hibernate.jdbc.Expectations.NONE;
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final ExecutorService pipeliningExecutor;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -38,14 +47,63 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelining Whether to build pipelined batches
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelining) {
+		this( globalBatchSize, pipelining, Runtime.getRuntime().availableProcessors() );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelining Whether to build pipelined batches
+	 * @param pipeliningThreads The maximum number of threads executing pipelined batches
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING_THREADS
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelining, int pipeliningThreads) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, pipelining=%s, threads=%s)",
+					globalBatchSize,
+					pipelining,
+					pipeliningThreads
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.pipeliningExecutor = pipelining ? createPipeliningExecutor( pipeliningThreads ) : null;
+	}
+
+	private static ExecutorService createPipeliningExecutor(int threads) {
+		if ( threads < 1 ) {
+			throw new ConfigurationException( "The number of batch pipelining threads must be positive: " + threads );
+		}
+		// a bounded number of threads, which are stopped when idle, and
+		// an unbounded queue, since each session has at most one batch
+		// executing at any time, and waits for it before the next one
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				threads,
+				threads,
+				60L,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				new PipeliningThreadFactory()
+		);
+		executor.allowCoreThreadTimeOut( true );
+		return executor;
 	}
 
 	public int getJdbcBatchSize() {
@@ -63,7 +121,16 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		return pipeliningExecutor == null
+				? new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator )
+				: new BatchImpl( key, statementGroupSupplier, batchSize, jdbcCoordinator, pipeliningExecutor );
+	}
+
+	@Override
+	public void stop() {
+		if ( pipeliningExecutor != null ) {
+			pipeliningExecutor.shutdown();
+		}
 	}
 
 
@@ -145,4 +212,16 @@ public class BatchBuilderImpl implements BatchBuilder {
 				jdbcCoordinator
 		);
 	}
+
+	private static class PipeliningThreadFactory implements ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate JDBC Batch Thread " + counter.incrementAndGet() );
+			return thread;
+		}
+	}
 }
@@ -44,7 +44,13 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getBoolean( BatchSettings.BATCH_PIPELINING, configurationValues ),
+					ConfigurationHelper.getInt(
+							BatchSettings.BATCH_PIPELINING_THREADS,
+							configurationValues,
+							Runtime.getRuntime().availableProcessors()
+					)
 			);
 		}
 
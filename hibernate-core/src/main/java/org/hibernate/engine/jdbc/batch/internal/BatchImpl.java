@@ -9,6 +9,11 @@ package org.hibernate.engine.jdbc.batch.internal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
@@ -34,13 +39,34 @@ import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER
 
 /**
  * Standard implementation of Batch
+ * <p>
+ * When created with an {@link Executor}, the batch is <em>pipelined</em>: a full
+ * JDBC batch is executed asynchronously, while the next one is bound using a second
+ * group of statements. The JDBC batches are still executed one at a time, in the
+ * order they were filled, but the binding of a batch overlaps the execution of the
+ * previous one. Every statement of the next group is prepared before the execution
+ * is submitted, so that the only concurrent use of the connection is the binding of
+ * parameters, and {@link #awaitPendingExecution()} must be called before any other
+ * statement is prepared or executed over the connection.
  *
  * @author Steve Ebersole
+ *
+ * @see org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
 	private final int batchSizeToUse;
-	private final PreparedStatementGroup statementGroup;
+	private final Supplier<PreparedStatementGroup> statementGroupSupplier;
+	private final Executor executor;
+
+	// the group being bound
+	private PreparedStatementGroup statementGroup;
+	// when pipelining, the group being executed, or which was last executed
+	private PreparedStatementGroup alternateStatementGroup;
+	private CompletableFuture<Void> pendingExecution;
+	// the monitoring event of the pending execution, begun and completed on the flushing thread
+	private HibernateMonitoringEvent pendingExecutionEvent;
+	private String pendingExecutionSql;
 
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
@@ -56,6 +82,30 @@ public class BatchImpl implements Batch {
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, null, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * Create a pipelined batch, executing full JDBC batches using the given executor.
+	 *
+	 * @param statementGroupSupplier Supplies the two groups of statements used alternately
+	 */
+	public BatchImpl(
+			BatchKey key,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor executor) {
+		this( key, statementGroupSupplier.get(), statementGroupSupplier, batchSizeToUse, jdbcCoordinator, executor );
+	}
+
+	private BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor executor) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -66,6 +116,8 @@ public class BatchImpl implements Batch {
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.statementGroupSupplier = statementGroupSupplier;
+		this.executor = executor;
 
 		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
@@ -75,7 +127,8 @@ public class BatchImpl implements Batch {
 
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Created Batch (%s) - `%s`",
+					"Created %s Batch (%s) - `%s`",
+					executor == null ? "standard" : "pipelined",
 					batchSizeToUse,
 					key.toLoggableString()
 			);
@@ -150,13 +203,28 @@ public class BatchImpl implements Batch {
 		batchPosition++;
 		if ( batchPosition == batchSizeToUse ) {
 			notifyObserversImplicitExecution();
-			performExecution();
+			if ( executor == null ) {
+				performExecution();
+			}
+			else {
+				performPipelinedExecution();
+			}
 			batchPosition = 0;
 			batchExecuted = true;
 		}
 	}
 
 	protected void releaseStatements() {
+		// never clear or close statements which are still executing
+		awaitPendingExecutionQuietly();
+		if ( alternateStatementGroup != null ) {
+			releaseStatements( alternateStatementGroup );
+		}
+		releaseStatements( statementGroup );
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	private void releaseStatements(PreparedStatementGroup statementGroup) {
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
 				BATCH_LOGGER.debugf(
@@ -170,7 +238,6 @@ public class BatchImpl implements Batch {
 		} );
 
 		statementGroup.release();
-		jdbcCoordinator.afterStatementExecution();
 	}
 
 	protected void clearBatch(PreparedStatementDetails statementDetails) {
@@ -228,6 +295,7 @@ public class BatchImpl implements Batch {
 		}
 
 		try {
+			awaitPendingExecution();
 			if ( batchPosition == 0 ) {
 				if( !batchExecuted) {
 					if ( BATCH_LOGGER.isDebugEnabled() ) {
@@ -263,30 +331,12 @@ public class BatchImpl implements Batch {
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
 				final String sql = statementDetails.getSqlString();
-				final PreparedStatement statement = statementDetails.getStatement();
-
-				if ( statement == null ) {
+				if ( statementDetails.getStatement() == null ) {
 					return;
 				}
 
 				try {
-					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-						final int[] rowCounts;
-						final EventManager eventManager = jdbcSessionOwner.getEventManager();
-						final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
-						try {
-							observer.jdbcExecuteBatchStart();
-							rowCounts = statement.executeBatch();
-						}
-						finally {
-							eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
-							observer.jdbcExecuteBatchEnd();
-						}
-						checkRowCounts( rowCounts, statementDetails );
-					}
-					else {
-						statement.executeBatch();
-					}
+					executeStatement( statementDetails, batchPosition, observer );
 				}
 				catch (SQLException e) {
 					abortBatch( e );
@@ -305,7 +355,174 @@ public class BatchImpl implements Batch {
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
+	/**
+	 * Execute the current JDBC batch asynchronously, once the execution of the previous
+	 * one completes, and switch to the other group of statements to bind the next one.
+	 */
+	private void performPipelinedExecution() {
+		awaitPendingExecution();
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Executing JDBC batch asynchronously (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final PreparedStatementGroup executingStatementGroup = statementGroup;
+		final PreparedStatementGroup nextStatementGroup =
+				alternateStatementGroup == null ? statementGroupSupplier.get() : alternateStatementGroup;
+		// prepare the statements of the next batch now, since no statement
+		// may be prepared over the connection while this batch is executing
+		executingStatementGroup.forEachStatement( (tableName, statementDetails) -> {
+			if ( statementDetails.getStatement() != null ) {
+				//noinspection resource
+				nextStatementGroup.resolvePreparedStatementDetails( tableName ).resolveStatement();
+			}
+		} );
+
+		final int executingBatchPosition = batchPosition;
+		final Runnable execution = () -> executingStatementGroup.forEachStatement( (tableName, statementDetails) -> {
+			if ( statementDetails.getStatement() != null ) {
+				try {
+					// the session is not thread-safe, so the observer and the event
+					// manager are notified on the flushing thread
+					executeStatement( statementDetails, executingBatchPosition );
+				}
+				catch (SQLException | RuntimeException e) {
+					throw new PipelinedExecutionException( e, statementDetails.getSqlString() );
+				}
+			}
+		} );
+
+		//noinspection deprecation
+		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+		pendingExecutionSql = identifierTableSql( executingStatementGroup );
+		if ( pendingExecutionSql != null ) {
+			pendingExecutionEvent = jdbcCoordinator.getJdbcSessionOwner().getEventManager().beginJdbcBatchExecutionEvent();
+		}
+		try {
+			pendingExecution = CompletableFuture.runAsync( execution, executor );
+		}
+		catch (RejectedExecutionException e) {
+			// the executor was shut down, execute on the calling thread instead
+			pendingExecution = CompletableFuture.runAsync( execution, Runnable::run );
+		}
+
+		statementGroup = nextStatementGroup;
+		alternateStatementGroup = executingStatementGroup;
+	}
+
+	private static String identifierTableSql(PreparedStatementGroup statementGroup) {
+		final String[] sql = new String[1];
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			if ( statementDetails.getStatement() != null
+					&& statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				sql[0] = statementDetails.getSqlString();
+			}
+		} );
+		return sql[0];
+	}
+
+	/**
+	 * Wait for the completion of the asynchronous execution of the previous JDBC batch,
+	 * if any, and handle its failure just like a failure of {@link #performExecution()}.
+	 * <p>
+	 * Must be called before any other statement is prepared or executed over the
+	 * connection, since the connection is never used by two statements at once.
+	 */
+	public void awaitPendingExecution() {
+		final CompletableFuture<Void> execution = pendingExecution;
+		if ( execution != null ) {
+			pendingExecution = null;
+			try {
+				execution.join();
+			}
+			catch (CompletionException e) {
+				if ( e.getCause() instanceof PipelinedExecutionException ) {
+					final PipelinedExecutionException failure = (PipelinedExecutionException) e.getCause();
+					final Exception cause = (Exception) failure.getCause();
+					abortBatch( cause );
+					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( cause, failure.sql );
+					if ( cause instanceof SQLException ) {
+						throw sqlExceptionHelper.convert( (SQLException) cause, "could not execute batch", failure.sql );
+					}
+					else {
+						throw (RuntimeException) cause;
+					}
+				}
+				throw e;
+			}
+			finally {
+				completePendingExecution();
+			}
+		}
+	}
+
+	private void awaitPendingExecutionQuietly() {
+		final CompletableFuture<Void> execution = pendingExecution;
+		if ( execution != null ) {
+			pendingExecution = null;
+			try {
+				execution.join();
+			}
+			catch (CompletionException e) {
+				BATCH_LOGGER.debug( "Asynchronous execution of JDBC batch failed before release", e.getCause() );
+			}
+			finally {
+				completePendingExecution();
+			}
+		}
+	}
+
+	private void completePendingExecution() {
+		if ( pendingExecutionEvent != null ) {
+			jdbcCoordinator.getJdbcSessionOwner().getEventManager()
+					.completeJdbcBatchExecutionEvent( pendingExecutionEvent, pendingExecutionSql );
+		}
+		pendingExecutionEvent = null;
+		pendingExecutionSql = null;
+		//noinspection deprecation
+		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+	}
+
+	/**
+	 * Execute the statement of a pipelined batch, without notifying the session
+	 */
+	private static void executeStatement(PreparedStatementDetails statementDetails, int batchPosition)
+			throws SQLException {
+		final int[] rowCounts = statementDetails.getStatement().executeBatch();
+		if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+			checkRowCounts( rowCounts, statementDetails, batchPosition );
+		}
+	}
+
+	private void executeStatement(PreparedStatementDetails statementDetails, int batchPosition, JdbcObserver observer)
+			throws SQLException {
+		final PreparedStatement statement = statementDetails.getStatement();
+		if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+			final int[] rowCounts;
+			final EventManager eventManager = jdbcCoordinator.getJdbcSessionOwner().getEventManager();
+			final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
+			try {
+				observer.jdbcExecuteBatchStart();
+				rowCounts = statement.executeBatch();
+			}
+			finally {
+				eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, statementDetails.getSqlString() );
+				observer.jdbcExecuteBatchEnd();
+			}
+			checkRowCounts( rowCounts, statementDetails, batchPosition );
+		}
+		else {
+			statement.executeBatch();
+		}
+	}
+
+	private static void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails, int batchPosition)
+			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 ) {
 			if ( numberOfRowCounts != batchPosition ) {
@@ -340,4 +557,16 @@ public class BatchImpl implements Batch {
 	public String toString() {
 		return "BatchImpl(" + getKey().toLoggableString() + ")";
 	}
+
+	/**
+	 * Carries the failure of an asynchronous execution back to the flushing thread
+	 */
+	private static class PipelinedExecutionException extends RuntimeException {
+		private final String sql;
+
+		private PipelinedExecutionException(Exception cause, String sql) {
+			super( cause );
+			this.sql = sql;
+		}
+	}
 }
@@ -21,7 +21,9 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.HibernateException;
@@ -346,6 +348,11 @@ public class DriverManagerConnectionProviderImpl
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		/**
+		 * Guards the growth of the pool. A lock is used instead of the monitor lock to avoid
+		 * pinning when using virtual threads, since a new connection is opened while holding it.
+		 */
+		private final Lock allocationLock = new ReentrantLock();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
@@ -419,12 +426,16 @@ public class DriverManagerConnectionProviderImpl
 			do {
 				conn = availableConnections.poll();
 				if ( conn == null ) {
-					synchronized (allConnections) {
+					allocationLock.lock();
+					try {
 						if ( allConnections.size() < maxSize ) {
 							addConnections( 1 );
 							return poll();
 						}
 					}
+					finally {
+						allocationLock.unlock();
+					}
 					throw new HibernateException(
 							"The internal connection pool has reached its maximum size and no connection is currently available" );
 				}
@@ -13,6 +13,8 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -54,7 +56,10 @@ public class ExtractedDatabaseMetaDataImpl implements ExtractedDatabaseMetaData
 	//Lazily initialized: loading all sequence information upfront has been
 	//shown to be too slow in some cases. In this way we only load it
 	//when there is actual need for these details.
-	private List<SequenceInformation> sequenceInformationList;
+	private volatile List<SequenceInformation> sequenceInformationList;
+	//A lock is used instead of the monitor lock to avoid pinning when
+	//using virtual threads, as the metadata is read while holding it.
+	private final Lock sequenceInformationLock = new ReentrantLock();
 
 	private ExtractedDatabaseMetaDataImpl(
 			JdbcEnvironment jdbcEnvironment,
@@ -141,16 +146,27 @@ public class ExtractedDatabaseMetaDataImpl implements ExtractedDatabaseMetaData
 	}
 
 	@Override
-	public synchronized List<SequenceInformation> getSequenceInformationList() {
+	public List<SequenceInformation> getSequenceInformationList() {
 		if ( jdbcMetadataAccessible ) {
 			//Loading the sequence information can take a while on large databases,
 			//even minutes in some cases.
 			//We trigger this lazily as only certain combinations of configurations,
 			//mappings and used features actually trigger any use of such details.
-			if ( sequenceInformationList == null ) {
-				sequenceInformationList = sequenceInformationList();
+			List<SequenceInformation> sequenceInformation = sequenceInformationList;
+			if ( sequenceInformation == null ) {
+				sequenceInformationLock.lock();
+				try {
+					sequenceInformation = sequenceInformationList;
+					if ( sequenceInformation == null ) {
+						sequenceInformation = sequenceInformationList();
+						sequenceInformationList = sequenceInformation;
+					}
+				}
+				finally {
+					sequenceInformationLock.unlock();
+				}
 			}
-			return sequenceInformationList;
+			return sequenceInformation;
 		}
 		else {
 			return Collections.emptyList();
@@ -19,6 +19,7 @@ import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.JdbcBatchLogging;
+import org.hibernate.engine.jdbc.batch.internal.BatchImpl;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
@@ -205,6 +206,16 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	/**
+	 * Wait for the asynchronous execution of a {@linkplain org.hibernate.cfg.BatchSettings#BATCH_PIPELINING
+	 * pipelined} JDBC batch, if any, since no other statement may use the connection meanwhile.
+	 */
+	void awaitPendingBatchExecution() {
+		if ( currentBatch instanceof BatchImpl ) {
+			( (BatchImpl) currentBatch ).awaitPendingExecution();
+		}
+	}
+
 	@Override
 	public void abortBatch() {
 		if ( currentBatch != null ) {
@@ -298,6 +309,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitPendingBatchExecution();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
@@ -134,6 +134,7 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 	}
 
 	protected final Connection connection() {
+		jdbcCoordinator.awaitPendingBatchExecution();
 		return logicalConnection().getPhysicalConnection();
 	}
 
@@ -82,6 +82,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	}
 
 	private void jdbcExecuteStatementStart() {
+		if ( jdbcCoordinator instanceof JdbcCoordinatorImpl ) {
+			( (JdbcCoordinatorImpl) jdbcCoordinator ).awaitPendingBatchExecution();
+		}
 		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementStart();
 	}
 
@@ -51,6 +51,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	protected final Connection connection() {
+		jdbcCoordinator.awaitPendingBatchExecution();
 		return logicalConnection().getPhysicalConnection();
 	}
 
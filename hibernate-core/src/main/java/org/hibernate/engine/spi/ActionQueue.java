@@ -37,12 +37,14 @@ import org.hibernate.action.internal.EntityIdentityInsertAction;
 import org.hibernate.action.internal.EntityInsertAction;
 import org.hibernate.action.internal.EntityUpdateAction;
 import org.hibernate.action.internal.OrphanRemovalAction;
+import org.hibernate.action.internal.QueryCachePartitionSpaces;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
 import org.hibernate.action.internal.UnresolvedEntityInsertActions;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.QueryCachePartitioning;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -426,7 +428,7 @@ public class ActionQueue {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( executable.getPropertySpaces() );
+			invalidateSpaces( resolveSpacesToInvalidate( executable ) );
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -664,7 +666,7 @@ public class ActionQueue {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]) );
+				invalidateSpaces( resolveSpacesToInvalidate( list ) );
 			}
 			// @NonNull String @Nullable [] - array nullable, elements not
 			// @Nullable String @NonNull [] - elements nullable, array not
@@ -686,6 +688,32 @@ public class ActionQueue {
 		}
 	}
 
+	private String[] resolveSpacesToInvalidate(Executable executable) {
+		final QueryCachePartitioning partitioning = session.getFactory().getCache().getQueryCachePartitioning();
+		if ( partitioning == null ) {
+			return executable.getPropertySpaces();
+		}
+		else {
+			final Set<String> spaces = new HashSet<>();
+			QueryCachePartitionSpaces.addSpacesToInvalidate( executable, partitioning, spaces );
+			return spaces.toArray( new String[0] );
+		}
+	}
+
+	private String[] resolveSpacesToInvalidate(ExecutableList<?> list) {
+		final QueryCachePartitioning partitioning = session.getFactory().getCache().getQueryCachePartitioning();
+		if ( partitioning == null ) {
+			return list.getQuerySpaces().toArray( new String[0] );
+		}
+		else {
+			final Set<String> spaces = new HashSet<>();
+			for ( ComparableExecutable executable : list ) {
+				QueryCachePartitionSpaces.addSpacesToInvalidate( executable, partitioning, spaces );
+			}
+			return spaces.toArray( new String[0] );
+		}
+	}
+
 	/**
 	 * This method is now called once per execution of an ExecutableList or once for execution of an Execution.
 	 *
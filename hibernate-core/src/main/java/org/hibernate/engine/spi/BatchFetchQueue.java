@@ -6,10 +6,15 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -215,6 +220,8 @@ public class BatchFetchQueue {
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final @Nullable CachedKeysLookahead cachedKeys =
+				cachedEntityKeys( set, entityDescriptor.getEntityPersister(), domainBatchSize );
 
 		int batchPosition = 1;
 		int end = -1;
@@ -230,7 +237,7 @@ public class BatchFetchQueue {
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( cachedKeys == null || !cachedKeys.isCached( key ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
@@ -275,6 +282,7 @@ public class BatchFetchQueue {
 		final EntityPersister entityPersister = entityDescriptor.getEntityPersister();
 		final Type identifierType = entityPersister.getIdentifierType();
 		if ( set != null ) {
+			final @Nullable CachedKeysLookahead cachedKeys = cachedEntityKeys( set, entityPersister, maxBatchSize );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -285,7 +293,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityPersister ) ) {
+					if ( cachedKeys == null || !cachedKeys.isCached( key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -303,19 +311,31 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private @Nullable CachedKeysLookahead cachedEntityKeys(
+			LinkedHashSet<EntityKey> keys,
+			EntityPersister persister,
+			int windowSize) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
+			return new CachedKeysLookahead( keys.iterator(), windowSize ) {
+				@Override
+				Object generateCacheKey(Object queuedKey) {
+					return cache.generateCacheKey(
+							( (EntityKey) queuedKey ).getIdentifier(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					);
+				}
+
+				@Override
+				Map<Object, Object> getFromCache(Collection<Object> cacheKeys) {
+					return CacheHelper.fromSharedCache( session, cacheKeys, persister, cache );
+				}
+			};
 		}
-		return false;
+		return null;
 	}
 
 
@@ -384,6 +404,9 @@ public class BatchFetchQueue {
 			return;
 		}
 
+		final @Nullable CachedKeysLookahead cachedKeys =
+				cachedCollectionKeys( map, pluralAttributeMapping.getCollectionDescriptor(), batchSize );
+
 		int i = 1;
 		int end = -1;
 		boolean checkForEnd = false;
@@ -427,7 +450,7 @@ public class BatchFetchQueue {
 			if ( isEqual ) {
 				end = i;
 			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+			else if ( cachedKeys == null || !cachedKeys.isCached( loadedKey ) ) {
 				//noinspection unchecked
 				collector.accept( i++, (T) loadedKey );
 			}
@@ -471,6 +494,7 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final @Nullable CachedKeysLookahead cachedKeys = cachedCollectionKeys( map, collectionPersister, batchSize );
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final Object loadedKey = ce.getLoadedKey();
@@ -505,7 +529,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
+				else if ( cachedKeys == null || !cachedKeys.isCached( loadedKey ) ) {
 					keys[i++] = loadedKey;
 					//count++;
 				}
@@ -521,19 +545,88 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	private @Nullable CachedKeysLookahead cachedCollectionKeys(
+			LinkedHashMap<CollectionEntry, PersistentCollection<?>> collections,
+			CollectionPersister persister,
+			int windowSize) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			final Iterator<?> loadedKeys = collections.entrySet().stream()
+					.filter( entry -> !entry.getValue().wasInitialized() )
+					.map( entry -> entry.getKey().getLoadedKey() )
+					.iterator();
+			return new CachedKeysLookahead( loadedKeys, windowSize ) {
+				@Override
+				Object generateCacheKey(Object queuedKey) {
+					return cache.generateCacheKey(
+							queuedKey,
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					);
+				}
+
+				@Override
+				Map<Object, Object> getFromCache(Collection<Object> cacheKeys) {
+					return CacheHelper.fromSharedCache( session, cacheKeys, persister, cache );
+				}
+			};
 		}
-		return false;
+		return null;
+	}
+
+	/**
+	 * Determines which of the keys queued for batch fetching are already present in
+	 * the second-level cache.  Rather than asking the cache for every key, the cache
+	 * entries are fetched {@code windowSize} keys at a time, following the iteration
+	 * order of the queue, with a single call to the cache per window.
+	 */
+	private abstract static class CachedKeysLookahead {
+		private final Iterator<?> queuedKeys;
+		private final int windowSize;
+		private final Set<Object> window = new HashSet<>();
+		private final Set<Object> cached = new HashSet<>();
+
+		private CachedKeysLookahead(Iterator<?> queuedKeys, int windowSize) {
+			this.queuedKeys = queuedKeys;
+			this.windowSize = Math.max( windowSize, 1 );
+		}
+
+		/**
+		 * Is the given key in the second-level cache?  Keys must be passed in the
+		 * iteration order of the queue, though keys may be skipped.
+		 */
+		boolean isCached(Object queuedKey) {
+			while ( !window.contains( queuedKey ) && queuedKeys.hasNext() ) {
+				fetchNextWindow();
+			}
+			return cached.contains( queuedKey );
+		}
+
+		private void fetchNextWindow() {
+			window.clear();
+			cached.clear();
+			final Map<Object, Object> queuedKeysByCacheKey = new HashMap<>( windowSize );
+			while ( window.size() < windowSize && queuedKeys.hasNext() ) {
+				final Object queuedKey = queuedKeys.next();
+				if ( queuedKey != null && window.add( queuedKey ) ) {
+					queuedKeysByCacheKey.put( generateCacheKey( queuedKey ), queuedKey );
+				}
+			}
+			if ( !queuedKeysByCacheKey.isEmpty() ) {
+				final Map<Object, Object> cachedValues = getFromCache( queuedKeysByCacheKey.keySet() );
+				for ( Entry<Object, Object> entry : queuedKeysByCacheKey.entrySet() ) {
+					if ( cachedValues.containsKey( entry.getKey() ) ) {
+						cached.add( entry.getValue() );
+					}
+				}
+			}
+		}
+
+		abstract Object generateCacheKey(Object queuedKey);
+
+		abstract Map<Object, Object> getFromCache(Collection<Object> cacheKeys);
 	}
 
 	public SharedSessionContractImplementor getSession() {
@@ -42,6 +42,7 @@ import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.metamodel.spi.RuntimeMetamodelsImplementor;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.PreparedSelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.relational.SchemaManager;
@@ -351,6 +352,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getCriteriaBuilder();
 	}
 
+	@Override
+	public <R> PreparedSelectionQuery<R> prepareQuery(String hql, Class<R> resultType) {
+		return delegate.prepareQuery( hql, resultType );
+	}
+
 	@Override @Deprecated
 	public MetamodelImplementor getMetamodel() {
 		return delegate.getMetamodel();
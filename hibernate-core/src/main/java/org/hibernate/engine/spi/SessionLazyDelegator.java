@@ -36,6 +36,7 @@ import org.hibernate.jdbc.ReturningWork;
 import org.hibernate.jdbc.Work;
 import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.query.MutationQuery;
+import org.hibernate.query.PreparedSelectionQuery;
 import org.hibernate.query.NativeQuery;
 import org.hibernate.query.Query;
 import org.hibernate.query.SelectionQuery;
@@ -754,6 +755,11 @@ public class SessionLazyDelegator implements Session {
 		return this.lazySession.get().createSelectionQuery( criteria );
 	}
 
+	@Override
+	public <R> SelectionQuery<R> createSelectionQuery(PreparedSelectionQuery<R> preparedQuery) {
+		return this.lazySession.get().createSelectionQuery( preparedQuery );
+	}
+
 	@Override
 	public MutationQuery createMutationQuery(String hqlString) {
 		return this.lazySession.get().createMutationQuery( hqlString );
@@ -33,6 +33,7 @@ import org.hibernate.jdbc.Work;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.procedure.ProcedureCall;
 import org.hibernate.query.MutationQuery;
+import org.hibernate.query.PreparedSelectionQuery;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaInsert;
@@ -159,6 +160,11 @@ public class SharedSessionDelegatorBaseImpl implements SharedSessionContractImpl
 		return queryDelegate().createSelectionQuery( criteria );
 	}
 
+	@Override
+	public <R> SelectionQuery<R> createSelectionQuery(PreparedSelectionQuery<R> preparedQuery) {
+		return queryDelegate().createSelectionQuery( preparedQuery );
+	}
+
 	@Override
 	public <T> QueryImplementor<T> createQuery(String queryString, Class<T> resultType) {
 		return queryDelegate().createQuery( queryString, resultType );
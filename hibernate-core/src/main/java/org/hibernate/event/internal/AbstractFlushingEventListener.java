@@ -252,17 +252,25 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		// when enabled, and there are enough entities, dirty check them
+		// in parallel ahead of the flush events, which reuse the results
+		final ParallelDirtyCheck parallelDirtyCheck = ParallelDirtyCheck.perform( entityEntries, source );
+
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
+				if ( parallelDirtyCheck != null ) {
+					parallelDirtyCheck.applyTo( entityEvent, i );
+				}
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
 
@@ -14,6 +14,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Versioning;
@@ -32,6 +33,7 @@ import org.hibernate.event.spi.FlushEntityEvent;
 import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.EmptyInterceptor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
@@ -45,6 +47,7 @@ import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCH
 import static org.hibernate.engine.internal.ManagedTypeHelper.asManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asSelfDirtinessTracker;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfSelfDirtinessTracker;
@@ -136,9 +139,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		final EntityEntry entry = event.getEntityEntry();
 		final EventSource session = event.getSession();
 
-		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
+		final boolean mightBeDirty = entry.requiresDirtyCheck( entity ) && !isUnmodified( event );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, session );
+		final Object[] values = getValues( event, mightBeDirty );
 
 		event.setPropertyValues( values );
 
@@ -167,7 +170,59 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	/**
+	 * Determine whether the entity is certainly unmodified since it was loaded,
+	 * without taking a snapshot of its current state, in the common case where
+	 * no interceptor, dirtiness strategy, bytecode enhancement, collection, or
+	 * natural id would need the snapshot. An unmodified entity is then flushed
+	 * using its loaded state, just like an entity which does not require a
+	 * dirty check at all.
+	 */
+	private boolean isUnmodified(FlushEntityEvent event) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final EntityPersister persister = entry.getPersister();
+		final EventSource session = event.getSession();
+		final Object[] loadedState = entry.getLoadedState();
+		if ( entry.getStatus() != Status.MANAGED
+				|| loadedState == null
+				|| event.hasPrecomputedDirtyCheck()
+				|| isManagedEntity( entity )
+				|| persister.hasCollections()
+				|| persister.hasNaturalIdentifier()
+				|| persister.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading()
+				|| session.getInterceptor() != EmptyInterceptor.INSTANCE
+				|| event.getFactory().getCustomEntityDirtinessStrategy() != DefaultCustomEntityDirtinessStrategy.INSTANCE ) {
+			return false;
+		}
+
+		checkId( entity, persister, entry.getId(), session );
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent dirtyCalculationEvent = eventManager.beginDirtyCalculationEvent();
+		int[] dirtyProperties = null;
+		try {
+			session.getEventListenerManager().dirtyCalculationStart();
+			if ( !persister.isDirty( entity, loadedState, session ) ) {
+				return true;
+			}
+			else {
+				// find the dirty properties right away, and let the full
+				// dirty check reuse them without reporting them again
+				final Object[] values = persister.getValues( entity );
+				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				event.setPrecomputedDirtyCheck( values, dirtyProperties, true );
+				return false;
+			}
+		}
+		finally {
+			eventManager.completeDirtyCalculationEvent( dirtyCalculationEvent, session, persister, entry, dirtyProperties );
+			session.getEventListenerManager().dirtyCalculationEnd( dirtyProperties != null );
+		}
+	}
+
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -179,9 +234,12 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		}
 		else {
 			final EntityPersister persister = entry.getPersister();
+			final EventSource session = event.getSession();
 			checkId( entity, persister, entry.getId(), session );
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already grabbed by a parallel dirty check
+			final Object[] values = event.hasPrecomputedDirtyCheck()
+					? event.getPrecomputedPropertyValues()
+					: persister.getValues( entity );
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -488,6 +546,15 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 	}
 
 	private static int[] performDirtyCheck(FlushEntityEvent event) {
+		if ( event.isPrecomputedDirtyCheckReported()
+				&& event.getPropertyValues() == event.getPrecomputedPropertyValues() ) {
+			// the dirty properties were already found, and reported, by isUnmodified()
+			final int[] dirtyProperties = event.getPrecomputedDirtyProperties();
+			event.setDirtyProperties( dirtyProperties );
+			event.setDirtyCheckHandledByInterceptor( false );
+			event.setDirtyCheckPossible( true );
+			return dirtyProperties;
+		}
 		final SessionImplementor session = event.getSession();
 		boolean dirtyCheckPossible;
 		int[] dirtyProperties = null;
@@ -502,8 +569,11 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object[] loadedState = entry.getLoadedState();
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
-				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				// dirty check against the usual snapshot of the entity,
+				// unless this was already done by a parallel dirty check
+				dirtyProperties = event.hasPrecomputedDirtyCheck() && values == event.getPrecomputedPropertyValues()
+						? event.getPrecomputedDirtyProperties()
+						: persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -592,9 +662,13 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 				}
 			}
 		}
+		final CustomEntityDirtinessStrategy strategy = event.getFactory().getCustomEntityDirtinessStrategy();
+		if ( strategy == DefaultCustomEntityDirtinessStrategy.INSTANCE ) {
+			// the default strategy never finds anything, don't bother creating the context
+			return null;
+		}
 		final DirtyCheckContextImpl context = new DirtyCheckContextImpl();
-		event.getFactory().getCustomEntityDirtinessStrategy()
-				.findDirty( event.getEntity(), event.getEntityEntry().getPersister(), event.getSession(), context );
+		strategy.findDirty( event.getEntity(), event.getEntityEntry().getPersister(), event.getSession(), context );
 		return context.found;
 	}
 
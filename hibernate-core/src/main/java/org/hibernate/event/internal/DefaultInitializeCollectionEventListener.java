@@ -144,6 +144,9 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 			else {
 				final CollectionCacheEntry cacheEntry = (CollectionCacheEntry)
 						persister.getCacheEntryStructure().destructure( ce, factory );
+				if ( cacheEntry == null ) {
+					return false;
+				}
 				final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 				cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
 				persistenceContext.getCollectionEntry( collection ).postInitialize( collection, source );
@@ -0,0 +1,241 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Performs the dirty check of managed entities against their loaded state in
+ * parallel, ahead of the (sequential) {@link FlushEntityEvent}s, which then
+ * reuse the results.
+ * <p>
+ * Nothing is checked in parallel when an {@link org.hibernate.Interceptor},
+ * a custom {@link FlushEntityEventListener}, or a {@code PreUpdate} callback
+ * is in use, since these might change other entities during the flush.
+ * <p>
+ * Only entities whose dirty check does not need to interact with the session
+ * are checked in parallel: their persister must not have collections, lazy
+ * attributes, or associations nested in embeddables, and any association
+ * must still reference the same instance as when the entity was loaded.
+ * Everything else is left to {@link DefaultFlushEntityEventListener}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+	/**
+	 * The number of entities below which a task is no longer split
+	 */
+	private static final int MINIMUM_TASK_SIZE = 256;
+
+	private final Map.Entry<Object, EntityEntry>[] entityEntries;
+	private final EventSource session;
+	/**
+	 * Per persister, the indexes of its association attributes, or {@code null}
+	 * if its entities are not eligible
+	 */
+	private final IdentityHashMap<EntityPersister, int[]> associationIndexes = new IdentityHashMap<>();
+	private final Object[][] values;
+	private final int[][] dirtyProperties;
+
+	private ParallelDirtyCheck(Map.Entry<Object, EntityEntry>[] entityEntries, EventSource session) {
+		this.entityEntries = entityEntries;
+		this.session = session;
+		this.values = new Object[entityEntries.length][];
+		this.dirtyProperties = new int[entityEntries.length][];
+	}
+
+	/**
+	 * Dirty check the given entities in parallel, if the number of entities
+	 * reaches the configured threshold.
+	 *
+	 * @return The results, or {@code null} if parallel dirty checking was not
+	 * performed
+	 */
+	static ParallelDirtyCheck perform(Map.Entry<Object, EntityEntry>[] entityEntries, EventSource session) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getParallelDirtyCheckingThreshold();
+		if ( threshold <= 0
+				|| entityEntries.length < threshold
+				|| ForkJoinPool.getCommonPoolParallelism() <= 1 ) {
+			return null;
+		}
+
+		if ( mightModifyOtherEntities( entityEntries, session ) ) {
+			// user code run during the flush might change entities after
+			// they were checked in parallel, so check them sequentially
+			return null;
+		}
+
+		final ParallelDirtyCheck dirtyCheck = new ParallelDirtyCheck( entityEntries, session );
+		final int[] candidates = new int[entityEntries.length];
+		final int candidateCount = dirtyCheck.collectCandidates( candidates );
+		if ( candidateCount < threshold ) {
+			return null;
+		}
+
+		ForkJoinPool.commonPool().invoke( dirtyCheck.new DirtyCheckTask( candidates, 0, candidateCount ) );
+		return dirtyCheck;
+	}
+
+	/**
+	 * Determine whether any {@link org.hibernate.Interceptor}, custom
+	 * {@link FlushEntityEventListener}, or {@code PreUpdate} callback might be
+	 * called while the entities are flushed. Any of these might change the
+	 * state of an entity after it was dirty checked in parallel.
+	 */
+	private static boolean mightModifyOtherEntities(Map.Entry<Object, EntityEntry>[] entityEntries, EventSource session) {
+		if ( session.getInterceptor() != EmptyInterceptor.INSTANCE ) {
+			return true;
+		}
+		final SessionFactoryImplementor factory = session.getFactory();
+		for ( FlushEntityEventListener listener : factory.getFastSessionServices().eventListenerGroup_FLUSH_ENTITY.listeners() ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+				return true;
+			}
+		}
+		final CallbackRegistry callbackRegistry = factory.getEventEngine().getCallbackRegistry();
+		final IdentityHashMap<EntityPersister, Boolean> checkedPersisters = new IdentityHashMap<>();
+		for ( Map.Entry<Object, EntityEntry> entityEntry : entityEntries ) {
+			final EntityPersister persister = entityEntry.getValue().getPersister();
+			if ( checkedPersisters.put( persister, Boolean.TRUE ) == null
+					&& callbackRegistry.hasRegisteredCallbacks( persister.getMappedClass(), CallbackType.PRE_UPDATE ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Supply the result of the parallel dirty check, if any, of the entity at
+	 * the given position to its flush event.
+	 */
+	void applyTo(FlushEntityEvent event, int position) {
+		if ( values[position] != null ) {
+			event.setPrecomputedDirtyCheck( values[position], dirtyProperties[position] );
+		}
+	}
+
+	/**
+	 * Sequentially select the entities which may be checked in parallel.
+	 *
+	 * @return The number of candidates written to {@code candidates}
+	 */
+	private int collectCandidates(int[] candidates) {
+		int count = 0;
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final Object entity = entityEntries[i].getKey();
+			final EntityEntry entry = entityEntries[i].getValue();
+			if ( entry.getStatus() == Status.MANAGED
+					&& entry.getLoadedState() != null
+					&& !isSelfDirtinessTracker( entity )
+					&& entry.requiresDirtyCheck( entity )
+					&& isEligible( entry.getPersister() ) ) {
+				candidates[count++] = i;
+			}
+		}
+		return count;
+	}
+
+	private boolean isEligible(EntityPersister persister) {
+		if ( !associationIndexes.containsKey( persister ) ) {
+			associationIndexes.put( persister, findAssociationIndexes( persister ) );
+		}
+		return associationIndexes.get( persister ) != null;
+	}
+
+	private static int[] findAssociationIndexes(EntityPersister persister) {
+		if ( persister.hasCollections()
+				|| persister.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading() ) {
+			return null;
+		}
+		final Type[] types = persister.getPropertyTypes();
+		final int[] indexes = new int[types.length];
+		int count = 0;
+		for ( int i = 0; i < types.length; i++ ) {
+			final Type type = types[i];
+			if ( type.isAssociationType() ) {
+				indexes[count++] = i;
+			}
+			else if ( type.isComponentType() && containsAssociation( (ComponentType) type ) ) {
+				return null;
+			}
+		}
+		return Arrays.copyOf( indexes, count );
+	}
+
+	private static boolean containsAssociation(ComponentType componentType) {
+		for ( Type type : componentType.getSubtypes() ) {
+			if ( type.isAssociationType()
+					|| ( type.isComponentType() && containsAssociation( (ComponentType) type ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void dirtyCheck(int position) {
+		final Object entity = entityEntries[position].getKey();
+		final EntityEntry entry = entityEntries[position].getValue();
+		final EntityPersister persister = entry.getPersister();
+		final Object[] loadedState = entry.getLoadedState();
+		final Object[] currentState = persister.getValues( entity );
+		for ( int index : associationIndexes.get( persister ) ) {
+			if ( currentState[index] != loadedState[index] ) {
+				// comparing the associated entities requires the session
+				return;
+			}
+		}
+		dirtyProperties[position] = persister.findDirty( currentState, loadedState, entity, session );
+		values[position] = currentState;
+	}
+
+	private final class DirtyCheckTask extends RecursiveAction {
+		private final int[] candidates;
+		private final int start;
+		private final int end;
+
+		private DirtyCheckTask(int[] candidates, int start, int end) {
+			this.candidates = candidates;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if ( end - start <= MINIMUM_TASK_SIZE ) {
+				for ( int i = start; i < end; i++ ) {
+					dirtyCheck( candidates[i] );
+				}
+			}
+			else {
+				final int middle = ( start + end ) >>> 1;
+				invokeAll(
+						new DirtyCheckTask( candidates, start, middle ),
+						new DirtyCheckTask( candidates, middle, end )
+				);
+			}
+		}
+	}
+}
@@ -21,6 +21,9 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
 	private EntityEntry entityEntry;
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
+	private boolean precomputedDirtyCheckReported;
 	private boolean allowedToReuse;//allows this event instance to be reused for multiple events: special case to GC
 	private int instanceGenerationId;//in support of event instance reuse: to double check no recursive/nested use is happening
 
@@ -79,6 +82,65 @@ public class FlushEntityEvent extends AbstractEvent {
 		return entity;
 	}
 
+	/**
+	 * Supply the current state of the entity, and the result of dirty checking it
+	 * against its loaded state, when these were computed ahead of the event.
+	 *
+	 * @since 6.6
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+		this.precomputedDirtyCheckReported = false;
+	}
+
+	/**
+	 * Supply the current state of the entity, and the result of dirty checking it
+	 * against its loaded state, when these were computed ahead of the event.
+	 *
+	 * @param reported {@code true} if the dirty calculation was already reported to the
+	 * {@link EventManager} and to the {@link org.hibernate.SessionEventListener}s
+	 *
+	 * @since 6.6
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties, boolean reported) {
+		setPrecomputedDirtyCheck( propertyValues, dirtyProperties );
+		this.precomputedDirtyCheckReported = reported;
+	}
+
+	/**
+	 * @return {@code true} if {@link #setPrecomputedDirtyCheck} was called for this event
+	 *
+	 * @since 6.6
+	 */
+	public boolean hasPrecomputedDirtyCheck() {
+		return precomputedPropertyValues != null;
+	}
+
+	/**
+	 * @since 6.6
+	 */
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+
+	/**
+	 * @since 6.6
+	 */
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+
+	/**
+	 * @return {@code true} if the {@linkplain #setPrecomputedDirtyCheck(Object[], int[], boolean)
+	 * precomputed dirty check} was already reported as a dirty calculation
+	 *
+	 * @since 6.6
+	 */
+	public boolean isPrecomputedDirtyCheckReported() {
+		return precomputedDirtyCheckReported;
+	}
+
 	/**
 	 * This is a terrible anti-pattern, but particular circumstances call for being
 	 * able to reuse the same event instance: this is otherwise allocated in hot loops
@@ -102,6 +164,9 @@ public class FlushEntityEvent extends AbstractEvent {
 		this.hasDirtyCollection = false;
 		this.dirtyCheckPossible = false;
 		this.dirtyCheckHandledByInterceptor = false;
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
+		this.precomputedDirtyCheckReported = false;
 	}
 
 	public boolean isAllowedToReuse() {
@@ -6,8 +6,23 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.Tuple;
+import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -31,6 +46,13 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 
 	private boolean closed;
 
+	private int detachWindow;
+	// when a detach window is set, the last chunk of rows in which each managed entity was used
+	private Map<EntityKey, Integer> lastChunkByEntityKey;
+	private R lastRow;
+	private int chunk;
+	private int rowsInChunk;
+
 	public AbstractScrollableResults(
 			JdbcValues jdbcValues,
 			JdbcValuesSourceProcessingOptions processingOptions,
@@ -83,6 +105,9 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 
 	protected void afterScrollOperation() {
 		getPersistenceContext().afterScrollOperation();
+		if ( lastChunkByEntityKey != null ) {
+			detachEntitiesOutsideWindow();
+		}
 	}
 
 	@Override
@@ -90,6 +115,155 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		getJdbcValues().setFetchSize(fetchSize);
 	}
 
+	@Override
+	public void setDetachWindow(int rows) {
+		if ( rows < 0 ) {
+			throw new IllegalArgumentException( "Detach window must not be negative" );
+		}
+		detachWindow = rows;
+		if ( rows == 0 || !persistenceContext.isSessionImplementor() ) {
+			lastChunkByEntityKey = null;
+		}
+		else if ( lastChunkByEntityKey == null ) {
+			lastChunkByEntityKey = new HashMap<>();
+		}
+	}
+
+	/**
+	 * Rows are grouped in chunks of {@link #detachWindow} rows. At the end of each chunk,
+	 * the entities which were not used by its rows are detached, after flushing the
+	 * session, so that at most two chunks of rows are managed at once. An entity is
+	 * used by a row if it is returned by the row, or reachable from an entity returned
+	 * by the row through loaded associations, or if it was loaded while reading the row.
+	 */
+	private void detachEntitiesOutsideWindow() {
+		final R row = getCurrentRow();
+		if ( row != null && row != lastRow ) {
+			lastRow = row;
+			use( row );
+			if ( ++rowsInChunk == detachWindow ) {
+				endChunk();
+			}
+		}
+	}
+
+	private void use(Object result) {
+		if ( result instanceof Object[] ) {
+			for ( Object element : (Object[]) result ) {
+				use( element );
+			}
+		}
+		else if ( result instanceof Tuple ) {
+			use( ( (Tuple) result ).toArray() );
+		}
+		else if ( result != null ) {
+			useEntity( result );
+		}
+	}
+
+	private void useEntity(Object value) {
+		final PersistenceContext context = persistenceContext.getPersistenceContextInternal();
+		final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( value );
+		if ( lazyInitializer != null ) {
+			if ( lazyInitializer.isUninitialized() ) {
+				if ( context.containsProxy( value ) ) {
+					lastChunkByEntityKey.put(
+							persistenceContext.generateEntityKey(
+									lazyInitializer.getInternalIdentifier(),
+									persistenceContext.getFactory().getMappingMetamodel()
+											.getEntityDescriptor( lazyInitializer.getEntityName() )
+							),
+							chunk
+					);
+				}
+			}
+			else {
+				useEntity( lazyInitializer.getImplementation() );
+			}
+		}
+		else {
+			final EntityEntry entry = context.getEntry( value );
+			if ( entry != null && entry.getEntityKey() != null ) {
+				final Integer previousChunk = lastChunkByEntityKey.put( entry.getEntityKey(), chunk );
+				if ( previousChunk == null || previousChunk != chunk ) {
+					// first use in this chunk, so also use the entities reachable from it
+					for ( Object propertyValue : entry.getPersister().getValues( value ) ) {
+						useAssociated( propertyValue );
+					}
+				}
+			}
+		}
+	}
+
+	private void useAssociated(Object value) {
+		if ( value instanceof PersistentCollection ) {
+			final PersistentCollection<?> collection = (PersistentCollection<?>) value;
+			if ( collection.wasInitialized() ) {
+				final Object elements = collection.getValue();
+				if ( elements instanceof Map ) {
+					useAssociated( ( (Map<?, ?>) elements ).keySet() );
+					useAssociated( ( (Map<?, ?>) elements ).values() );
+				}
+				else if ( elements instanceof Collection ) {
+					for ( Object element : (Collection<?>) elements ) {
+						useAssociated( element );
+					}
+				}
+			}
+		}
+		else if ( value instanceof Collection ) {
+			for ( Object element : (Collection<?>) value ) {
+				useAssociated( element );
+			}
+		}
+		else if ( value != null
+				&& ( persistenceContext.getPersistenceContextInternal().getEntry( value ) != null
+						|| persistenceContext.getPersistenceContextInternal().containsProxy( value ) ) ) {
+			useEntity( value );
+		}
+	}
+
+	private void endChunk() {
+		final PersistenceContext context = persistenceContext.getPersistenceContextInternal();
+		// the entities loaded while reading the rows of this chunk, but not reachable from them
+		for ( Map.Entry<Object, EntityEntry> entry : context.reentrantSafeEntityEntries() ) {
+			final EntityKey entityKey = entry.getValue().getEntityKey();
+			if ( entityKey != null ) {
+				lastChunkByEntityKey.putIfAbsent( entityKey, chunk );
+			}
+		}
+
+		final List<EntityKey> unusedEntityKeys = new ArrayList<>();
+		for ( Map.Entry<EntityKey, Integer> entry : lastChunkByEntityKey.entrySet() ) {
+			if ( entry.getValue() != chunk ) {
+				unusedEntityKeys.add( entry.getKey() );
+			}
+		}
+		if ( !unusedEntityKeys.isEmpty() ) {
+			final SessionImplementor session = persistenceContext.asSessionImplementor();
+			if ( session.getHibernateFlushMode() != FlushMode.MANUAL && session.isTransactionInProgress() ) {
+				// never lose the changes made to the entities about to be detached
+				session.flush();
+			}
+			for ( EntityKey entityKey : unusedEntityKeys ) {
+				lastChunkByEntityKey.remove( entityKey );
+				final Object entity = context.getEntity( entityKey );
+				if ( entity != null ) {
+					session.evict( entity );
+				}
+				else {
+					final Object proxy = context.getProxy( entityKey );
+					if ( proxy != null ) {
+						session.evict( proxy );
+					}
+				}
+			}
+		}
+
+		chunk++;
+		rowsInChunk = 0;
+	}
+
 	@Override
 	public final void close() {
 		if ( this.closed ) {
@@ -102,6 +276,8 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 
 		getPersistenceContext().getJdbcCoordinator().afterStatementExecution();
 
+		this.lastChunkByEntityKey = null;
+		this.lastRow = null;
 		this.closed = true;
 	}
 
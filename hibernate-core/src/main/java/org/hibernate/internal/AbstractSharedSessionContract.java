@@ -68,6 +68,7 @@ import org.hibernate.query.IllegalMutationQueryException;
 import org.hibernate.query.IllegalNamedQueryOptionsException;
 import org.hibernate.query.IllegalSelectQueryException;
 import org.hibernate.query.MutationQuery;
+import org.hibernate.query.PreparedSelectionQuery;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
@@ -85,6 +86,7 @@ import org.hibernate.query.sql.internal.NativeQueryImpl;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
 import org.hibernate.query.sql.spi.NativeQueryImplementor;
 import org.hibernate.query.sqm.SqmSelectionQuery;
+import org.hibernate.query.sqm.internal.PreparedSelectionQueryImpl;
 import org.hibernate.query.sqm.internal.QuerySqmImpl;
 import org.hibernate.query.sqm.internal.SqmSelectionQueryImpl;
 import org.hibernate.query.sqm.internal.SqmUtil;
@@ -867,6 +869,30 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		}
 	}
 
+	@Override
+	public <R> SelectionQuery<R> createSelectionQuery(PreparedSelectionQuery<R> preparedQuery) {
+		checkOpen();
+		pulseTransactionCoordinator();
+		delayedAfterCompletion();
+
+		final PreparedSelectionQueryImpl<R> prepared = (PreparedSelectionQueryImpl<R>) preparedQuery;
+		if ( prepared.getSessionFactory() != getFactory() ) {
+			throw new IllegalArgumentException( "Prepared query belongs to a different SessionFactory: " + prepared );
+		}
+		try {
+			final SqmSelectionQueryImpl<R> query = new SqmSelectionQueryImpl<>( prepared, this );
+			if ( prepared.getResultType() != null ) {
+				checkResultType( prepared.getResultType(), query );
+			}
+			applyQuerySettingsAndHints( query );
+			return query;
+		}
+		catch ( RuntimeException e ) {
+			markForRollbackOnly();
+			throw e;
+		}
+	}
+
 	@Override
 	public <T> QueryImplementor<T> createQuery(String queryString, Class<T> expectedResultType) {
 		checkOpen();
@@ -94,6 +94,9 @@ public class EmptyScrollableResults implements ScrollableResultsImplementor {
 	@Override
 	public void setFetchSize(int fetchSize) {}
 
+	@Override
+	public void setDetachWindow(int rows) {}
+
 	@Override
 	public Object[] get() {
 		return ArrayHelper.EMPTY_OBJECT_ARRAY;
@@ -8,7 +8,10 @@ package org.hibernate.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
 
+import org.hibernate.Filter;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.sql.ast.SqlAstWalker;
@@ -18,15 +21,45 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
 /**
+ * A {@link JdbcParameter} for the value of a filter parameter.
+ * <p>
+ * When it knows the filter and parameter it was created for, the
+ * value is resolved from the filter enabled in the executing session,
+ * so that a cached query plan binds the current value of the filter
+ * parameter instead of the value it was translated with.
+ *
  * @author Nathan Xu
  */
 public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	private final JdbcMapping jdbcMapping;
 	private final Object jdbcParameterValue;
+	private final String filterName;
+	private final String parameterName;
+	private final int elementIndex;
 
 	public FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+		this( jdbcMapping, jdbcParameterValue, null, null, -1 );
+	}
+
+	/**
+	 * @param filterName The name of the filter
+	 * @param parameterName The name of the filter parameter
+	 * @param elementIndex The position of the value in a multi-valued
+	 * filter parameter, or {@code -1} for a single-valued parameter
+	 *
+	 * @since 6.6
+	 */
+	public FilterJdbcParameter(
+			JdbcMapping jdbcMapping,
+			Object jdbcParameterValue,
+			String filterName,
+			String parameterName,
+			int elementIndex) {
 		this.jdbcMapping = jdbcMapping;
 		this.jdbcParameterValue = jdbcParameterValue;
+		this.filterName = filterName;
+		this.parameterName = parameterName;
+		this.elementIndex = elementIndex;
 	}
 
 	@Override
@@ -38,13 +71,47 @@ public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	public void bindParameterValue(PreparedStatement statement, int startPosition, JdbcParameterBindings jdbcParameterBindings, ExecutionContext executionContext) throws SQLException {
 		jdbcMapping.getJdbcValueBinder().bind(
 				statement,
-				jdbcMapping.convertToRelationalValue( jdbcParameterValue ),
+				jdbcMapping.convertToRelationalValue( resolveValue( executionContext ) ),
 				startPosition,
 				executionContext.getSession()
 		);
 
 	}
 
+	private Object resolveValue(ExecutionContext executionContext) {
+		if ( filterName != null ) {
+			final Filter filter = executionContext.getSession()
+					.getLoadQueryInfluencers()
+					.getEnabledFilter( filterName );
+			if ( filter instanceof FilterImpl ) {
+				final Object value = ( (FilterImpl) filter ).getParameter( parameterName );
+				if ( value != null ) {
+					if ( elementIndex < 0 ) {
+						return value;
+					}
+					else if ( value instanceof List ) {
+						final List<?> values = (List<?>) value;
+						if ( elementIndex < values.size() ) {
+							return values.get( elementIndex );
+						}
+					}
+					else if ( value instanceof Iterable ) {
+						final Iterator<?> iterator = ( (Iterable<?>) value ).iterator();
+						for ( int i = 0; iterator.hasNext(); i++ ) {
+							final Object element = iterator.next();
+							if ( i == elementIndex ) {
+								return element;
+							}
+						}
+					}
+				}
+			}
+		}
+		// the filter parameter is given by a resolver,
+		// or the query was not translated for this session
+		return jdbcParameterValue;
+	}
+
 	@Override
 	public JdbcMappingContainer getExpressionType() {
 		return jdbcMapping;
@@ -92,6 +92,7 @@ import org.hibernate.persister.entity.SessionFactoryBasedWrapperOptions;
 import org.hibernate.procedure.spi.ProcedureCallImplementor;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.PreparedSelectionQuery;
 import org.hibernate.query.hql.spi.SqmQueryImplementor;
 import org.hibernate.query.internal.QueryEngineImpl;
 import org.hibernate.query.named.NamedObjectRepository;
@@ -101,6 +102,7 @@ import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.sql.spi.NativeQueryImplementor;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.query.sqm.internal.PreparedSelectionQueryImpl;
 import org.hibernate.query.sqm.mutation.internal.temptable.GlobalTemporaryTableStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.LocalTemporaryTableStrategy;
 import org.hibernate.query.sqm.mutation.internal.temptable.PersistentTableStrategy;
@@ -823,6 +825,12 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 		return queryEngine.getCriteriaBuilder();
 	}
 
+	@Override
+	public <R> PreparedSelectionQuery<R> prepareQuery(String hql, Class<R> resultType) {
+		validateNotClosed();
+		return new PreparedSelectionQueryImpl<>( hql, resultType, this );
+	}
+
 	@Override
 	public MetamodelImplementor getMetamodel() {
 		validateNotClosed();
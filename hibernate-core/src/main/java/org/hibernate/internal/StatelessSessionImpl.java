@@ -6,13 +6,16 @@
  */
 package org.hibernate.internal;
 
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
 import org.hibernate.TransientObjectException;
@@ -275,6 +278,59 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		}
 	}
 
+	// multiple record operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		performMultiple( entities, entity -> insert( null, entity ) );
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		performMultiple( entities, entity -> update( null, entity ) );
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		performMultiple( entities, entity -> delete( null, entity ) );
+	}
+
+	@Override
+	public void upsertMultiple(List<?> entities) {
+		performMultiple( entities, entity -> upsert( null, entity ) );
+	}
+
+	/**
+	 * Apply the given operation to each entity with the JDBC batch size
+	 * temporarily set to the number of entities, so that the statements
+	 * for consecutive entities of the same type end up in the same batch,
+	 * and then execute the pending batch.
+	 */
+	private void performMultiple(List<?> entities, Consumer<Object> operation) {
+		checkOpen();
+		if ( entities.isEmpty() ) {
+			return;
+		}
+		// execute any batch left over from a previous operation,
+		// since it was created with the configured batch size
+		getJdbcCoordinator().executeBatch();
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		setJdbcBatchSize( entities.size() );
+		try {
+			for ( Object entity : entities ) {
+				operation.accept( entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
 	private Object versionToUpsert(Object entity, EntityPersister persister, Object[] state) {
 		if ( persister.isVersioned() ) {
 			final Object oldVersion = persister.getVersion( entity );
@@ -478,6 +534,23 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return result;
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		checkOpen();
+		for ( Object id : ids ) {
+			if ( id == null ) {
+				throw new IllegalArgumentException( "Null id" );
+			}
+		}
+
+		final List<?> result = getEntityPersister( entityClass.getName() )
+				.multiLoad( ids.toArray(), new LockOptions( LockMode.NONE ), this );
+		if ( temporaryPersistenceContext.isLoadFinished() ) {
+			temporaryPersistenceContext.clear();
+		}
+		return (List<T>) result;
+	}
+
 	@Override
 	public <T> T get(EntityGraph<T> graph, GraphSemantic graphSemantic, Object id) {
 		return get( graph, graphSemantic, id, LockMode.NONE );
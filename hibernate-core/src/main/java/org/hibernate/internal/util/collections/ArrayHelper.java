@@ -440,6 +440,41 @@ public final class ArrayHelper {
 		return trimmed;
 	}
 
+	/**
+	 * Encode the given non-negative indexes as a bitmask of one bit per index.
+	 */
+	public static long[] toBitMask(int[] indexes) {
+		int max = -1;
+		for ( int index : indexes ) {
+			max = Math.max( max, index );
+		}
+		final long[] bitMask = new long[( max >> 6 ) + 1];
+		for ( int index : indexes ) {
+			bitMask[index >> 6] |= 1L << index;
+		}
+		return bitMask;
+	}
+
+	/**
+	 * Is the bit of the given index set in a bitmask created by {@link #toBitMask(int[])}?
+	 */
+	public static boolean isSet(long[] bitMask, int index) {
+		final int word = index >> 6;
+		return word < bitMask.length && ( bitMask[word] & ( 1L << index ) ) != 0;
+	}
+
+	/**
+	 * The indexes of the bits set in the given bitmask, in increasing order.
+	 */
+	public static int[] toIndexes(long bitMask) {
+		final int[] indexes = new int[Long.bitCount( bitMask )];
+		for ( int i = 0; bitMask != 0; i++ ) {
+			indexes[i] = Long.numberOfTrailingZeros( bitMask );
+			bitMask &= bitMask - 1;
+		}
+		return indexes;
+	}
+
 	public static Object[] toObjectArray(Object array) {
 		if ( array instanceof Object[] ) {
 			return ( Object[] ) array;
@@ -0,0 +1,477 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Map} based on open addressing with linear probing, storing keys
+ * and values in alternate slots of a single array, in the same way as
+ * {@link java.util.IdentityHashMap}, but using {@linkplain Object#equals
+ * object equality} to compare keys.
+ * <p>
+ * Unlike {@link java.util.HashMap}, no node is allocated per entry, which
+ * roughly halves the footprint of large maps. This makes it well suited to
+ * the registries of the persistence context, which may hold hundreds of
+ * thousands of entries keyed by {@link org.hibernate.engine.spi.EntityKey}
+ * or {@link org.hibernate.engine.spi.CollectionKey}, both of which cache
+ * their hash code.
+ * <p>
+ * Removed entries leave a tombstone behind, which is discarded when the map
+ * is next rehashed. Iterators are fail-fast, and support
+ * {@link Iterator#remove()}. The {@linkplain #entrySet() entry set} allocates
+ * an entry object per element iterated, so {@link #keySet()}, {@link #values()}
+ * and {@link #forEach(BiConsumer)} should be preferred where possible.
+ * <p>
+ * Null keys are not supported, null values are. This class is not thread-safe.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class OpenAddressingHashMap<K, V> extends AbstractMap<K, V> {
+	private static final Object TOMBSTONE = new Object();
+	private static final int MINIMUM_CAPACITY = 4;
+
+	/**
+	 * Keys at even indexes, each followed by its value
+	 */
+	private Object[] table;
+	/**
+	 * The number of live entries
+	 */
+	private int size;
+	/**
+	 * The number of live entries plus the number of tombstones
+	 */
+	private int used;
+	private int modCount;
+
+	private Set<K> keySet;
+	private Collection<V> values;
+	private Set<Entry<K, V>> entrySet;
+
+	public OpenAddressingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize The number of entries the map should be able to
+	 * hold without rehashing
+	 */
+	public OpenAddressingHashMap(int expectedSize) {
+		table = new Object[2 * capacityFor( expectedSize )];
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor under 2/3
+		final int minimumCapacity = Math.max( MINIMUM_CAPACITY, expectedSize + ( expectedSize >> 1 ) + 1 );
+		return Integer.highestOneBit( minimumCapacity - 1 ) << 1;
+	}
+
+	private static int slotFor(Object key, int length) {
+		final int hash = key.hashCode() * 0x9E3779B9;
+		// length is twice the (power of two) capacity, and slots are even
+		return ( ( hash ^ ( hash >>> 16 ) ) << 1 ) & ( length - 1 );
+	}
+
+	private static int nextSlot(int slot, int length) {
+		return slot + 2 < length ? slot + 2 : 0;
+	}
+
+	/**
+	 * @return The slot holding the given key, or {@code -1}
+	 */
+	private int find(Object key) {
+		final Object[] table = this.table;
+		final int length = table.length;
+		int slot = slotFor( key, length );
+		Object candidate;
+		while ( ( candidate = table[slot] ) != null ) {
+			if ( candidate == key || ( candidate != TOMBSTONE && candidate.equals( key ) ) ) {
+				return slot;
+			}
+			slot = nextSlot( slot, length );
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && find( key ) >= 0;
+	}
+
+	@Override
+	public V get(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int slot = find( key );
+		//noinspection unchecked
+		return slot < 0 ? null : (V) table[slot + 1];
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Objects.requireNonNull( key, "null keys are not supported" );
+		final Object[] table = this.table;
+		final int length = table.length;
+		int slot = slotFor( key, length );
+		int firstTombstone = -1;
+		Object candidate;
+		while ( ( candidate = table[slot] ) != null ) {
+			if ( candidate == TOMBSTONE ) {
+				if ( firstTombstone < 0 ) {
+					firstTombstone = slot;
+				}
+			}
+			else if ( candidate == key || candidate.equals( key ) ) {
+				@SuppressWarnings("unchecked")
+				final V previous = (V) table[slot + 1];
+				table[slot + 1] = value;
+				return previous;
+			}
+			slot = nextSlot( slot, length );
+		}
+
+		if ( firstTombstone >= 0 ) {
+			slot = firstTombstone;
+		}
+		else {
+			used++;
+		}
+		table[slot] = key;
+		table[slot + 1] = value;
+		size++;
+		modCount++;
+
+		if ( 3 * used > length ) {
+			// more than 2/3 of the slots are in use, counting tombstones
+			rehash();
+		}
+		return null;
+	}
+
+	@Override
+	public V remove(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int slot = find( key );
+		if ( slot < 0 ) {
+			return null;
+		}
+		@SuppressWarnings("unchecked")
+		final V previous = (V) table[slot + 1];
+		removeSlot( slot );
+		return previous;
+	}
+
+	private void removeSlot(int slot) {
+		table[slot] = TOMBSTONE;
+		table[slot + 1] = null;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( used > 0 ) {
+			Arrays.fill( table, null );
+			size = 0;
+			used = 0;
+			modCount++;
+		}
+	}
+
+	private void rehash() {
+		final Object[] oldTable = table;
+		final Object[] newTable = new Object[2 * capacityFor( size )];
+		final int length = newTable.length;
+		for ( int i = 0; i < oldTable.length; i += 2 ) {
+			final Object key = oldTable[i];
+			if ( key != null && key != TOMBSTONE ) {
+				int slot = slotFor( key, length );
+				while ( newTable[slot] != null ) {
+					slot = nextSlot( slot, length );
+				}
+				newTable[slot] = key;
+				newTable[slot + 1] = oldTable[i + 1];
+			}
+		}
+		table = newTable;
+		used = size;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final Object[] table = this.table;
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < table.length; i += 2 ) {
+			final Object key = table[i];
+			if ( key != null && key != TOMBSTONE ) {
+				//noinspection unchecked
+				action.accept( (K) key, (V) table[i + 1] );
+				if ( modCount != expectedModCount ) {
+					throw new ConcurrentModificationException();
+				}
+			}
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		if ( keySet == null ) {
+			keySet = new KeySet();
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( values == null ) {
+			values = new Values();
+		}
+		return values;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private abstract class SlotIterator<T> implements Iterator<T> {
+		private int expectedModCount = modCount;
+		private int nextSlot = advance( 0 );
+		private int lastSlot = -1;
+
+		private int advance(int slot) {
+			final Object[] table = OpenAddressingHashMap.this.table;
+			while ( slot < table.length ) {
+				final Object key = table[slot];
+				if ( key != null && key != TOMBSTONE ) {
+					return slot;
+				}
+				slot += 2;
+			}
+			return slot;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextSlot < table.length;
+		}
+
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			lastSlot = nextSlot;
+			nextSlot = advance( nextSlot + 2 );
+			return element( lastSlot );
+		}
+
+		@Override
+		public void remove() {
+			if ( lastSlot < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removeSlot( lastSlot );
+			expectedModCount = modCount;
+			lastSlot = -1;
+		}
+
+		abstract T element(int slot);
+	}
+
+	private final class KeySet extends AbstractSet<K> {
+		@Override
+		public Iterator<K> iterator() {
+			return new SlotIterator<>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				K element(int slot) {
+					return (K) table[slot];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return containsKey( key );
+		}
+
+		@Override
+		public boolean remove(Object key) {
+			final int slot = key == null ? -1 : find( key );
+			if ( slot < 0 ) {
+				return false;
+			}
+			removeSlot( slot );
+			return true;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+
+	private final class Values extends AbstractCollection<V> {
+		@Override
+		public Iterator<V> iterator() {
+			return new SlotIterator<>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				V element(int slot) {
+					return (V) table[slot + 1];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new SlotIterator<>() {
+				@Override
+				Entry<K, V> element(int slot) {
+					return new SlotEntry( slot );
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if ( o instanceof Entry ) {
+				final Entry<?, ?> entry = (Entry<?, ?>) o;
+				if ( entry.getKey() != null ) {
+					final int slot = find( entry.getKey() );
+					return slot >= 0 && Objects.equals( table[slot + 1], entry.getValue() );
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if ( contains( o ) ) {
+				removeSlot( find( ( (Entry<?, ?>) o ).getKey() ) );
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+
+	private final class SlotEntry implements Entry<K, V> {
+		private final K key;
+		private V value;
+
+		@SuppressWarnings("unchecked")
+		private SlotEntry(int slot) {
+			this.key = (K) table[slot];
+			this.value = (V) table[slot + 1];
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			final V previous = this.value;
+			// the table may have been rehashed since the entry was created
+			final int slot = find( key );
+			if ( slot < 0 ) {
+				throw new IllegalStateException( "Entry was removed from the map" );
+			}
+			table[slot + 1] = value;
+			this.value = value;
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( o instanceof Entry ) {
+				final Entry<?, ?> entry = (Entry<?, ?>) o;
+				return key.equals( entry.getKey() ) && Objects.equals( value, entry.getValue() );
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return key.hashCode() ^ Objects.hashCode( value );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+	}
+}
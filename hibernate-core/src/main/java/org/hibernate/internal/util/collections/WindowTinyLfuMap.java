@@ -0,0 +1,636 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A bounded {@link ConcurrentMap} which evicts entries according to the
+ * W-TinyLFU policy, as an alternative to {@link BoundedConcurrentHashMap}.
+ * <p>
+ * Entries are held by a {@link ConcurrentHashMap}, so that reads never
+ * block. Instead of reordering the entries on every read, readers record
+ * the entry they accessed in one of a number of striped, lossy ring
+ * buffers, which are drained by whichever thread next acquires the lock
+ * guarding the eviction policy. Writers acquire this lock to add the new
+ * entry to the policy and evict entries if the map overflows its maximum
+ * size.
+ * <p>
+ * The policy keeps a small admission window in LRU order, in front of a
+ * main space split between a probation and a protected segment. Entries
+ * overflowing the window become candidates for the main space, and are
+ * admitted only if they were accessed more frequently than the entry
+ * which would be evicted in their place, according to a compact
+ * count-min sketch of the access frequencies of recently used keys. Entries
+ * accessed while on probation are promoted to the protected segment. This
+ * makes the map resistant to scans of keys which are used only once, and
+ * gives it a higher hit rate than LRU on skewed workloads.
+ * <p>
+ * Since reads may be dropped when the buffers are contended, and writes
+ * are applied to the policy after they are applied to the map, the map may
+ * briefly hold more entries than its maximum size. Null keys and values are
+ * not supported.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class WindowTinyLfuMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+	private static final int READ_BUFFER_SIZE = 16;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+	private static final int MAX_READ_BUFFERS = 64;
+
+	private static final byte NEW = 0;
+	private static final byte WINDOW = 1;
+	private static final byte PROBATION = 2;
+	private static final byte PROTECTED = 3;
+	private static final byte REMOVED = 4;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+	private final int maximumSize;
+	private final int windowMaximum;
+	private final int protectedMaximum;
+
+	private final ReadBuffer<K, V>[] readBuffers;
+
+	// guarded by the eviction lock
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K, V> protectedSegment = new AccessOrderQueue<>();
+	private final Consumer<Node<K, V>> onAccess = this::onAccess;
+
+	private Set<Entry<K, V>> entrySet;
+
+	/**
+	 * @param maximumSize The maximum number of entries
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public WindowTinyLfuMap(int maximumSize) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive" );
+		}
+		this.maximumSize = maximumSize;
+		// 1% of the entries in the window, 80% of the main space protected
+		this.windowMaximum = Math.max( 1, maximumSize / 100 );
+		this.protectedMaximum = (int) ( ( maximumSize - windowMaximum ) * 0.8 );
+		this.sketch = new FrequencySketch( maximumSize );
+
+		final int stripes = Math.min(
+				ceilingPowerOfTwo( Runtime.getRuntime().availableProcessors() ),
+				MAX_READ_BUFFERS
+		);
+		this.readBuffers = new ReadBuffer[stripes];
+		for ( int i = 0; i < stripes; i++ ) {
+			readBuffers[i] = new ReadBuffer<>();
+		}
+	}
+
+	private static int ceilingPowerOfTwo(int value) {
+		return value <= 1 ? 1 : Integer.highestOneBit( value - 1 ) << 1;
+	}
+
+	/**
+	 * The maximum number of entries.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return data.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public V get(Object key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		else {
+			afterRead( node );
+			return node.value;
+		}
+	}
+
+	@Override
+	public V put(K key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		return put( key, value, true );
+	}
+
+	private V put(K key, V value, boolean onlyIfAbsent) {
+		Objects.requireNonNull( key );
+		Objects.requireNonNull( value );
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing == null ) {
+			afterWrite( node );
+			return null;
+		}
+		else {
+			final V oldValue;
+			if ( onlyIfAbsent ) {
+				oldValue = existing.value;
+			}
+			else {
+				synchronized ( existing ) {
+					oldValue = existing.value;
+					existing.value = value;
+				}
+			}
+			afterRead( existing );
+			return oldValue;
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		final Node<K, V> node = data.remove( key );
+		if ( node == null ) {
+			return null;
+		}
+		else {
+			afterRemove( node );
+			return node.value;
+		}
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		final Node<K, V> node = data.get( key );
+		if ( node != null && node.value.equals( value ) && data.remove( key, node ) ) {
+			afterRemove( node );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		Objects.requireNonNull( value );
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		else {
+			final V oldValue;
+			synchronized ( node ) {
+				oldValue = node.value;
+				node.value = value;
+			}
+			afterRead( node );
+			return oldValue;
+		}
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		Objects.requireNonNull( newValue );
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return false;
+		}
+		else {
+			synchronized ( node ) {
+				if ( !node.value.equals( oldValue ) ) {
+					return false;
+				}
+				node.value = newValue;
+			}
+			afterRead( node );
+			return true;
+		}
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			for ( ReadBuffer<K, V> readBuffer : readBuffers ) {
+				readBuffer.drain( node -> {} );
+			}
+			for ( Node<K, V> node : data.values() ) {
+				if ( data.remove( node.key, node ) ) {
+					removeFromPolicy( node );
+				}
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private void afterRead(Node<K, V> node) {
+		final int probe = mix( System.identityHashCode( Thread.currentThread() ) );
+		final ReadBuffer<K, V> readBuffer = readBuffers[probe & ( readBuffers.length - 1 )];
+		if ( readBuffer.offer( node ) && evictionLock.tryLock() ) {
+			try {
+				drainReadBuffers();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K, V> node) {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			// the entry might have been removed before we got the lock
+			if ( node.queue == NEW && data.get( node.key ) == node ) {
+				sketch.increment( node.key );
+				window.addLast( node );
+				node.queue = WINDOW;
+				evictEntries();
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void afterRemove(Node<K, V> node) {
+		evictionLock.lock();
+		try {
+			removeFromPolicy( node );
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void drainReadBuffers() {
+		for ( ReadBuffer<K, V> readBuffer : readBuffers ) {
+			readBuffer.drain( onAccess );
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				sketch.increment( node.key );
+				window.moveToLast( node );
+				break;
+			case PROBATION:
+				sketch.increment( node.key );
+				probation.remove( node );
+				protectedSegment.addLast( node );
+				node.queue = PROTECTED;
+				while ( protectedSegment.size > protectedMaximum ) {
+					final Node<K, V> demoted = protectedSegment.removeFirst();
+					probation.addLast( demoted );
+					demoted.queue = PROBATION;
+				}
+				break;
+			case PROTECTED:
+				sketch.increment( node.key );
+				protectedSegment.moveToLast( node );
+				break;
+			default:
+				// not yet added to the policy, or already removed
+		}
+	}
+
+	private void removeFromPolicy(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				break;
+			case PROTECTED:
+				protectedSegment.remove( node );
+				break;
+			default:
+		}
+		node.queue = REMOVED;
+	}
+
+	private void evictEntries() {
+		// the entries overflowing the window become candidates
+		// for admission, at the end of the probation segment
+		Node<K, V> candidate = null;
+		while ( window.size > windowMaximum ) {
+			final Node<K, V> node = window.removeFirst();
+			probation.addLast( node );
+			node.queue = PROBATION;
+			if ( candidate == null ) {
+				candidate = node;
+			}
+		}
+
+		// each candidate is pitted against the least recently used
+		// entry on probation, and the less frequently used one goes
+		while ( window.size + probation.size + protectedSegment.size > maximumSize ) {
+			final Node<K, V> victim = probation.first;
+			if ( candidate == null || victim == null || victim == candidate ) {
+				final Node<K, V> evicted = victim != null ? victim
+						: protectedSegment.first != null ? protectedSegment.first
+						: window.first;
+				if ( evicted == candidate ) {
+					candidate = candidate.next;
+				}
+				evict( evicted );
+			}
+			else {
+				final Node<K, V> nextCandidate = candidate.next;
+				if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+					evict( victim );
+				}
+				else {
+					evict( candidate );
+				}
+				candidate = nextCandidate;
+			}
+		}
+	}
+
+	private void evict(Node<K, V> node) {
+		removeFromPolicy( node );
+		data.remove( node.key, node );
+	}
+
+	private static int mix(int hash) {
+		int h = hash * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+
+		// guarded by the eviction lock
+		private byte queue = NEW;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A doubly-linked list of nodes, in access order.
+	 */
+	private static final class AccessOrderQueue<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+		private int size;
+
+		private void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			size++;
+		}
+
+		private void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			size--;
+		}
+
+		private Node<K, V> removeFirst() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		private void moveToLast(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+	}
+
+	/**
+	 * A ring buffer of accessed nodes, written by any thread without
+	 * locking, and drained by the thread holding the eviction lock.
+	 * An access is simply dropped if the buffer is full, or if another
+	 * thread is concurrently writing to the same slot.
+	 */
+	private static final class ReadBuffer<K, V> {
+		private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+		private final AtomicLong writeCounter = new AtomicLong();
+		// only written by the thread holding the eviction lock
+		private volatile long readCounter;
+
+		/**
+		 * @return {@code true} if the buffer should be drained
+		 */
+		private boolean offer(Node<K, V> node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			final long pending = tail - head;
+			if ( pending >= READ_BUFFER_SIZE ) {
+				return true;
+			}
+			else if ( writeCounter.compareAndSet( tail, tail + 1 ) ) {
+				buffer.lazySet( (int) tail & READ_BUFFER_MASK, node );
+				return pending + 1 >= READ_BUFFER_DRAIN_THRESHOLD;
+			}
+			else {
+				return false;
+			}
+		}
+
+		private void drain(Consumer<Node<K, V>> consumer) {
+			long head = readCounter;
+			final long tail = writeCounter.get();
+			for ( ; head < tail; head++ ) {
+				final int index = (int) head & READ_BUFFER_MASK;
+				final Node<K, V> node = buffer.get( index );
+				if ( node == null ) {
+					// the writer has not yet published it
+					break;
+				}
+				buffer.lazySet( index, null );
+				consumer.accept( node );
+			}
+			readCounter = head;
+		}
+	}
+
+	/**
+	 * A count-min sketch of the access frequencies of keys, with four
+	 * 4-bit counters per key, packed sixteen to a {@code long}. All the
+	 * counters are halved once the number of increments reaches ten
+	 * times the maximum size of the map, so that the frequencies reflect
+	 * recent accesses.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int size;
+
+		private FrequencySketch(int maximumSize) {
+			final int length = ceilingPowerOfTwo( Math.max( maximumSize, 16 ) );
+			this.table = new long[length];
+			this.tableMask = length - 1;
+			this.sampleSize = (int) Math.min( 10L * maximumSize, Integer.MAX_VALUE );
+		}
+
+		private int frequency(Object key) {
+			final int hash = mix( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		private void increment(Object key) {
+			final int hash = mix( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++size >= sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		private void reset() {
+			int odd = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				odd += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			size = ( size - ( odd >>> 2 ) ) >>> 1;
+		}
+
+		private int indexOf(int hash, int row) {
+			long h = ( hash + SEEDS[row] ) * SEEDS[row];
+			h += h >>> 32;
+			return (int) h & tableMask;
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public int size() {
+			return data.size();
+		}
+
+		@Override
+		public void clear() {
+			WindowTinyLfuMap.this.clear();
+		}
+
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			final Iterator<Node<K, V>> nodes = data.values().iterator();
+			return new Iterator<>() {
+				private Node<K, V> current;
+
+				@Override
+				public boolean hasNext() {
+					return nodes.hasNext();
+				}
+
+				@Override
+				public Entry<K, V> next() {
+					current = nodes.next();
+					return new SimpleImmutableEntry<>( current.key, current.value );
+				}
+
+				@Override
+				public void remove() {
+					if ( current == null ) {
+						throw new IllegalStateException();
+					}
+					WindowTinyLfuMap.this.remove( current.key, current.value );
+					current = null;
+				}
+			};
+		}
+	}
+}
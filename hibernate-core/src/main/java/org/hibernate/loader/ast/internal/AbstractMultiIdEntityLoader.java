@@ -6,15 +6,22 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
 
 import java.util.List;
 
+import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
+
 /**
  * Base support for {@link MultiIdEntityLoader} implementations.
  *
@@ -63,4 +70,86 @@ public abstract class AbstractMultiIdEntityLoader<T> implements MultiIdEntityLoa
 
 	protected abstract <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
 
+	@Override
+	public final <K> List<T> loadFromDatabase(K[] ids, LockOptions lockOptions, SharedSessionContractImplementor session) {
+		assert ids != null;
+		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final Object[] idsToLoad = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			idsToLoad[i] = coerce
+					? getIdentifierMapping().getJavaType().coerce( ids[i], session )
+					: ids[i];
+		}
+
+		if ( idsToLoad.length > 0 ) {
+			loadEntitiesFromDatabase( idsToLoad, lockOptions, session );
+		}
+
+		// the loaded entities are now associated with the persistence context,
+		// use it to put the results in the same order as the given ids
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<T> result = arrayList( idsToLoad.length );
+		for ( Object id : idsToLoad ) {
+			//noinspection unchecked
+			result.add( (T) persistenceContext.getEntity( new EntityKey( id, persister ) ) );
+		}
+		return result;
+	}
+
+	/**
+	 * Load the entities with the given (already coerced) ids from the database,
+	 * registering them with the persistence context of the given session.
+	 *
+	 * @see #loadFromDatabase(Object[], LockOptions, SharedSessionContractImplementor)
+	 */
+	protected abstract void loadEntitiesFromDatabase(
+			Object[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Fetch the second-level cache entries for all the given ids in a single call
+	 * to the cache, skipping ids of entities already associated with the session
+	 * when session checking is enabled.
+	 *
+	 * @return The cache entries, positionally matching {@code ids}, or {@code null}
+	 * if second-level cache checking is disabled or the cache cannot be used
+	 *
+	 * @see CacheEntityLoaderHelper#loadFromSecondLevelCache(org.hibernate.event.spi.LoadEvent, EntityPersister, EntityKey, Object)
+	 */
+	protected Object[] getFromSecondLevelCache(
+			Object[] ids,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			EventSource session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return null;
+		}
+
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		if ( !persister.canReadFromCache() ) {
+			return null;
+		}
+
+		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Object[] idsToFetch = new Object[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object id = coerce
+					? getLoadable().getIdentifierMapping().getJavaType().coerce( ids[i], session )
+					: ids[i];
+			if ( !loadOptions.isSessionCheckingEnabled()
+					|| persistenceContext.getEntity( new EntityKey( id, persister ) ) == null ) {
+				idsToFetch[i] = id;
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				idsToFetch,
+				lockOptions.getLockMode(),
+				persister,
+				session
+		);
+	}
+
 }
@@ -6,6 +6,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -208,19 +212,123 @@ public class CacheEntityLoaderHelper {
 		);
 
 		if ( entity != null ) {
-			//PostLoad is needed for EJB3
-			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
-					.setEntity( entity )
-					.setId( event.getEntityId() )
-					.setPersister( persister );
-
-			event.getFactory()
-					.getFastSessionServices()
-					.firePostLoadEvent( postLoadEvent );
+			firePostLoadEvent( event, persister, entity );
 		}
 		return entity;
 	}
 
+	/**
+	 * Attempts to load the entity from a second-level cache entry previously fetched by
+	 * {@link #getFromSecondLevelCache(Object[], LockMode, EntityPersister, EventSource)}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The cache entry for the entity, or null
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cacheEntry) {
+		if ( cacheEntry == null ) {
+			return null;
+		}
+
+		final Object entity = processCachedEntry(
+				event.getInstanceToLoad(),
+				persister,
+				cacheEntry,
+				event.getSession(),
+				entityKey
+		);
+
+		if ( entity != null ) {
+			firePostLoadEvent( event, persister, entity );
+		}
+		return entity;
+	}
+
+	private static void firePostLoadEvent(LoadEvent event, EntityPersister persister, Object entity) {
+		//PostLoad is needed for EJB3
+		final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
+				.setEntity( entity )
+				.setId( event.getEntityId() )
+				.setPersister( persister );
+
+		event.getFactory()
+				.getFastSessionServices()
+				.firePostLoadEvent( postLoadEvent );
+	}
+
+	/**
+	 * Fetches the second-level cache entries of several entities of the same type
+	 * in a single call to the cache.
+	 *
+	 * @param ids The entity identifiers, {@code null} elements are skipped
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param source The source
+	 *
+	 * @return The cache entries, positionally matching {@code ids}, or null if the
+	 * second-level cache cannot be used
+	 */
+	public Object[] getFromSecondLevelCache(
+			final Object[] ids,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final EventSource source) {
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+
+		if ( !useCache ) {
+			// we can't use cache here
+			return null;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[ids.length];
+		final List<Object> keysToFetch = new ArrayList<>( ids.length );
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( ids[i] != null ) {
+				cacheKeys[i] = cache.generateCacheKey( ids[i], persister, factory, source.getTenantIdentifier() );
+				keysToFetch.add( cacheKeys[i] );
+			}
+		}
+
+		final Object[] cacheEntries = new Object[ids.length];
+		if ( keysToFetch.isEmpty() ) {
+			return cacheEntries;
+		}
+
+		final Map<Object, Object> cached = CacheHelper.fromSharedCache( source, keysToFetch, persister, cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( cacheKeys[i] != null ) {
+				cacheEntries[i] = cached.get( cacheKeys[i] );
+				if ( statistics.isStatisticsEnabled() ) {
+					if ( cacheEntries[i] == null ) {
+						statistics.entityCacheMiss(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								cache.getRegion().getName()
+						);
+					}
+					else {
+						statistics.entityCacheHit(
+								StatsHelper.INSTANCE.getRootEntityRole( persister ),
+								cache.getRegion().getName()
+						);
+					}
+				}
+			}
+		}
+		return cacheEntries;
+	}
+
 	/**
 	 * Attempts to load the entity from the second-level cache.
 	 *
@@ -299,7 +407,11 @@ public class CacheEntityLoaderHelper {
 			final EntityKey entityKey) {
 
 		CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
-		if ( entry.isReferenceEntry() ) {
+		if ( entry == null ) {
+			// the cached entry could not be read
+			return null;
+		}
+		else if ( entry.isReferenceEntry() ) {
 			if ( instanceToLoad != null ) {
 				throw new HibernateException(
 						"Attempt to load entity from cache using provided object instance, but cache " +
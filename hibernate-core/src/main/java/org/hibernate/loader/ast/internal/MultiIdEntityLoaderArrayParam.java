@@ -18,6 +18,7 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
@@ -87,6 +88,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		List<Object> idsToLoadFromDatabase = null;
 		List<Integer> idsToLoadFromDatabaseResultIndexes = null;
 
+		final Object[] cacheEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
+
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
 			if ( coerce ) {
@@ -132,7 +135,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cacheEntries == null ? null : cacheEntries[i]
 					);
 				}
 
@@ -160,6 +164,57 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 			return (List<E>) result;
 		}
 
+		loadEntitiesWithArrayParameter( idsToLoadFromDatabase.toArray( createTypedArray( 0 ) ), lockOptions, session );
+
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		for ( int i = 0; i < idsToLoadFromDatabaseResultIndexes.size(); i++ ) {
+			final Integer resultIndex = idsToLoadFromDatabaseResultIndexes.get(i);
+
+			// the element value at this position in the result List should be
+			// the EntityKey for that entity - reuse it
+			final EntityKey entityKey = (EntityKey) result.get( resultIndex );
+			BatchFetchQueueHelper.removeBatchLoadableEntityKey( entityKey, session );
+			Object entity = persistenceContext.getEntity( entityKey );
+			if ( entity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() ) {
+				// make sure it is not DELETED
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry.getStatus().isDeletedOrGone() ) {
+					// the entity is locally deleted, and the options ask that we not return such entities...
+					entity = null;
+				}
+			}
+			result.set( resultIndex, entity );
+		}
+
+		//noinspection unchecked
+		return (List<E>) result;
+	}
+
+	@Override
+	protected void loadEntitiesFromDatabase(
+			Object[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		if ( MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.isTraceEnabled() ) {
+			MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER.tracef(
+					"MultiIdEntityLoaderArrayParam#loadEntitiesFromDatabase - %s",
+					getLoadable().getEntityName()
+			);
+		}
+
+		final Object[] idsToLoad = createTypedArray( ids.length );
+		System.arraycopy( ids, 0, idsToLoad, 0, ids.length );
+		loadEntitiesWithArrayParameter( idsToLoad, lockOptions, session );
+	}
+
+	/**
+	 * Load all the given ids using a single select with one array parameter,
+	 * registering the loaded entities with the persistence context.
+	 */
+	private void loadEntitiesWithArrayParameter(
+			Object[] idsToLoad,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
 		final SelectStatement sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
 				getLoadable(),
 				getIdentifierMapping(),
@@ -177,11 +232,10 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(1);
 		jdbcParameterBindings.addBinding(
 				jdbcParameter,
-				new JdbcParameterBindingImpl( arrayJdbcMapping, idsToLoadFromDatabase.toArray( createTypedArray(0 ) ) )
+				new JdbcParameterBindingImpl( arrayJdbcMapping, idsToLoad )
 		);
 
-		final PersistenceContext persistenceContext = session.getPersistenceContext();
-		final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContext().getBatchFetchQueue();
 
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 				batchFetchQueue,
@@ -196,31 +250,9 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
 				RowTransformerStandardImpl.instance(),
 				null,
-				idsToLoadFromDatabase.size(),
+				idsToLoad.length,
 				ManagedResultConsumer.INSTANCE
 		);
-
-		for ( int i = 0; i < idsToLoadFromDatabaseResultIndexes.size(); i++ ) {
-			final Integer resultIndex = idsToLoadFromDatabaseResultIndexes.get(i);
-
-			// the element value at this position in the result List should be
-			// the EntityKey for that entity - reuse it
-			final EntityKey entityKey = (EntityKey) result.get( resultIndex );
-			BatchFetchQueueHelper.removeBatchLoadableEntityKey( entityKey, session );
-			Object entity = persistenceContext.getEntity( entityKey );
-			if ( entity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() ) {
-				// make sure it is not DELETED
-				final EntityEntry entry = persistenceContext.getEntry( entity );
-				if ( entry.getStatus().isDeletedOrGone() ) {
-					// the entity is locally deleted, and the options ask that we not return such entities...
-					entity = null;
-				}
-			}
-			result.set( resultIndex, entity );
-		}
-
-		//noinspection unchecked
-		return (List<E>) result;
 	}
 
 
@@ -319,6 +351,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		boolean foundAnyResolvedEntities = false;
 		List<K> nonResolvedIds = null;
 
+		final Object[] cacheEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
+
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
 			if ( coerce ) {
@@ -362,7 +396,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				resolvedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 						loadEvent,
 						getLoadable().getEntityPersister(),
-						entityKey
+						entityKey,
+						cacheEntries == null ? null : cacheEntries[i]
 				);
 			}
 
@@ -95,6 +95,8 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
+		final Object[] cacheEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
+
 		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -141,7 +143,8 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cacheEntries == null ? null : cacheEntries[i]
 					);
 				}
 
@@ -194,6 +197,30 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 		return (List<T>) result;
 	}
 
+	@Override
+	protected void loadEntitiesFromDatabase(
+			Object[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "#loadEntitiesFromDatabase(`%s`, `%s`, ..)", getLoadable().getEntityName(), ids.length );
+		}
+
+		final int maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
+				getIdentifierMapping().getJdbcTypeCount(),
+				ids.length,
+				getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled()
+		);
+
+		final List<Object> idList = Arrays.asList( ids );
+		int idPosition = 0;
+		while ( idPosition < ids.length ) {
+			final int batchSize = Math.min( ids.length - idPosition, maxBatchSize );
+			loadEntitiesById( idList.subList( idPosition, idPosition + batchSize ), lockOptions, session );
+			idPosition += batchSize;
+		}
+	}
+
 	private List<T> loadEntitiesById(
 			List<Object> idsInBatch,
 			LockOptions lockOptions,
@@ -305,6 +332,7 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 			// list immediately and remove its id from the group of ids to load.
 			boolean foundAnyManagedEntities = false;
 			final List<Object> nonManagedIds = new ArrayList<>();
+			final Object[] cacheEntries = getFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 
 			final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
 			for ( int i = 0; i < ids.length; i++ ) {
@@ -350,7 +378,8 @@ public class MultiIdEntityLoaderStandard<T> extends AbstractMultiIdEntityLoader<
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cacheEntries == null ? null : cacheEntries[i]
 					);
 				}
 
@@ -8,6 +8,8 @@ package org.hibernate.loader.ast.spi;
 
 import java.util.List;
 
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 
 /**
@@ -18,4 +20,49 @@ public interface MultiIdEntityLoader<T> extends EntityMultiLoader<T> {
 	 * Load multiple entities by id.  The exact result depends on the passed options.
 	 */
 	<K> List<T> load(K[] ids, MultiIdLoadOptions options, EventSource session);
+
+	/**
+	 * Load multiple entities by id directly from the database, without consulting
+	 * the persistence context or the second-level cache.  The result positionally
+	 * matches {@code ids}, with {@code null} for any id which does not exist.
+	 * <p>
+	 * The default implementation delegates to {@link #load}, with the session
+	 * and second-level cache checks disabled, and so requires a session which
+	 * is an {@link EventSource}.
+	 *
+	 * @since 6.6
+	 */
+	default <K> List<T> loadFromDatabase(K[] ids, LockOptions lockOptions, SharedSessionContractImplementor session) {
+		return load( ids, new MultiIdLoadOptions() {
+			@Override
+			public boolean isSessionCheckingEnabled() {
+				return false;
+			}
+
+			@Override
+			public boolean isSecondLevelCacheCheckingEnabled() {
+				return false;
+			}
+
+			@Override
+			public boolean isReturnOfDeletedEntitiesEnabled() {
+				return false;
+			}
+
+			@Override
+			public boolean isOrderReturnEnabled() {
+				return true;
+			}
+
+			@Override
+			public LockOptions getLockOptions() {
+				return lockOptions;
+			}
+
+			@Override
+			public Integer getBatchSize() {
+				return null;
+			}
+		}, session.asEventSource() );
+	}
 }
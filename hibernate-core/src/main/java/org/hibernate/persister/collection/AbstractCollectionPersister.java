@@ -34,6 +34,7 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCollectionCacheEntry;
 import org.hibernate.cache.spi.entry.StructuredCollectionCacheEntry;
 import org.hibernate.cache.spi.entry.StructuredMapCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
@@ -275,7 +276,10 @@ public abstract class AbstractCollectionPersister
 				.resolveRepresentation( collectionBootDescriptor );
 
 		this.cacheAccessStrategy = cacheAccessStrategy;
-		if ( creationContext.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
+		if ( creationContext.getSessionFactoryOptions().isCompactCacheEntriesEnabled() ) {
+			cacheEntryStructure = CompactCollectionCacheEntry.INSTANCE;
+		}
+		else if ( creationContext.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
 			cacheEntryStructure = collectionBootDescriptor.isMap()
 					? StructuredMapCacheEntry.INSTANCE
 					: StructuredCollectionCacheEntry.INSTANCE;
@@ -64,6 +64,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -1238,6 +1239,9 @@ public abstract class AbstractEntityPersister
 			// todo : do we also need to unset proxy factory?
 			return new ReferenceCacheEntryHelper( this );
 		}
+		else if ( options.isCompactCacheEntriesEnabled() ) {
+			return new CompactCacheEntryHelper( this );
+		}
 		else {
 			return options.isStructuredCacheEntriesEnabled()
 					? new StructuredCacheEntryHelper( this )
@@ -1609,8 +1613,9 @@ public abstract class AbstractEntityPersister
 			final EntityDataAccess cacheAccess = getCacheAccessStrategy();
 			final Object cacheKey = cacheAccess.generateCacheKey(id, this, session.getFactory(), session.getTenantIdentifier() );
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, this, cacheAccess );
-			if ( ce != null ) {
-				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
+			final CacheEntry cacheEntry =
+					ce == null ? null : (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
+			if ( cacheEntry != null ) {
 				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
 				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
 					// The following should be redundant, since the setter should have set this already.
@@ -3849,6 +3854,11 @@ public abstract class AbstractEntityPersister
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
+	@Override
+	public List<?> multiLoad(Object[] ids, LockOptions lockOptions, SharedSessionContractImplementor session) {
+		return multiIdLoader.loadFromDatabase( ids, lockOptions, session );
+	}
+
 	@Override
 	public void registerAffectingFetchProfile(String fetchProfileName) {
 		if ( affectingFetchProfileNames == null ) {
@@ -3925,6 +3935,18 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public boolean isDirty(Object entity, Object[] previousState, SharedSessionContractImplementor session) {
+		return DirtyHelper.isAnyDirty(
+				entityMetamodel.getProperties(),
+				this,
+				entity,
+				previousState,
+				propertyColumnUpdateable,
+				session
+		);
+	}
+
 	/**
 	 * Locate the property-indices of all properties considered to be dirty.
 	 *
@@ -5005,6 +5027,26 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -37,21 +37,59 @@ class DirtyHelper {
 			final Object[] previousState,
 			final boolean[][] includeColumns,
 			final SharedSessionContractImplementor session) {
-		int[] results = null;
-		int count = 0;
-		int span = properties.length;
-
-		for ( int i = 0; i < span; i++ ) {
-
-			if ( isDirty( properties, currentState, previousState, includeColumns, session, i ) ) {
-				if ( results == null ) {
-					results = new int[span];
+		final int span = properties.length;
+		if ( span <= Long.SIZE ) {
+			// collect the dirty properties in a bitmask, so that we allocate
+			// nothing for a clean entity, and a single array for a dirty one
+			long dirty = 0L;
+			for ( int i = 0; i < span; i++ ) {
+				if ( isDirty( properties, currentState, previousState, includeColumns, session, i ) ) {
+					dirty |= 1L << i;
+				}
+			}
+			return dirty == 0L ? null : ArrayHelper.toIndexes( dirty );
+		}
+		else {
+			int[] results = null;
+			int count = 0;
+			for ( int i = 0; i < span; i++ ) {
+				if ( isDirty( properties, currentState, previousState, includeColumns, session, i ) ) {
+					if ( results == null ) {
+						results = new int[span];
+					}
+					results[count++] = i;
 				}
-				results[count++] = i;
 			}
+			return count == 0 ? null : ArrayHelper.trim( results, count );
 		}
+	}
 
-		return count == 0 ? null : ArrayHelper.trim( results, count );
+	/**
+	 * Determine if any field of the given entity is dirty, reading the current values
+	 * one at a time instead of taking a snapshot of the current state of the entity.
+	 *
+	 * @param properties The property definitions
+	 * @param persister The persister of the entity
+	 * @param entity The entity
+	 * @param previousState The baseline state of the entity
+	 * @param includeColumns Columns to be included in the dirty checking, per property
+	 * @param session The session from which the dirty check request originated.
+	 *
+	 * @return {@code true} if at least one property is considered dirty
+	 */
+	public static boolean isAnyDirty(
+			final NonIdentifierAttribute[] properties,
+			final EntityPersister persister,
+			final Object entity,
+			final Object[] previousState,
+			final boolean[][] includeColumns,
+			final SharedSessionContractImplementor session) {
+		for ( int i = 0; i < properties.length; i++ ) {
+			if ( isDirty( properties[i], persister.getValue( entity, i ), previousState[i], includeColumns[i], session ) ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private static boolean isDirty(
@@ -60,15 +98,24 @@ class DirtyHelper {
 			Object[] previousState,
 			boolean[][] includeColumns,
 			SharedSessionContractImplementor session, int i) {
-		if ( currentState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+		return isDirty( properties[i], currentState[i], previousState[i], includeColumns[i], session );
+	}
+
+	private static boolean isDirty(
+			NonIdentifierAttribute property,
+			Object currentValue,
+			Object previousValue,
+			boolean[] includeColumns,
+			SharedSessionContractImplementor session) {
+		if ( currentValue == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return false;
 		}
-		else if ( previousState[i] == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+		else if ( previousValue == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
 			return true;
 		}
 		else {
-			return properties[i].isDirtyCheckable()
-				&& properties[i].getType().isDirty( previousState[i], currentState[i], includeColumns[i], session);
+			return property.isDirtyCheckable()
+				&& property.getType().isDirty( previousValue, currentValue, includeColumns, session );
 		}
 	}
 
@@ -94,26 +141,28 @@ class DirtyHelper {
 			final boolean[][] includeColumns,
 			final boolean[] includeProperties,
 			final SharedSessionContractImplementor session) {
-		int[] results = null;
-		int count = 0;
-		int span = properties.length;
-
-		for ( int i = 0; i < span; i++ ) {
-			if ( isModified( properties, currentState, previousState, includeColumns, includeProperties, session, i ) ) {
-				if ( results == null ) {
-					results = new int[ span ];
+		final int span = properties.length;
+		if ( span <= Long.SIZE ) {
+			long modified = 0L;
+			for ( int i = 0; i < span; i++ ) {
+				if ( isModified( properties, currentState, previousState, includeColumns, includeProperties, session, i ) ) {
+					modified |= 1L << i;
 				}
-				results[ count++ ] = i;
 			}
-		}
-
-		if ( count == 0 ) {
-			return null;
+			return modified == 0L ? null : ArrayHelper.toIndexes( modified );
 		}
 		else {
-			int[] trimmed = new int[ count ];
-			System.arraycopy( results, 0, trimmed, 0, count );
-			return trimmed;
+			int[] results = null;
+			int count = 0;
+			for ( int i = 0; i < span; i++ ) {
+				if ( isModified( properties, currentState, previousState, includeColumns, includeProperties, session, i ) ) {
+					if ( results == null ) {
+						results = new int[ span ];
+					}
+					results[ count++ ] = i;
+				}
+			}
+			return count == 0 ? null : ArrayHelper.trim( results, count );
 		}
 	}
 
@@ -7,6 +7,7 @@
 package org.hibernate.persister.entity;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -394,6 +395,25 @@ public interface EntityPersister extends EntityMappingType, EntityMutationTarget
 	 */
 	int[] findDirty(Object[] currentState, Object[] previousState, Object owner, SharedSessionContractImplementor session);
 
+	/**
+	 * Determine if the current state of the given entity is dirty with respect
+	 * to the given baseline snapshot, without necessarily taking a snapshot of
+	 * its current state.
+	 *
+	 * @param owner The entity
+	 * @param previousState The baseline snapshot
+	 * @param session The originating session
+	 * @return {@code true} if at least one property was dirty
+	 *
+	 * @see #findDirty(Object[], Object[], Object, SharedSessionContractImplementor)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isDirty(Object owner, Object[] previousState, SharedSessionContractImplementor session) {
+		return findDirty( getValues( owner ), previousState, owner, session ) != null;
+	}
+
 	/**
 	 * Compare the two snapshots to determine if they represent modified state.
 	 *
@@ -610,6 +630,28 @@ public interface EntityPersister extends EntityMappingType, EntityMutationTarget
 	 */
 	List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions);
 
+	/**
+	 * Performs a load of multiple entities (of this type) by identifier directly
+	 * from the database, without consulting the persistence context or the
+	 * second-level cache.  Intended for use by {@link org.hibernate.StatelessSession}.
+	 *
+	 * @param ids The identifiers to load
+	 * @param lockOptions The lock options to apply
+	 * @param session The originating session
+	 *
+	 * @return The loaded entities, positionally matching {@code ids}, with
+	 * {@code null} for any identifier which does not exist
+	 *
+	 * @since 6.6
+	 */
+	default List<?> multiLoad(Object[] ids, LockOptions lockOptions, SharedSessionContractImplementor session) {
+		final List<Object> result = new ArrayList<>( ids.length );
+		for ( Object id : ids ) {
+			result.add( load( id, null, lockOptions, session ) );
+		}
+		return result;
+	}
+
 	@Override
 	default Object loadByUniqueKey(String propertyName, Object uniqueKey, SharedSessionContractImplementor session) {
 		throw new UnsupportedOperationException(
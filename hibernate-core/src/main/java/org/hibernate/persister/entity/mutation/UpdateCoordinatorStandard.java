@@ -61,8 +61,9 @@ import static org.hibernate.engine.internal.Versioning.isVersionIncrementRequire
 import static org.hibernate.engine.jdbc.mutation.internal.ModelMutationHelper.identifiedResultsCheck;
 import static org.hibernate.generator.EventType.UPDATE;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_INT_ARRAY;
-import static org.hibernate.internal.util.collections.ArrayHelper.contains;
+import static org.hibernate.internal.util.collections.ArrayHelper.isSet;
 import static org.hibernate.internal.util.collections.ArrayHelper.join;
+import static org.hibernate.internal.util.collections.ArrayHelper.toBitMask;
 import static org.hibernate.internal.util.collections.ArrayHelper.trim;
 
 /**
@@ -271,11 +272,14 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			boolean[] attributeUpdateability,
 			boolean forceDynamicUpdate) {
 
+		// encode the dirty attributes once, instead of searching the array for each attribute
+		final long[] dirtyAttributeMask = dirtyAttributeIndexes == null ? null : toBitMask( dirtyAttributeIndexes );
 		final InclusionChecker dirtinessChecker =
 				(position, attribute) -> isDirty(
 						hasDirtyCollection,
 						versionMapping,
 						dirtyAttributeIndexes,
+						dirtyAttributeMask,
 						attributeUpdateability,
 						position,
 						attribute,
@@ -352,6 +356,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			boolean hasDirtyCollection,
 			EntityVersionMapping versionMapping,
 			int[] dirtyAttributeIndexes,
+			long[] dirtyAttributeMask,
 			boolean[] attributeUpdateability,
 			int position,
 			SingularAttributeMapping attribute,
@@ -372,7 +377,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			return true;
 		}
 		else {
-			return contains( dirtyAttributeIndexes, position );
+			return isSet( dirtyAttributeMask, position );
 		}
 	}
 
@@ -1265,6 +1270,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 	protected class UpdateValuesAnalysisImpl implements UpdateValuesAnalysis {
 		private final Object[] values;
 		private final int[] dirtyAttributeIndexes;
+		private final long[] dirtyAttributeMask;
 		private final InclusionChecker dirtinessChecker;
 
 		private final TableSet tablesNeedingUpdate = new TableSet();
@@ -1288,6 +1294,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 				boolean forceDynamicUpdate) {
 			this.values = values;
 			this.dirtyAttributeIndexes = dirtyAttributeIndexes;
+			this.dirtyAttributeMask = dirtyAttributeIndexes == null ? null : toBitMask( dirtyAttributeIndexes );
 			this.dirtinessChecker = dirtinessChecker;
 
 			entityPersister().forEachMutableTable( (tableMapping) -> {
@@ -1385,8 +1392,8 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			}
 			else {
 				currentAttributeAnalysis = new IncludedAttributeAnalysis( (SingularAttributeMapping) attribute );
-				if ( dirtyAttributeIndexes == null
-						|| contains( dirtyAttributeIndexes, attribute.getStateArrayPosition() ) ) {
+				if ( dirtyAttributeMask == null
+						|| isSet( dirtyAttributeMask, attribute.getStateArrayPosition() ) ) {
 					currentAttributeAnalysis.markDirty( dirtyAttributeIndexes != null );
 				}
 			}
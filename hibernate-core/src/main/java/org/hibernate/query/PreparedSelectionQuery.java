@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query;
+
+import org.hibernate.Incubating;
+import org.hibernate.SharedSessionContract;
+
+/**
+ * A handle to an HQL selection query which is interpreted just once, when it
+ * is {@linkplain org.hibernate.SessionFactory#prepareQuery(String, Class)
+ * prepared}, and which may then be executed from any {@link org.hibernate.Session}
+ * or {@link org.hibernate.StatelessSession} belonging to the same factory, much
+ * like a JDBC {@link java.sql.PreparedStatement}.
+ * <pre>
+ * PreparedSelectionQuery&lt;Book&gt; booksByTitle =
+ *         sessionFactory.prepareQuery("from Book where title like :title", Book.class);
+ * ...
+ * List&lt;Book&gt; books =
+ *         booksByTitle.createQuery(session)
+ *                 .setParameter("title", title)
+ *                 .getResultList();
+ * </pre>
+ * <p>
+ * The {@linkplain org.hibernate.query.spi.SelectQueryPlan plan} of the query
+ * is kept by the handle, so that executing the query requires neither parsing
+ * the HQL nor looking up the plan in the query plan cache, as long as the query
+ * is executed without enabled filters or fetch profiles, an entity graph, a lock
+ * mode, or a result transformer, and has no parameter which accepts multiple
+ * values. Otherwise, the plan is obtained as usual.
+ * <p>
+ * A {@code PreparedSelectionQuery} is thread-safe.
+ *
+ * @param <R> The query result type
+ *
+ * @see QueryProducer#createSelectionQuery(PreparedSelectionQuery)
+ *
+ * @since 6.6
+ */
+@Incubating
+public interface PreparedSelectionQuery<R> {
+	/**
+	 * The HQL query string.
+	 */
+	String getQueryString();
+
+	/**
+	 * The query result type.
+	 */
+	Class<R> getResultType();
+
+	/**
+	 * Create an executable {@link SelectionQuery} for this prepared query,
+	 * within the context of the given session.
+	 *
+	 * @see QueryProducer#createSelectionQuery(PreparedSelectionQuery)
+	 */
+	default SelectionQuery<R> createQuery(SharedSessionContract session) {
+		return session.createSelectionQuery( this );
+	}
+}
@@ -876,6 +876,11 @@ public interface Query<R> extends SelectionQuery<R>, MutationQuery, TypedQuery<R
 	@Override
 	Query<R> setFetchSize(int fetchSize);
 
+	@Override @Incubating
+	default Query<R> setDetachWindow(int rows) {
+		throw new UnsupportedOperationException( "Detach window not supported by " + getClass().getName() );
+	}
+
 	@Override
 	Query<R> setReadOnly(boolean readOnly);
 
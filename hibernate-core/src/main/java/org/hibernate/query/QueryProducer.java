@@ -6,6 +6,7 @@
  */
 package org.hibernate.query;
 
+import org.hibernate.Incubating;
 import org.hibernate.query.criteria.JpaCriteriaInsert;
 import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
 
@@ -300,6 +301,18 @@ public interface QueryProducer {
 	 */
 	<R> SelectionQuery<R> createSelectionQuery(CriteriaQuery<R> criteria);
 
+	/**
+	 * Create a {@link SelectionQuery} reference for the given
+	 * {@linkplain PreparedSelectionQuery prepared query}, which
+	 * must belong to the same factory as this session.
+	 *
+	 * @see org.hibernate.SessionFactory#prepareQuery(String, Class)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	<R> SelectionQuery<R> createSelectionQuery(PreparedSelectionQuery<R> preparedQuery);
+
 	/**
 	 * Create a {@link MutationQuery} reference for the given HQL insert,
 	 * update, or delete statement.
@@ -334,6 +334,26 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	 */
 	SelectionQuery<R> setFetchSize(int fetchSize);
 
+	/**
+	 * Automatically detach the entities returned by {@link #scroll()} or
+	 * {@link #stream()} from the persistence context once the given number
+	 * of rows have been read after the last row using them, keeping the
+	 * memory used by the session bounded, however many rows are read.
+	 *
+	 * @param rows The number of rows whose entities are kept managed,
+	 *             or {@code 0} to never detach entities automatically
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see ScrollableResults#setDetachWindow(int)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default SelectionQuery<R> setDetachWindow(int rows) {
+		throw new UnsupportedOperationException( "Detach window not supported by " + getClass().getName() );
+	}
+
 	/**
 	 * Should entities and proxies loaded by this Query be put in read-only
 	 * mode? If the read-only/modifiable setting was not initialized, then
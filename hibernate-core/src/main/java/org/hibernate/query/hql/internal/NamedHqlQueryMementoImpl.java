@@ -8,13 +8,16 @@ package org.hibernate.query.hql.internal;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.hql.spi.SqmQueryImplementor;
 import org.hibernate.query.named.AbstractNamedQueryMemento;
+import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.sqm.SqmSelectionQuery;
 import org.hibernate.query.sqm.internal.QuerySqmImpl;
@@ -39,6 +42,13 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 	private final LockOptions lockOptions;
 	private final Map<String, String> parameterTypes;
 
+	/**
+	 * The interpretations of the query memoized by
+	 * {@link #resolveHqlInterpretation(Class, SessionFactoryImplementor)},
+	 * keyed by result type.
+	 */
+	private transient volatile Map<Object, HqlInterpretation<?>> interpretations;
+
 	public NamedHqlQueryMementoImpl(
 			String name,
 			String hqlString,
@@ -120,6 +130,41 @@ public class NamedHqlQueryMementoImpl extends AbstractNamedQueryMemento implemen
 		);
 	}
 
+	/**
+	 * Obtain the interpretation of the query for the given result type, from
+	 * the {@linkplain QueryEngine#getInterpretationCache() interpretation cache}.
+	 * If {@linkplain org.hibernate.cfg.QuerySettings#LAZY_NAMED_QUERY_INTERPRETATION
+	 * lazy interpretation} is enabled, the interpretation is also memoized by this
+	 * memento, and so the query is interpreted at most once for each result type.
+	 */
+	public <R> HqlInterpretation<R> resolveHqlInterpretation(Class<R> resultType, SessionFactoryImplementor factory) {
+		final QueryEngine queryEngine = factory.getQueryEngine();
+		if ( factory.getSessionFactoryOptions().isLazyNamedQueryInterpretationEnabled() ) {
+			//noinspection unchecked
+			return (HqlInterpretation<R>) getInterpretations().computeIfAbsent(
+					resultType == null ? hqlString : resultType,
+					key -> queryEngine.interpretHql( hqlString, resultType )
+			);
+		}
+		else {
+			return queryEngine.interpretHql( hqlString, resultType );
+		}
+	}
+
+	private Map<Object, HqlInterpretation<?>> getInterpretations() {
+		Map<Object, HqlInterpretation<?>> interpretations = this.interpretations;
+		if ( interpretations == null ) {
+			synchronized ( this ) {
+				interpretations = this.interpretations;
+				if ( interpretations == null ) {
+					interpretations = new ConcurrentHashMap<>();
+					this.interpretations = interpretations;
+				}
+			}
+		}
+		return interpretations;
+	}
+
 	@Override
 	public void validate(QueryEngine queryEngine) {
 		queryEngine.getHqlTranslator().translate( hqlString, null );
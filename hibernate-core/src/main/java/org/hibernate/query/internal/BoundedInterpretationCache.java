@@ -0,0 +1,239 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.query.QueryLogging;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
+
+import org.jboss.logging.Logger;
+
+/**
+ * One of the bounded caches making up {@link QueryInterpretationCacheStandardImpl},
+ * which keeps track of its own hits, misses and evictions.
+ * <p>
+ * The underlying bounded map, created according to the
+ * {@link InterpretationCacheEviction}, has no eviction callback, so evictions
+ * are derived from the number of entries ever inserted, less those removed by
+ * {@link #clear()} and those still present.
+ * <p>
+ * When adaptive, the cache starts out with a fraction of its maximum capacity,
+ * and after every window of look-ups its capacity is doubled if a significant
+ * proportion of the look-ups missed and entries had to be evicted, or halved if
+ * no entry was evicted and the cache is mostly empty. The capacity of the
+ * underlying map is fixed, so resizing means building a new map and copying
+ * the entries over to it, during which concurrent insertions into the old
+ * map may be lost.
+ */
+final class BoundedInterpretationCache<K, V> implements QueryInterpretationCacheStatistics {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	/**
+	 * The smallest capacity of an adaptive cache, and the smallest
+	 * number of look-ups in a window.
+	 */
+	static final int MIN_ADAPTIVE_CAPACITY = 64;
+
+	private static final double GROWTH_MISS_RATE = 0.05;
+
+	private final String name;
+	private final int maxCapacity;
+	private final boolean adaptive;
+	private final InterpretationCacheEviction eviction;
+
+	private volatile ConcurrentMap<K, V> map;
+	private volatile int capacity;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder insertionCount = new LongAdder();
+	private final LongAdder clearedCount = new LongAdder();
+	private volatile long evictionCountOffset;
+
+	private final AtomicInteger windowLookupCount = new AtomicInteger();
+	private final LongAdder windowMissCount = new LongAdder();
+	private volatile long windowStartEvictionCount;
+
+	BoundedInterpretationCache(String name, int maxCapacity, boolean adaptive, InterpretationCacheEviction eviction) {
+		this.name = name;
+		this.eviction = eviction;
+		this.maxCapacity = maxCapacity;
+		this.adaptive = adaptive && maxCapacity > MIN_ADAPTIVE_CAPACITY;
+		this.capacity = this.adaptive
+				? Math.max( MIN_ADAPTIVE_CAPACITY, maxCapacity / 4 )
+				: maxCapacity;
+		this.map = eviction.createMap( capacity );
+	}
+
+	/**
+	 * Look up the entry for the given key, without recording a hit or miss.
+	 */
+	V get(K key) {
+		return map.get( key );
+	}
+
+	void put(K key, V value) {
+		if ( map.put( key, value ) == null ) {
+			insertionCount.increment();
+		}
+	}
+
+	V computeIfAbsent(K key, Function<? super K, ? extends V> creator) {
+		final V existing = map.get( key );
+		if ( existing != null ) {
+			recordHit();
+			return existing;
+		}
+		else {
+			recordMiss();
+			final V created = creator.apply( key );
+			final V raced = map.putIfAbsent( key, created );
+			if ( raced == null ) {
+				insertionCount.increment();
+				return created;
+			}
+			else {
+				return raced;
+			}
+		}
+	}
+
+	void recordHit() {
+		hitCount.increment();
+		if ( adaptive ) {
+			recordLookup();
+		}
+	}
+
+	void recordMiss() {
+		missCount.increment();
+		if ( adaptive ) {
+			windowMissCount.increment();
+			recordLookup();
+		}
+	}
+
+	private void recordLookup() {
+		final int currentCapacity = capacity;
+		// only the thread completing the window adapts the capacity,
+		// and the window restarts once it's done
+		if ( windowLookupCount.incrementAndGet() == Math.max( currentCapacity, MIN_ADAPTIVE_CAPACITY ) ) {
+			adapt( currentCapacity );
+		}
+	}
+
+	private void adapt(int currentCapacity) {
+		final long missesInWindow = windowMissCount.sumThenReset();
+		final long evictions = rawEvictionCount();
+		final long evictionsInWindow = evictions - windowStartEvictionCount;
+		final double missRate = (double) missesInWindow / Math.max( currentCapacity, MIN_ADAPTIVE_CAPACITY );
+
+		final int newCapacity;
+		if ( evictionsInWindow > 0 && missRate >= GROWTH_MISS_RATE ) {
+			newCapacity = Math.min( maxCapacity, currentCapacity * 2 );
+		}
+		else if ( evictionsInWindow <= 0 && map.size() < currentCapacity / 4 ) {
+			newCapacity = Math.max( MIN_ADAPTIVE_CAPACITY, currentCapacity / 2 );
+		}
+		else {
+			newCapacity = currentCapacity;
+		}
+
+		if ( newCapacity != currentCapacity ) {
+			log.debugf(
+					"Resizing query interpretation cache '%s' from %s to %s (miss rate %.3f, %s evictions)",
+					name,
+					currentCapacity,
+					newCapacity,
+					missRate,
+					evictionsInWindow
+			);
+			final ConcurrentMap<K, V> newMap = eviction.createMap( newCapacity );
+			newMap.putAll( map );
+			map = newMap;
+			capacity = newCapacity;
+		}
+
+		windowStartEvictionCount = rawEvictionCount();
+		windowLookupCount.set( 0 );
+	}
+
+	private long rawEvictionCount() {
+		return insertionCount.sum() - clearedCount.sum() - map.size();
+	}
+
+	int size() {
+		return map.size();
+	}
+
+	void forEachKey(Consumer<? super K> consumer) {
+		map.keySet().forEach( consumer );
+	}
+
+	void clear() {
+		final ConcurrentMap<K, V> currentMap = map;
+		clearedCount.add( currentMap.size() );
+		currentMap.clear();
+	}
+
+	/**
+	 * Reset the counters, as of {@link org.hibernate.stat.Statistics#clear()}.
+	 */
+	void clearStatistics() {
+		hitCount.reset();
+		missCount.reset();
+		evictionCountOffset = rawEvictionCount();
+	}
+
+	@Override
+	public String getCacheName() {
+		return name;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		// the counters are read at slightly different times
+		return Math.max( 0, rawEvictionCount() - evictionCountOffset );
+	}
+
+	@Override
+	public long getElementCount() {
+		return map.size();
+	}
+
+	@Override
+	public long getMaxElementCount() {
+		return capacity;
+	}
+
+	@Override
+	public String toString() {
+		return "QueryInterpretationCacheStatistics"
+				+ "[cacheName=" + name
+				+ ",hitCount=" + getHitCount()
+				+ ",missCount=" + getMissCount()
+				+ ",evictionCount=" + getEvictionCount()
+				+ ",elementCount=" + getElementCount()
+				+ ",maxElementCount=" + getMaxElementCount()
+				+ ']';
+	}
+}
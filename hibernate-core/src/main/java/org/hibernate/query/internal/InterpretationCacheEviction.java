@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.WindowTinyLfuMap;
+import org.hibernate.internal.util.config.ConfigurationException;
+
+/**
+ * The bounded map implementations which may back the caches making up
+ * {@link QueryInterpretationCacheStandardImpl}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_EVICTION
+ */
+public enum InterpretationCacheEviction {
+	/**
+	 * A {@link BoundedConcurrentHashMap} with
+	 * {@linkplain BoundedConcurrentHashMap.Eviction#LIRS LIRS} eviction.
+	 */
+	LIRS {
+		@Override
+		<K, V> ConcurrentMap<K, V> createMap(int capacity) {
+			return new BoundedConcurrentHashMap<>( capacity, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		}
+	},
+	/**
+	 * A {@link WindowTinyLfuMap}.
+	 */
+	TINY_LFU {
+		@Override
+		<K, V> ConcurrentMap<K, V> createMap(int capacity) {
+			return new WindowTinyLfuMap<>( capacity );
+		}
+	};
+
+	abstract <K, V> ConcurrentMap<K, V> createMap(int capacity);
+
+	/**
+	 * Interpret the value of the setting
+	 * {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_EVICTION},
+	 * ignoring case, dashes and underscores.
+	 */
+	public static InterpretationCacheEviction interpret(Object setting) {
+		if ( setting == null ) {
+			return LIRS;
+		}
+		else if ( setting instanceof InterpretationCacheEviction ) {
+			return (InterpretationCacheEviction) setting;
+		}
+		else {
+			final String name = setting.toString().trim()
+					.replace( "-", "" )
+					.replace( "_", "" )
+					.toUpperCase( Locale.ROOT );
+			switch ( name ) {
+				case "LIRS":
+					return LIRS;
+				case "TINYLFU":
+				case "WTINYLFU":
+					return TINY_LFU;
+				default:
+					throw new ConfigurationException( "Unrecognized query plan cache eviction policy: " + setting );
+			}
+		}
+	}
+}
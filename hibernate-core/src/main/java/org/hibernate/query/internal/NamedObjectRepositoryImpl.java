@@ -8,6 +8,9 @@ package org.hibernate.query.internal;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
@@ -18,6 +21,7 @@ import org.hibernate.boot.query.NamedNativeQueryDefinition;
 import org.hibernate.boot.query.NamedProcedureCallDefinition;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
 import org.hibernate.query.sqm.EntityTypeException;
 import org.hibernate.query.NamedQueryValidationException;
@@ -35,6 +39,7 @@ import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.cfg.QuerySettings.QUERY_STARTUP_CHECKING_PARALLELISM;
 import static org.hibernate.query.QueryLogging.QUERY_MESSAGE_LOGGER;
 
 /**
@@ -48,6 +53,8 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	private final Map<String, NamedCallableQueryMemento> callableMementoMap;
 	private final Map<String, NamedResultSetMappingMemento> resultSetMappingMementoMap;
 
+	private int checkingParallelism = 1;
+
 	public NamedObjectRepositoryImpl(
 			Map<String,NamedSqmQueryMemento> sqmMementoMap,
 			Map<String,NamedNativeQueryMemento> sqlMementoMap,
@@ -180,6 +187,12 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetamodel) {
+		checkingParallelism = ConfigurationHelper.getInt(
+				QUERY_STARTUP_CHECKING_PARALLELISM,
+				sessionFactory.getProperties(),
+				Runtime.getRuntime().availableProcessors()
+		);
+
 		bootMetamodel.visitNamedHqlQueryDefinitions(
 				namedHqlQueryDefinition -> {
 					final NamedSqmQueryMemento resolved = namedHqlQueryDefinition.resolve( sessionFactory );
@@ -235,31 +248,25 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
-
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final Map<String,HibernateException> errors = new ConcurrentHashMap<>();
 
 		// Check named HQL queries
-		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
-		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
-			final String queryString = hqlMemento.getHqlString();
-			final String registrationName = hqlMemento.getRegistrationName();
+		final int parallelism = Math.min( checkingParallelism, sqmMementoMap.size() );
+		log.debugf( "Checking %s named HQL queries using %s threads", sqmMementoMap.size(), Math.max( parallelism, 1 ) );
+		if ( parallelism > 1 ) {
+			final ForkJoinPool pool = createCheckingPool( parallelism );
 			try {
-				log.debugf( "Checking named HQL query: %s", registrationName );
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						queryEngine.getHqlTranslator()
-				);
+				pool.submit( () -> sqmMementoMap.values().parallelStream()
+						.forEach( hqlMemento -> checkNamedHqlQuery( hqlMemento, queryEngine, errors ) ) )
+						.join();
 			}
-			catch ( QueryException e ) {
-				errors.put( registrationName, e );
+			finally {
+				pool.shutdown();
 			}
-			catch ( PathElementException | TerminalPathException e ) {
-				errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
-			}
-			catch ( EntityTypeException e ) {
-				errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		}
+		else {
+			for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
+				checkNamedHqlQuery( hqlMemento, queryEngine, errors );
 			}
 		}
 
@@ -298,7 +305,53 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 //			}
 		}
 
-		return errors;
+		return new HashMap<>( errors );
+	}
+
+	private static void checkNamedHqlQuery(
+			NamedSqmQueryMemento hqlMemento,
+			QueryEngine queryEngine,
+			Map<String, HibernateException> errors) {
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final String queryString = hqlMemento.getHqlString();
+		final String registrationName = hqlMemento.getRegistrationName();
+		try {
+			log.debugf( "Checking named HQL query: %s", registrationName );
+			interpretationCache.resolveHqlInterpretation(
+					queryString,
+					null,
+					queryEngine.getHqlTranslator()
+			);
+		}
+		catch ( QueryException e ) {
+			errors.put( registrationName, e );
+		}
+		catch ( PathElementException | TerminalPathException e ) {
+			errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
+		}
+		catch ( EntityTypeException e ) {
+			errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		}
+	}
+
+	/**
+	 * A pool of worker threads which see the same context class loader as
+	 * the thread creating the {@code SessionFactory}.
+	 */
+	private static ForkJoinPool createCheckingPool(int parallelism) {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				parallelism,
+				pool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setName( "hibernate-named-query-check-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
 	}
 
 
@@ -202,7 +202,17 @@ public class QueryEngineImpl implements QueryEngine {
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			final boolean adaptive = ConfigurationHelper.getBoolean(
+					AvailableSettings.QUERY_PLAN_CACHE_ADAPTIVE,
+					properties,
+					false
+			);
+
+			final InterpretationCacheEviction eviction = InterpretationCacheEviction.interpret(
+					properties.get( AvailableSettings.QUERY_PLAN_CACHE_EVICTION )
+			);
+
+			return new QueryInterpretationCacheStandardImpl( size, adaptive, eviction, statisticsSupplier );
 		}
 		else {
 			// disabled
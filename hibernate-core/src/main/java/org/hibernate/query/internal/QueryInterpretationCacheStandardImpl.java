@@ -6,11 +6,12 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
@@ -23,6 +24,7 @@ import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
@@ -38,18 +40,52 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final BoundedInterpretationCache<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final BoundedInterpretationCache<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final BoundedInterpretationCache<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
-		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
+		this( maxQueryPlanCount, false, InterpretationCacheEviction.LIRS, statisticsSupplier );
+	}
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	/**
+	 * @param maxQueryPlanCount the maximum number of entries in each cache
+	 * @param adaptive whether each cache should adapt its capacity to its
+	 *                 miss rate, up to the given maximum
+	 * @param eviction the implementation of the bounded maps backing each cache
+	 */
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			boolean adaptive,
+			InterpretationCacheEviction eviction,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		log.debugf(
+				"Starting QueryInterpretationCache(%s, adaptive=%s, eviction=%s)",
+				maxQueryPlanCount,
+				adaptive,
+				eviction
+		);
+
+		this.queryPlanCache = new BoundedInterpretationCache<>(
+				QueryInterpretationCacheStatistics.QUERY_PLANS,
+				maxQueryPlanCount,
+				adaptive,
+				eviction
+		);
+		this.hqlInterpretationCache = new BoundedInterpretationCache<>(
+				QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS,
+				maxQueryPlanCount,
+				adaptive,
+				eviction
+		);
+		this.nativeQueryParamCache = new BoundedInterpretationCache<>(
+				QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS,
+				maxQueryPlanCount,
+				adaptive,
+				eviction
+		);
 		this.statisticsSupplier = statisticsSupplier;
 	}
 
@@ -74,12 +110,14 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		@SuppressWarnings("unchecked")
 		final SelectQueryPlan<R> cached = (SelectQueryPlan<R>) queryPlanCache.get( key );
 		if ( cached != null ) {
+			queryPlanCache.recordHit();
 			if ( stats ) {
 				statistics.queryPlanCacheHit( key.getQueryString() );
 			}
 			return cached;
 		}
 
+		queryPlanCache.recordMiss();
 		final SelectQueryPlan<R> plan = creator.get();
 		queryPlanCache.put( key.prepareForStore(), plan );
 		if ( stats ) {
@@ -91,12 +129,28 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	@Override
 	public NonSelectQueryPlan getNonSelectQueryPlan(Key key) {
 		log.tracef( "QueryPlan#getNonSelectQueryPlan(%s)", key );
+		final QueryPlan cached = queryPlanCache.get( key );
+		if ( cached instanceof NonSelectQueryPlan ) {
+			queryPlanCache.recordHit();
+			final StatisticsImplementor statistics = statisticsSupplier.get();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheHit( key.getQueryString() );
+			}
+			return (NonSelectQueryPlan) cached;
+		}
 		return null;
 	}
 
 	@Override
 	public void cacheNonSelectQueryPlan(Key key, NonSelectQueryPlan plan) {
 		log.tracef( "QueryPlan#cacheNonSelectQueryPlan(%s)", key );
+		// the look-up in getNonSelectQueryPlan() missed
+		queryPlanCache.recordMiss();
+		queryPlanCache.put( key.prepareForStore(), plan );
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheMiss( key.getQueryString() );
+		}
 	}
 
 	@Override
@@ -113,6 +167,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 
 		final HqlInterpretation<?> existing = hqlInterpretationCache.get( cacheKey );
 		if ( existing != null ) {
+			hqlInterpretationCache.recordHit();
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.queryPlanCacheHit( queryString );
 			}
@@ -121,6 +176,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		else if ( expectedResultType != null ) {
 			final HqlInterpretation<?> existingQueryOnly = hqlInterpretationCache.get( queryString );
 			if ( existingQueryOnly != null ) {
+				hqlInterpretationCache.recordHit();
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
 				}
@@ -128,6 +184,7 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 			}
 		}
 
+		hqlInterpretationCache.recordMiss();
 		final HqlInterpretation<R> hqlInterpretation =
 				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
@@ -179,6 +236,31 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		);
 	}
 
+	@Override
+	public void forEachCachedHqlInterpretation(BiConsumer<String, Class<?>> consumer) {
+		hqlInterpretationCache.forEachKey( key -> {
+			if ( key instanceof HqlInterpretationCacheKey ) {
+				final HqlInterpretationCacheKey hqlKey = (HqlInterpretationCacheKey) key;
+				consumer.accept( hqlKey.queryString, hqlKey.expectedResultType );
+			}
+			else {
+				consumer.accept( (String) key, null );
+			}
+		} );
+	}
+
+	@Override
+	public List<QueryInterpretationCacheStatistics> getStatistics() {
+		return List.of( queryPlanCache, hqlInterpretationCache, nativeQueryParamCache );
+	}
+
+	@Override
+	public void clearStatistics() {
+		queryPlanCache.clearStatistics();
+		hqlInterpretationCache.clearStatistics();
+		nativeQueryParamCache.clearStatistics();
+	}
+
 	@Override
 	public boolean isEnabled() {
 		return true;
@@ -263,6 +263,12 @@ public abstract class AbstractQuery<R>
 		return this;
 	}
 
+	@Override
+	public QueryImplementor<R> setDetachWindow(int rows) {
+		super.setDetachWindow( rows );
+		return this;
+	}
+
 	@Override
 	public QueryImplementor<R> setReadOnly(boolean readOnly) {
 		super.setReadOnly( readOnly );
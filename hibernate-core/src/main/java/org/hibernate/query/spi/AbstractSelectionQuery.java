@@ -109,6 +109,7 @@ public abstract class AbstractSelectionQuery<R>
 	public static final String CRITERIA_HQL_STRING = "<criteria>";
 
 	private Callback callback;
+	private int detachWindow;
 
 	public AbstractSelectionQuery(SharedSessionContractImplementor session) {
 		super( session );
@@ -628,7 +629,11 @@ public abstract class AbstractSelectionQuery<R>
 	public ScrollableResultsImplementor<R> scroll(ScrollMode scrollMode) {
 		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
 		try {
-			return doScroll( scrollMode );
+			final ScrollableResultsImplementor<R> results = doScroll( scrollMode );
+			if ( detachWindow > 0 ) {
+				results.setDetachWindow( detachWindow );
+			}
+			return results;
 		}
 		finally {
 			afterQueryHandlingFetchProfiles( fetchProfiles );
@@ -886,6 +891,15 @@ public abstract class AbstractSelectionQuery<R>
 		return this;
 	}
 
+	@Override
+	public SelectionQuery<R> setDetachWindow(int rows) {
+		if ( rows < 0 ) {
+			throw new IllegalArgumentException( "Detach window must not be negative" );
+		}
+		detachWindow = rows;
+		return this;
+	}
+
 	@Override
 	public boolean isReadOnly() {
 		return getQueryOptions().isReadOnly() == null
@@ -6,6 +6,9 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -13,6 +16,7 @@ import org.hibernate.Incubating;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.sql.spi.ParameterInterpretation;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
 
 /**
  * Cache for various parts of translating or interpreting queries.
@@ -48,6 +52,34 @@ public interface QueryInterpretationCache {
 
 	boolean isEnabled();
 
+	/**
+	 * Call the given consumer for each HQL query string with a cached
+	 * {@linkplain HqlInterpretation interpretation}, along with the
+	 * result type it was interpreted for, if any.
+	 *
+	 * @since 6.6
+	 */
+	default void forEachCachedHqlInterpretation(BiConsumer<String, Class<?>> consumer) {
+	}
+
+	/**
+	 * The statistics of each of the caches making up this cache, or an
+	 * empty list if this implementation does not keep such statistics.
+	 *
+	 * @since 6.6
+	 */
+	default List<QueryInterpretationCacheStatistics> getStatistics() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Reset the statistics returned by {@link #getStatistics()}.
+	 *
+	 * @since 6.6
+	 */
+	default void clearStatistics() {
+	}
+
 	/**
 	 * Close the cache when the SessionFactory is closed.
 	 * <p>
@@ -20,6 +20,7 @@ import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.internal.QuerySplitter;
 import org.hibernate.query.spi.AbstractSelectionQuery;
 import org.hibernate.query.spi.MutableQueryOptions;
+import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.sqm.NodeBuilder;
@@ -212,6 +213,43 @@ abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 
 	public abstract Class<R> getExpectedResultType();
 
+	/**
+	 * For criteria queries, query plan caching requires an explicit opt-in,
+	 * unless plans are shared between structurally equivalent criteria queries.
+	 */
+	protected boolean isCriteriaQueryPlanCacheable() {
+		final Boolean queryPlanCachingEnabled = getQueryOptions().getQueryPlanCachingEnabled();
+		return queryPlanCachingEnabled == null ? isCriteriaPlanShareable() : queryPlanCachingEnabled;
+	}
+
+	/**
+	 * @see SqmInterpretationsKey.InterpretationsKeySource#isCriteriaPlanShareable()
+	 */
+	public boolean isCriteriaPlanShareable() {
+		return getSessionFactory().getSessionFactoryOptions().isCriteriaPlanCacheEnabled()
+			&& getSqmStatement() instanceof SqmSelectStatement<?>
+			// the elements of tuple results are the selections of this very criteria query
+			&& getTupleMetadata() == null;
+	}
+
+	protected SelectQueryPlan<R> resolveSelectQueryPlan(SqmInterpretationsKey cacheKey) {
+		final QueryInterpretationCache interpretationCache =
+				getSessionFactory().getQueryEngine().getInterpretationCache();
+		final SqmStatementStructure structure = cacheKey.getStatementStructure();
+		if ( structure == null ) {
+			return interpretationCache.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+		}
+		else {
+			// the cached plan might have been built for another criteria query
+			final CriteriaSelectQueryPlan<R> queryPlan = (CriteriaSelectQueryPlan<R>)
+					interpretationCache.resolveSelectQueryPlan(
+							cacheKey,
+							() -> new CriteriaSelectQueryPlan<>( buildSelectQueryPlan(), structure )
+					);
+			return queryPlan.forStructure( structure );
+		}
+	}
+
 	protected SelectQueryPlan<R> buildSelectQueryPlan() {
 		final SqmSelectStatement<R> statement = (SqmSelectStatement<R>) getSqmStatement();
 		final SqmSelectStatement<R>[] concreteSqmStatements = QuerySplitter.split( statement );
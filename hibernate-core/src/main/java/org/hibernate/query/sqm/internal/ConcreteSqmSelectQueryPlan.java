@@ -10,6 +10,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 
@@ -82,6 +84,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock interpretationLock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -105,69 +111,58 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.executeQueryInterpreter = (resultsConsumer, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						null,
-						resultCountEstimate,
-						resultsConsumer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					null,
+					resultCountEstimate,
+					resultsConsumer
+			);
 		};
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				//noinspection unchecked
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						(Class<R>) executionContext.getResultType(),
-						uniqueSemantic,
-						resultCountEstimate
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			//noinspection unchecked
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					(Class<R>) executionContext.getResultType(),
+					uniqueSemantic,
+					resultCountEstimate
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
 //				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
 //						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
 //						sqmInterpretation.selectStatement,
@@ -175,39 +170,32 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 //						jdbcParameterBindings
 //				);
 
-				final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
-						.getFetchClauseExpression();
-				final int resultCountEstimate = fetchExpression != null
-						? interpretIntExpression( fetchExpression, jdbcParameterBindings )
-						: -1;
-				return jdbcSelectExecutor.scroll(
-						jdbcSelect,
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
-						rowTransformer,
-						resultCountEstimate
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+			final Expression fetchExpression = sqmInterpretation.selectStatement.getQueryPart()
+					.getFetchClauseExpression();
+			final int resultCountEstimate = fetchExpression != null
+					? interpretIntExpression( fetchExpression, jdbcParameterBindings )
+					: -1;
+			return jdbcSelectExecutor.scroll(
+					jdbcSelect,
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
+					rowTransformer,
+					resultCountEstimate
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
 		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		//		multi-valued parameter expansion, etc - because those are all
+		//		part of the cache key (see SqmInterpretationsKey), and the
+		//		expansions are kept by each CacheableSqmInterpretation.
 	}
 
 	protected static SqmJdbcExecutionContextAdapter listInterpreterExecutionContext(
@@ -373,7 +361,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
+		//		to protect access.  However, a simple lock is much simpler here.  We will verify
 		// 		during throughput testing whether this is an issue and consider changes then
 
 		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
@@ -382,7 +370,8 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		executionContext.getSession().autoPreFlush();
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			interpretationLock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
@@ -414,6 +403,9 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 					}
 				}
 			}
+			finally {
+				interpretationLock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -446,7 +438,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -463,10 +455,13 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
-			DomainParameterXref domainParameterXref,
+			DomainParameterXref sharedDomainParameterXref,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		// the plan may be cached and executed concurrently, so the expansions of
+		// multi-valued parameters added by the translation belong to the interpretation
+		final DomainParameterXref domainParameterXref = sharedDomainParameterXref.copy();
 
 		final SqmTranslation<SelectStatement> sqmInterpretation =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
@@ -508,6 +503,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				domainParameterXref,
 				tableGroupAccess,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
@@ -526,6 +522,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private static class CacheableSqmInterpretation {
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
+		private final DomainParameterXref domainParameterXref;
 		private final FromClauseAccess tableGroupAccess;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
@@ -534,12 +531,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		CacheableSqmInterpretation(
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
+				DomainParameterXref domainParameterXref,
 				FromClauseAccess tableGroupAccess,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
+			this.domainParameterXref = domainParameterXref;
 			this.tableGroupAccess = tableGroupAccess;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
@@ -554,6 +553,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return jdbcSelect;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
 		FromClauseAccess getTableGroupAccess() {
 			return tableGroupAccess;
 		}
@@ -0,0 +1,221 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.query.spi.SelectQueryPlan;
+import org.hibernate.sql.results.spi.ResultsConsumer;
+
+/**
+ * A {@link SelectQueryPlan} cached for the {@linkplain SqmStatementStructure structure}
+ * of a criteria query, and shared between structurally equivalent criteria queries.
+ * <p>
+ * The underlying plan refers to the parameters of the criteria query it was built
+ * for, so when it is executed for another criteria query, the parameter bindings of
+ * that query are remapped to the parameters of the plan, which correspond to them
+ * by order of first occurrence.
+ */
+class CriteriaSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	private final SelectQueryPlan<R> delegate;
+	private final List<QueryParameterImplementor<?>> parameters;
+
+	CriteriaSelectQueryPlan(SelectQueryPlan<R> delegate, SqmStatementStructure structure) {
+		this.delegate = delegate;
+		this.parameters = structure.getParameters();
+	}
+
+	/**
+	 * The plan to execute for the criteria query with the given structure.
+	 */
+	SelectQueryPlan<R> forStructure(SqmStatementStructure structure) {
+		final List<QueryParameterImplementor<?>> executingParameters = structure.getParameters();
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			if ( parameters.get( i ) != executingParameters.get( i ) ) {
+				return new RemappedSelectQueryPlan<>( delegate, parameters, executingParameters );
+			}
+		}
+		return delegate;
+	}
+
+	@Override
+	public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
+		return delegate.executeQuery( executionContext, resultsConsumer );
+	}
+
+	@Override
+	public List<R> performList(DomainQueryExecutionContext executionContext) {
+		return delegate.performList( executionContext );
+	}
+
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		return delegate.performScroll( scrollMode, executionContext );
+	}
+
+	private static class RemappedSelectQueryPlan<R> implements SelectQueryPlan<R> {
+		private final SelectQueryPlan<R> delegate;
+		private final List<QueryParameterImplementor<?>> parameters;
+		private final List<QueryParameterImplementor<?>> executingParameters;
+
+		private RemappedSelectQueryPlan(
+				SelectQueryPlan<R> delegate,
+				List<QueryParameterImplementor<?>> parameters,
+				List<QueryParameterImplementor<?>> executingParameters) {
+			this.delegate = delegate;
+			this.parameters = parameters;
+			this.executingParameters = executingParameters;
+		}
+
+		private DomainQueryExecutionContext remap(DomainQueryExecutionContext executionContext) {
+			final QueryParameterBindings bindings = new RemappedQueryParameterBindings(
+					executionContext.getQueryParameterBindings(),
+					parameters,
+					executingParameters
+			);
+			return new DelegatingDomainQueryExecutionContext( executionContext ) {
+				@Override
+				public QueryParameterBindings getQueryParameterBindings() {
+					return bindings;
+				}
+
+				@Override
+				public Class<?> getResultType() {
+					return executionContext.getResultType();
+				}
+			};
+		}
+
+		@Override
+		public <T> T executeQuery(DomainQueryExecutionContext executionContext, ResultsConsumer<T, R> resultsConsumer) {
+			return delegate.executeQuery( remap( executionContext ), resultsConsumer );
+		}
+
+		@Override
+		public List<R> performList(DomainQueryExecutionContext executionContext) {
+			return delegate.performList( remap( executionContext ) );
+		}
+
+		@Override
+		public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+			return delegate.performScroll( scrollMode, remap( executionContext ) );
+		}
+	}
+
+	/**
+	 * Presents the bindings of the executing criteria query as bindings
+	 * of the parameters of the criteria query the plan was built for.
+	 */
+	private static class RemappedQueryParameterBindings implements QueryParameterBindings {
+		private final QueryParameterBindings bindings;
+		private final List<QueryParameterImplementor<?>> parameters;
+		private final List<QueryParameterImplementor<?>> executingParameters;
+
+		private RemappedQueryParameterBindings(
+				QueryParameterBindings bindings,
+				List<QueryParameterImplementor<?>> parameters,
+				List<QueryParameterImplementor<?>> executingParameters) {
+			this.bindings = bindings;
+			this.parameters = parameters;
+			this.executingParameters = executingParameters;
+		}
+
+		private static QueryParameterImplementor<?> correspondingParameter(
+				QueryParameterImplementor<?> parameter,
+				List<QueryParameterImplementor<?>> from,
+				List<QueryParameterImplementor<?>> to) {
+			for ( int i = 0; i < from.size(); i++ ) {
+				if ( from.get( i ) == parameter ) {
+					return to.get( i );
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public boolean isBound(QueryParameterImplementor<?> parameter) {
+			final QueryParameterImplementor<?> executingParameter =
+					correspondingParameter( parameter, parameters, executingParameters );
+			if ( executingParameter != null ) {
+				return bindings.isBound( executingParameter );
+			}
+			else {
+				final QueryParameterBinding<?> binding = getBindingByNameOrPosition( parameter );
+				return binding != null && binding.isBound();
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <P> QueryParameterBinding<P> getBinding(QueryParameterImplementor<P> parameter) {
+			final QueryParameterImplementor<?> executingParameter =
+					correspondingParameter( parameter, parameters, executingParameters );
+			if ( executingParameter != null ) {
+				return (QueryParameterBinding<P>) bindings.getBinding( executingParameter );
+			}
+			else {
+				return (QueryParameterBinding<P>) getBindingByNameOrPosition( parameter );
+			}
+		}
+
+		private QueryParameterBinding<?> getBindingByNameOrPosition(QueryParameterImplementor<?> parameter) {
+			if ( parameter.getName() != null ) {
+				return bindings.getBinding( parameter.getName() );
+			}
+			else if ( parameter.getPosition() != null ) {
+				return bindings.getBinding( parameter.getPosition() );
+			}
+			else {
+				return bindings.getBinding( parameter );
+			}
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(String name) {
+			return bindings.getBinding( name );
+		}
+
+		@Override
+		public <P> QueryParameterBinding<P> getBinding(int position) {
+			return bindings.getBinding( position );
+		}
+
+		@Override
+		public void validate() {
+			bindings.validate();
+		}
+
+		@Override
+		public boolean hasAnyMultiValuedBindings() {
+			return bindings.hasAnyMultiValuedBindings();
+		}
+
+		@Override
+		public QueryKey.ParameterBindingsMemento generateQueryKeyMemento(SharedSessionContractImplementor session) {
+			return bindings.generateQueryKeyMemento( session );
+		}
+
+		@Override
+		public void visitBindings(BiConsumer<QueryParameterImplementor<?>, QueryParameterBinding<?>> action) {
+			bindings.visitBindings( (executingParameter, binding) -> {
+				final QueryParameterImplementor<?> parameter =
+						correspondingParameter( executingParameter, executingParameters, parameters );
+				action.accept( parameter == null ? executingParameter : parameter, binding );
+			} );
+		}
+	}
+}
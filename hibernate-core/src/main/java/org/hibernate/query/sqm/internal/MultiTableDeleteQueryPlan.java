@@ -32,6 +32,7 @@ public class MultiTableDeleteQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmDelete );
-		return deleteStrategy.executeDelete( sqmDelete, domainParameterXref, executionContext );
+		// translating adds the expansions of multi-valued parameters to the xref
+		return deleteStrategy.executeDelete( sqmDelete, domainParameterXref.copy(), executionContext );
 	}
 }
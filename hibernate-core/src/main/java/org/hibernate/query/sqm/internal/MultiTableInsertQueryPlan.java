@@ -32,6 +32,7 @@ public class MultiTableInsertQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmInsert );
-		return mutationStrategy.executeInsert( sqmInsert, domainParameterXref, executionContext );
+		// translating adds the expansions of multi-valued parameters to the xref
+		return mutationStrategy.executeInsert( sqmInsert, domainParameterXref.copy(), executionContext );
 	}
 }
@@ -33,6 +33,8 @@ public class MultiTableUpdateQueryPlan implements NonSelectQueryPlan {
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmUpdate );
-		return mutationStrategy.executeUpdate( sqmUpdate, domainParameterXref, executionContext );
+		// the plan may be cached and executed concurrently, and
+		// translating adds the expansions of multi-valued parameters
+		return mutationStrategy.executeUpdate( sqmUpdate, domainParameterXref.copy(), executionContext );
 	}
 }
@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.function.Supplier;
+
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.PreparedSelectionQuery;
+import org.hibernate.query.QueryParameter;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.SelectQueryPlan;
+
+/**
+ * Standard implementation of {@link PreparedSelectionQuery}, which holds the
+ * {@link HqlInterpretation} of the query, and the plan of the query for
+ * executions which do not depend on anything but the query itself.
+ *
+ * @see SqmSelectionQueryImpl
+ */
+public class PreparedSelectionQueryImpl<R> implements PreparedSelectionQuery<R> {
+	private final String hql;
+	private final Class<R> resultType;
+	private final SessionFactoryImplementor sessionFactory;
+	private final HqlInterpretation<R> interpretation;
+	private final boolean hasMultiValuedParameters;
+
+	private volatile SelectQueryPlan<R> queryPlan;
+
+	public PreparedSelectionQueryImpl(String hql, Class<R> resultType, SessionFactoryImplementor sessionFactory) {
+		this.hql = hql;
+		this.resultType = resultType;
+		this.sessionFactory = sessionFactory;
+		this.interpretation = sessionFactory.getQueryEngine().interpretHql( hql, resultType );
+		SqmUtil.verifyIsSelectStatement( interpretation.getSqmStatement(), hql );
+		this.hasMultiValuedParameters =
+				interpretation.getParameterMetadata().hasAnyMatching( QueryParameter::allowsMultiValuedBinding );
+	}
+
+	@Override
+	public String getQueryString() {
+		return hql;
+	}
+
+	@Override
+	public Class<R> getResultType() {
+		return resultType;
+	}
+
+	public SessionFactoryImplementor getSessionFactory() {
+		return sessionFactory;
+	}
+
+	public HqlInterpretation<R> getInterpretation() {
+		return interpretation;
+	}
+
+	/**
+	 * Resolve the plan for an execution of the given query, which was
+	 * created for this prepared query. The plan kept by this prepared
+	 * query is only used when the execution depends on nothing which
+	 * would distinguish its {@link SqmInterpretationsKey}.
+	 */
+	SelectQueryPlan<R> resolveQueryPlan(SqmSelectionQueryImpl<R> query, Supplier<SelectQueryPlan<R>> resolver) {
+		if ( isQueryPlanShareable( query ) ) {
+			SelectQueryPlan<R> plan = queryPlan;
+			if ( plan == null ) {
+				// a race here just means the plan gets resolved twice
+				plan = resolver.get();
+				queryPlan = plan;
+			}
+			return plan;
+		}
+		else {
+			return resolver.get();
+		}
+	}
+
+	private boolean isQueryPlanShareable(SqmSelectionQueryImpl<R> query) {
+		if ( hasMultiValuedParameters || !query.isQueryPlanCacheable() ) {
+			return false;
+		}
+		final QueryOptions queryOptions = query.getQueryOptions();
+		final LoadQueryInfluencers loadQueryInfluencers = query.getLoadQueryInfluencers();
+		return queryOptions.getLockOptions().isEmpty()
+			&& queryOptions.getTupleTransformer() == null
+			&& queryOptions.getResultListTransformer() == null
+			&& queryOptions.getAppliedGraph().getSemantic() == null
+			&& !loadQueryInfluencers.hasEnabledFilters()
+			&& !loadQueryInfluencers.hasEnabledFetchProfiles();
+	}
+
+	@Override
+	public String toString() {
+		return "PreparedSelectionQuery(" + hql + ")";
+	}
+}
@@ -69,7 +69,6 @@ import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
-import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -161,10 +160,8 @@ public class QuerySqmImpl<R>
 		this.hql = memento.getHqlString();
 		this.resultType = expectedResultType;
 
-		final QueryEngine queryEngine = session.getFactory().getQueryEngine();
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
 		final HqlInterpretation<R> hqlInterpretation =
-				interpretationCache.resolveHqlInterpretation( hql, expectedResultType, queryEngine.getHqlTranslator() );
+				memento.resolveHqlInterpretation( expectedResultType, session.getFactory() );
 
 		this.sqm = hqlInterpretation.getSqmStatement();
 
@@ -591,16 +588,25 @@ public class QuerySqmImpl<R>
 	@Override
 	public boolean isQueryPlanCacheable() {
 		return CRITERIA_HQL_STRING.equals( hql )
-				// For criteria queries, query plan caching requires an explicit opt-in
-				? getQueryOptions().getQueryPlanCachingEnabled() == Boolean.TRUE
+				? isCriteriaQueryPlanCacheable()
 				: super.isQueryPlanCacheable();
 	}
 
+	/**
+	 * Resolve the plan of this query, if it is a select query, ahead of its first
+	 * execution, so that it is cached in the {@linkplain org.hibernate.query.spi.QueryEngine#getInterpretationCache()
+	 * interpretation cache}. The SQL is still only translated when the query is executed.
+	 */
+	public void prepareSelectQueryPlan() {
+		if ( getSqmStatement() instanceof SqmSelectStatement<?> ) {
+			resolveSelectQueryPlan();
+		}
+	}
+
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
+		final SqmInterpretationsKey cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSession().getFactory().getQueryEngine().getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+			return resolveSelectQueryPlan( cacheKey );
 		}
 		else {
 			return buildSelectQueryPlan();
@@ -645,12 +651,7 @@ public class QuerySqmImpl<R>
 	}
 
 	protected int doExecuteUpdate() {
-		try {
-			return resolveNonSelectQueryPlan().executeUpdate( this );
-		}
-		finally {
-			domainParameterXref.clearExpansions();
-		}
+		return resolveNonSelectQueryPlan().executeUpdate( this );
 	}
 
 	private NonSelectQueryPlan resolveNonSelectQueryPlan() {
@@ -1164,6 +1165,12 @@ public class QuerySqmImpl<R>
 		return this;
 	}
 
+	@Override
+	public SqmQueryImplementor<R> setDetachWindow(int rows) {
+		super.setDetachWindow( rows );
+		return this;
+	}
+
 	@Override
 	public SqmQueryImplementor<R> setReadOnly(boolean readOnly) {
 		super.setReadOnly( readOnly );
@@ -58,10 +58,9 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 	private final SqmDeleteStatement<?> sqmDelete;
 	private final DomainParameterXref domainParameterXref;
 
-	private JdbcOperationQueryMutation jdbcOperation;
-
-	private SqmTranslation<? extends AbstractUpdateOrDeleteStatement> sqmInterpretation;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+	// the plan may be cached and executed concurrently, so
+	// the interpretation is only ever published as a whole
+	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
 
 	public SimpleDeleteQueryPlan(
 			EntityMappingType entityDescriptor,
@@ -85,39 +84,33 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<? extends JdbcOperationQueryMutation> sqlAstTranslator = null;
-		if ( jdbcOperation == null ) {
-			sqlAstTranslator = createTranslator( executionContext );
-		}
 
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				sqmInterpretation.getFromClauseAccess()::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
-					}
-				},
-				session
-		);
-
-		if ( jdbcOperation != null
-				&& ! jdbcOperation.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-			sqlAstTranslator = createTranslator( executionContext );
+		CacheableSqmInterpretation interpretation = cacheableSqmInterpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( interpretation != null ) {
+			jdbcParameterBindings = createJdbcParameterBindings(
+					interpretation.domainParameterXref,
+					interpretation.sqmInterpretation,
+					interpretation.jdbcParamsXref,
+					executionContext
+			);
+			if ( !interpretation.jdbcOperation.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				interpretation = null;
+			}
 		}
 
-		if ( sqlAstTranslator != null ) {
-			jdbcOperation = sqlAstTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		if ( interpretation == null ) {
+			interpretation = buildCacheableSqmInterpretation( executionContext );
+			jdbcParameterBindings = interpretation.firstParameterBindings;
+			interpretation.firstParameterBindings = null;
+			cacheableSqmInterpretation = interpretation;
 		}
 
+		final SqmTranslation<? extends AbstractUpdateOrDeleteStatement> sqmInterpretation = interpretation.sqmInterpretation;
 		final boolean missingRestriction = sqmInterpretation.getSqlAst().getRestriction() == null;
 		if ( missingRestriction ) {
-			assert domainParameterXref.getSqmParameterCount() == 0;
-			assert jdbcParamsXref.isEmpty();
+			assert interpretation.domainParameterXref.getSqmParameterCount() == 0;
+			assert interpretation.jdbcParamsXref.isEmpty();
 		}
 
 		final SqmJdbcExecutionContextAdapter executionContextAdapter = SqmJdbcExecutionContextAdapter.usingLockingAndPaging( executionContext );
@@ -161,10 +154,11 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 							attributeMapping,
 							sqmInterpretation.getSqlAst().getTargetTable()
 					);
+					// the resolver of the interpretation is not used, since it might be shared by concurrent executions
 					final Expression fkTargetColumnExpression = MappingModelCreationHelper.buildColumnReferenceExpression(
 							tableGroup,
 							fkDescriptor.getTargetPart(),
-							sqmInterpretation.getSqlExpressionResolver(),
+							null,
 							factory
 					);
 					matchingIdSubQuery.getSelectClause().addSqlSelection( new SqlSelectionImpl( 0, fkTargetColumnExpression ) );
@@ -185,7 +179,7 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		);
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcOperation,
+				interpretation.jdbcOperation,
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -196,8 +190,32 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 		);
 	}
 
-	protected SqlAstTranslator<? extends JdbcOperationQueryMutation> createTranslator(DomainQueryExecutionContext executionContext) {
+	private static JdbcParameterBindings createJdbcParameterBindings(
+			DomainParameterXref domainParameterXref,
+			SqmTranslation<? extends AbstractUpdateOrDeleteStatement> sqmInterpretation,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				sqmInterpretation.getFromClauseAccess()::findTableGroup,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
+					}
+				},
+				session
+		);
+	}
+
+	private CacheableSqmInterpretation buildCacheableSqmInterpretation(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		// the expansions of multi-valued parameters belong to this interpretation
+		final DomainParameterXref domainParameterXref = this.domainParameterXref.copy();
 		final SqmTranslator<? extends MutationStatement> translator = factory.getQueryEngine().getSqmTranslatorFactory().createMutationTranslator(
 				sqmDelete,
 				executionContext.getQueryOptions(),
@@ -207,12 +225,28 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				factory
 		);
 		//noinspection unchecked
-		sqmInterpretation = (SqmTranslation<? extends AbstractUpdateOrDeleteStatement>) translator.translate();
+		final SqmTranslation<? extends AbstractUpdateOrDeleteStatement> sqmInterpretation =
+				(SqmTranslation<? extends AbstractUpdateOrDeleteStatement>) translator.translate();
+
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref =
+				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
+		final JdbcParameterBindings jdbcParameterBindings =
+				createJdbcParameterBindings( domainParameterXref, sqmInterpretation, jdbcParamsXref, executionContext );
 
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
+		final JdbcOperationQueryMutation jdbcOperation = createTranslator( sqmInterpretation, factory )
+				.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		return new CacheableSqmInterpretation(
+				jdbcOperation,
 				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
+				sqmInterpretation,
+				jdbcParamsXref,
+				jdbcParameterBindings
 		);
+	}
+
+	protected SqlAstTranslator<? extends JdbcOperationQueryMutation> createTranslator(
+			SqmTranslation<? extends AbstractUpdateOrDeleteStatement> sqmInterpretation,
+			SessionFactoryImplementor factory) {
 		final MutationStatement ast;
 		if ( entityDescriptor.getSoftDeleteMapping() == null ) {
 			ast = sqmInterpretation.getSqlAst();
@@ -238,4 +272,24 @@ public class SimpleDeleteQueryPlan implements NonSelectQueryPlan {
 				.buildMutationTranslator( factory, ast );
 	}
 
+	private static class CacheableSqmInterpretation {
+		private final JdbcOperationQueryMutation jdbcOperation;
+		private final DomainParameterXref domainParameterXref;
+		private final SqmTranslation<? extends AbstractUpdateOrDeleteStatement> sqmInterpretation;
+		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+		private JdbcParameterBindings firstParameterBindings;
+
+		CacheableSqmInterpretation(
+				JdbcOperationQueryMutation jdbcOperation,
+				DomainParameterXref domainParameterXref,
+				SqmTranslation<? extends AbstractUpdateOrDeleteStatement> sqmInterpretation,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+				JdbcParameterBindings firstParameterBindings) {
+			this.jdbcOperation = jdbcOperation;
+			this.domainParameterXref = domainParameterXref;
+			this.sqmInterpretation = sqmInterpretation;
+			this.jdbcParamsXref = jdbcParamsXref;
+			this.firstParameterBindings = firstParameterBindings;
+		}
+	}
 }
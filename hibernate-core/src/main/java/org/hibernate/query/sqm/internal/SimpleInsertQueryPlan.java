@@ -22,7 +22,6 @@ import org.hibernate.query.sqm.sql.SqmTranslation;
 import org.hibernate.query.sqm.sql.SqmTranslator;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.insert.SqmInsertStatement;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.tree.MutationStatement;
 import org.hibernate.sql.ast.tree.insert.InsertStatement;
@@ -37,11 +36,10 @@ import org.hibernate.sql.exec.spi.JdbcParametersList;
 public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 	private final SqmInsertStatement<?> sqmInsert;
 	private final DomainParameterXref domainParameterXref;
-	private Map<SqmParameter<?>, MappingModelExpressible<?>> paramTypeResolutions;
 
-	private JdbcOperationQueryMutation jdbcInsert;
-	private FromClauseAccess tableGroupAccess;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+	// the plan may be cached and executed concurrently, so
+	// the interpretation is only ever published as a whole
+	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
 
 	public SimpleInsertQueryPlan(
 			SqmInsertStatement<?> sqmInsert,
@@ -50,81 +48,136 @@ public class SimpleInsertQueryPlan implements NonSelectQueryPlan {
 		this.domainParameterXref = domainParameterXref;
 	}
 
-	private SqlAstTranslator<? extends JdbcOperationQueryMutation> createInsertTranslator(DomainQueryExecutionContext executionContext) {
-		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
-
-		final SqmTranslation<? extends MutationStatement> sqmInterpretation = factory.getQueryEngine().getSqmTranslatorFactory()
-				.createMutationTranslator(
-								sqmInsert,
-								executionContext.getQueryOptions(),
-								domainParameterXref,
-								executionContext.getQueryParameterBindings(),
-								executionContext.getSession().getLoadQueryInfluencers(),
-								factory
-						)
-						.translate();
-
-		tableGroupAccess = sqmInterpretation.getFromClauseAccess();
-
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
-				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
-		);
-
-		this.paramTypeResolutions = sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
-
-		return factory.getJdbcServices()
-				.getJdbcEnvironment()
-				.getSqlAstTranslatorFactory()
-				.buildMutationTranslator( factory, sqmInterpretation.getSqlAst() );
-	}
-
 	@Override
 	public int executeUpdate(DomainQueryExecutionContext executionContext) {
 		BulkOperationCleanupAction.schedule( executionContext.getSession(), sqmInsert );
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<? extends JdbcOperationQueryMutation> insertTranslator = null;
-		if ( jdbcInsert == null ) {
-			insertTranslator = createInsertTranslator( executionContext );
+
+		CacheableSqmInterpretation interpretation = cacheableSqmInterpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( interpretation != null ) {
+			jdbcParameterBindings = createJdbcParameterBindings(
+					interpretation.domainParameterXref,
+					interpretation.tableGroupAccess,
+					interpretation.jdbcParamsXref,
+					interpretation.sqmParamMappingTypeResolutions,
+					executionContext
+			);
+			if ( !interpretation.jdbcInsert.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				interpretation = null;
+			}
+		}
+
+		if ( interpretation == null ) {
+			interpretation = buildCacheableSqmInterpretation( executionContext );
+			jdbcParameterBindings = interpretation.firstParameterBindings;
+			interpretation.firstParameterBindings = null;
+			cacheableSqmInterpretation = interpretation;
 		}
 
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
+		return jdbcServices.getJdbcMutationExecutor().execute(
+				interpretation.jdbcInsert,
+				jdbcParameterBindings,
+				sql -> session
+						.getJdbcCoordinator()
+						.getStatementPreparer()
+						.prepareStatement( sql ),
+				(integer, preparedStatement) -> {},
+				SqmJdbcExecutionContextAdapter.omittingLockingAndPaging( executionContext )
+		);
+	}
+
+	private static JdbcParameterBindings createJdbcParameterBindings(
+			DomainParameterXref domainParameterXref,
+			FromClauseAccess tableGroupAccess,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
 				domainParameterXref,
 				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				tableGroupAccess::findTableGroup,
 				new SqmParameterMappingModelResolutionAccess() {
 					@Override @SuppressWarnings("unchecked")
 					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) paramTypeResolutions.get(parameter);
+						return (MappingModelExpressible<T>) sqmParamMappingTypeResolutions.get(parameter);
 					}
 				},
 				session
 		);
+	}
 
-		if ( jdbcInsert != null && !jdbcInsert.isCompatibleWith(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		) ) {
-			insertTranslator = createInsertTranslator( executionContext );
-		}
+	private CacheableSqmInterpretation buildCacheableSqmInterpretation(DomainQueryExecutionContext executionContext) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		// the expansions of multi-valued parameters belong to this interpretation
+		final DomainParameterXref domainParameterXref = this.domainParameterXref.copy();
 
-		if ( insertTranslator != null ) {
-			jdbcInsert = insertTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
-		}
+		final SqmTranslation<? extends MutationStatement> sqmInterpretation =
+				factory.getQueryEngine().getSqmTranslatorFactory()
+						.createMutationTranslator(
+								sqmInsert,
+								executionContext.getQueryOptions(),
+								domainParameterXref,
+								executionContext.getQueryParameterBindings(),
+								executionContext.getSession().getLoadQueryInfluencers(),
+								factory
+						)
+						.translate();
 
-		return jdbcServices.getJdbcMutationExecutor().execute(
+		final FromClauseAccess tableGroupAccess = sqmInterpretation.getFromClauseAccess();
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref =
+				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
+		final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions =
+				sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
+
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
+				domainParameterXref,
+				tableGroupAccess,
+				jdbcParamsXref,
+				sqmParamMappingTypeResolutions,
+				executionContext
+		);
+		final JdbcOperationQueryMutation jdbcInsert = factory.getJdbcServices().getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildMutationTranslator( factory, sqmInterpretation.getSqlAst() )
+				.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+
+		return new CacheableSqmInterpretation(
 				jdbcInsert,
-				jdbcParameterBindings,
-				sql -> session
-						.getJdbcCoordinator()
-						.getStatementPreparer()
-						.prepareStatement( sql ),
-				(integer, preparedStatement) -> {},
-				SqmJdbcExecutionContextAdapter.omittingLockingAndPaging( executionContext )
+				domainParameterXref,
+				tableGroupAccess,
+				jdbcParamsXref,
+				sqmParamMappingTypeResolutions,
+				jdbcParameterBindings
 		);
 	}
+
+	private static class CacheableSqmInterpretation {
+		private final JdbcOperationQueryMutation jdbcInsert;
+		private final DomainParameterXref domainParameterXref;
+		private final FromClauseAccess tableGroupAccess;
+		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions;
+		private JdbcParameterBindings firstParameterBindings;
+
+		CacheableSqmInterpretation(
+				JdbcOperationQueryMutation jdbcInsert,
+				DomainParameterXref domainParameterXref,
+				FromClauseAccess tableGroupAccess,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions,
+				JdbcParameterBindings firstParameterBindings) {
+			this.jdbcInsert = jdbcInsert;
+			this.domainParameterXref = domainParameterXref;
+			this.tableGroupAccess = tableGroupAccess;
+			this.jdbcParamsXref = jdbcParamsXref;
+			this.sqmParamMappingTypeResolutions = sqmParamMappingTypeResolutions;
+			this.firstParameterBindings = firstParameterBindings;
+		}
+	}
 }
@@ -21,12 +21,9 @@ import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
-import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.tree.MutationStatement;
-import org.hibernate.sql.ast.tree.update.UpdateStatement;
 import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
-import org.hibernate.sql.exec.spi.JdbcOperationQueryUpdate;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 
@@ -37,10 +34,9 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 	private final SqmUpdateStatement<?> sqmUpdate;
 	private final DomainParameterXref domainParameterXref;
 
-	private JdbcOperationQueryMutation jdbcUpdate;
-	private FromClauseAccess tableGroupAccess;
-	private Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
-	private Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions;
+	// the plan may be cached and executed concurrently, so
+	// the interpretation is only ever published as a whole
+	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
 
 	public SimpleUpdateQueryPlan(
 			SqmUpdateStatement<?> sqmUpdate,
@@ -55,39 +51,31 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final JdbcServices jdbcServices = factory.getJdbcServices();
-		SqlAstTranslator<? extends JdbcOperationQueryMutation> updateTranslator = null;
-		if ( jdbcUpdate == null ) {
-			updateTranslator = createUpdateTranslator( executionContext );
-		}
 
-		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
-				jdbcParamsXref,
-				factory.getRuntimeMetamodels().getMappingMetamodel(),
-				tableGroupAccess::findTableGroup,
-				new SqmParameterMappingModelResolutionAccess() {
-					@Override @SuppressWarnings("unchecked")
-					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-						return (MappingModelExpressible<T>) sqmParamMappingTypeResolutions.get(parameter);
-					}
-				},
-				session
-		);
-
-		if ( jdbcUpdate != null && !jdbcUpdate.isCompatibleWith(
-				jdbcParameterBindings,
-				executionContext.getQueryOptions()
-		) ) {
-			updateTranslator = createUpdateTranslator( executionContext );
+		CacheableSqmInterpretation interpretation = cacheableSqmInterpretation;
+		JdbcParameterBindings jdbcParameterBindings = null;
+		if ( interpretation != null ) {
+			jdbcParameterBindings = createJdbcParameterBindings(
+					interpretation.domainParameterXref,
+					interpretation.tableGroupAccess,
+					interpretation.jdbcParamsXref,
+					interpretation.sqmParamMappingTypeResolutions,
+					executionContext
+			);
+			if ( !interpretation.jdbcUpdate.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				interpretation = null;
+			}
 		}
 
-		if ( updateTranslator != null ) {
-			jdbcUpdate = updateTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+		if ( interpretation == null ) {
+			interpretation = buildCacheableSqmInterpretation( executionContext );
+			jdbcParameterBindings = interpretation.firstParameterBindings;
+			interpretation.firstParameterBindings = null;
+			cacheableSqmInterpretation = interpretation;
 		}
 
 		return jdbcServices.getJdbcMutationExecutor().execute(
-				jdbcUpdate,
+				interpretation.jdbcUpdate,
 				jdbcParameterBindings,
 				sql -> session
 						.getJdbcCoordinator()
@@ -98,8 +86,33 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 		);
 	}
 
-	private SqlAstTranslator<? extends JdbcOperationQueryMutation> createUpdateTranslator(DomainQueryExecutionContext executionContext) {
+	private static JdbcParameterBindings createJdbcParameterBindings(
+			DomainParameterXref domainParameterXref,
+			FromClauseAccess tableGroupAccess,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions,
+			DomainQueryExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				tableGroupAccess::findTableGroup,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+						return (MappingModelExpressible<T>) sqmParamMappingTypeResolutions.get(parameter);
+					}
+				},
+				session
+		);
+	}
+
+	private CacheableSqmInterpretation buildCacheableSqmInterpretation(DomainQueryExecutionContext executionContext) {
 		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		// the expansions of multi-valued parameters belong to this interpretation
+		final DomainParameterXref domainParameterXref = this.domainParameterXref.copy();
 
 		final SqmTranslation<? extends MutationStatement> sqmInterpretation =
 				factory.getQueryEngine().getSqmTranslatorFactory()
@@ -113,16 +126,55 @@ public class SimpleUpdateQueryPlan implements NonSelectQueryPlan {
 						)
 						.translate();
 
-		tableGroupAccess = sqmInterpretation.getFromClauseAccess();
+		final FromClauseAccess tableGroupAccess = sqmInterpretation.getFromClauseAccess();
+		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref =
+				SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
+		final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions =
+				sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
 
-		this.jdbcParamsXref = SqmUtil.generateJdbcParamsXref(
+		final JdbcParameterBindings jdbcParameterBindings = createJdbcParameterBindings(
 				domainParameterXref,
-				sqmInterpretation::getJdbcParamsBySqmParam
+				tableGroupAccess,
+				jdbcParamsXref,
+				sqmParamMappingTypeResolutions,
+				executionContext
 		);
+		final JdbcOperationQueryMutation jdbcUpdate = factory.getJdbcServices().getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildMutationTranslator( factory, sqmInterpretation.getSqlAst() )
+				.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
 
-		this.sqmParamMappingTypeResolutions = sqmInterpretation.getSqmParameterMappingModelTypeResolutions();
+		return new CacheableSqmInterpretation(
+				jdbcUpdate,
+				domainParameterXref,
+				tableGroupAccess,
+				jdbcParamsXref,
+				sqmParamMappingTypeResolutions,
+				jdbcParameterBindings
+		);
+	}
 
-		return factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
-				.buildMutationTranslator( factory, sqmInterpretation.getSqlAst() );
+	private static class CacheableSqmInterpretation {
+		private final JdbcOperationQueryMutation jdbcUpdate;
+		private final DomainParameterXref domainParameterXref;
+		private final FromClauseAccess tableGroupAccess;
+		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions;
+		private JdbcParameterBindings firstParameterBindings;
+
+		CacheableSqmInterpretation(
+				JdbcOperationQueryMutation jdbcUpdate,
+				DomainParameterXref domainParameterXref,
+				FromClauseAccess tableGroupAccess,
+				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParamMappingTypeResolutions,
+				JdbcParameterBindings firstParameterBindings) {
+			this.jdbcUpdate = jdbcUpdate;
+			this.domainParameterXref = domainParameterXref;
+			this.tableGroupAccess = tableGroupAccess;
+			this.jdbcParamsXref = jdbcParamsXref;
+			this.sqmParamMappingTypeResolutions = sqmParamMappingTypeResolutions;
+			this.firstParameterBindings = firstParameterBindings;
+		}
 	}
 }
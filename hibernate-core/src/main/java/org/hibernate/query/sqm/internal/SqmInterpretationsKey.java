@@ -6,19 +6,33 @@
  */
 package org.hibernate.query.sqm.internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import org.hibernate.Filter;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.AttributeNodeImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.graph.spi.SubGraphImplementor;
+import org.hibernate.internal.FilterImpl;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 
 import static java.lang.Boolean.TRUE;
 import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
@@ -33,18 +47,39 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		SqmStatement<?> getSqmStatement();
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
+		QueryParameterBindings getQueryParameterBindings();
 		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
 	}
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
 		Class<?> getResultType();
+
+		/**
+		 * Whether the plan of a criteria query may be shared between
+		 * structurally equivalent criteria queries.
+		 *
+		 * @see org.hibernate.cfg.QuerySettings#CRITERIA_PLAN_CACHE_ENABLED
+		 */
+		default boolean isCriteriaPlanShareable() {
+			return false;
+		}
 	}
 
 	public static SqmInterpretationsKey createInterpretationsKey(InterpretationsKeySource keySource) {
 		if ( isCacheable ( keySource ) ) {
-			final Object query = CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
-					? keySource.getSqmStatement()
-					: keySource.getQueryString();
+			final Object query;
+			final SqmStatementStructure structure;
+			if ( CRITERIA_HQL_STRING.equals( keySource.getQueryString() ) ) {
+				structure = keySource.isCriteriaPlanShareable()
+						&& keySource.getSqmStatement() instanceof SqmSelectStatement<?>
+						? SqmStatementStructure.from( (SqmSelectStatement<?>) keySource.getSqmStatement() )
+						: null;
+				query = structure == null ? keySource.getSqmStatement() : structure;
+			}
+			else {
+				structure = null;
+				query = keySource.getQueryString();
+			}
 			return new SqmInterpretationsKey(
 					query,
 					query.hashCode(),
@@ -52,7 +87,10 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 					keySource.getQueryOptions().getLockOptions(),
 					keySource.getQueryOptions().getTupleTransformer(),
 					keySource.getQueryOptions().getResultListTransformer(),
-					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() )
+					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() ),
+					enabledFilterShapes( keySource.getLoadQueryInfluencers() ),
+					appliedGraphStructure( keySource.getQueryOptions().getAppliedGraph() ),
+					multiValuedParameterShapes( keySource, structure )
 			);
 		}
 		else {
@@ -79,32 +117,165 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		}
 	}
 
+	/**
+	 * The number of values bound to each parameter which accepts multiple values,
+	 * or {@code -1} if it is bound to a single value. This determines how many
+	 * times the parameter is expanded when translating the query.
+	 */
+	private static Map<Object, Integer> multiValuedParameterShapes(
+			CacheabilityInfluencers keySource,
+			SqmStatementStructure structure) {
+		if ( keySource.hasMultiValuedParameterBindingsChecker().get() != TRUE ) {
+			return null;
+		}
+		else {
+			final Map<Object, Integer> shapes = new HashMap<>();
+			keySource.getQueryParameterBindings().visitBindings( (parameter, binding) -> {
+				if ( binding.isMultiValued() ) {
+					shapes.put( parameterKey( parameter, structure ), binding.getBindValues().size() );
+				}
+				else if ( parameter.allowsMultiValuedBinding() ) {
+					shapes.put( parameterKey( parameter, structure ), -1 );
+				}
+			} );
+			return Map.copyOf( shapes );
+		}
+	}
+
+	private static Object parameterKey(QueryParameterImplementor<?> parameter, SqmStatementStructure structure) {
+		if ( parameter.getName() != null ) {
+			return parameter.getName();
+		}
+		else if ( parameter.getPosition() != null ) {
+			return parameter.getPosition();
+		}
+		else if ( structure != null ) {
+			// a criteria parameter, which corresponds to the parameters at the
+			// same index in structurally equivalent criteria queries
+			return List.of( structure.indexOf( parameter ) );
+		}
+		else {
+			// a criteria parameter, which belongs to the criteria query
+			return parameter;
+		}
+	}
+
+	/**
+	 * The enabled filters, together with the number of values of each of
+	 * their multi-valued parameters, which determines the number of JDBC
+	 * parameters rendered for the filter fragment. The values themselves
+	 * are bound per execution by {@link org.hibernate.internal.FilterJdbcParameter}.
+	 */
+	private static Map<String, List<Integer>> enabledFilterShapes(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFilters() ) {
+			return null;
+		}
+		else {
+			// validates the filters, which is otherwise only done when translating
+			final Map<String, Filter> enabledFilters = loadQueryInfluencers.getEnabledFilters();
+			final Map<String, List<Integer>> shapes = new HashMap<>( enabledFilters.size() );
+			for ( Filter filter : enabledFilters.values() ) {
+				final Set<String> parameterNames = filter.getFilterDefinition().getParameterNames();
+				final List<Integer> parameterShapes = new ArrayList<>( parameterNames.size() );
+				for ( String parameterName : parameterNames ) {
+					final Object value = ( (FilterImpl) filter ).getParameter( parameterName );
+					parameterShapes.add( value instanceof Collection ? ( (Collection<?>) value ).size() : -1 );
+				}
+				shapes.put( filter.getName(), List.copyOf( parameterShapes ) );
+			}
+			return Map.copyOf( shapes );
+		}
+	}
+
+	private static boolean hasResolvedFilterParameters(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( loadQueryInfluencers.hasEnabledFilters() ) {
+			for ( String filterName : loadQueryInfluencers.getEnabledFilterNames() ) {
+				final Filter filter = loadQueryInfluencers.getEnabledFilter( filterName );
+				if ( !( filter instanceof FilterImpl ) ) {
+					return true;
+				}
+				for ( String parameterName : filter.getFilterDefinition().getParameterNames() ) {
+					// the value comes from a resolver, which we can't call per execution
+					if ( ( (FilterImpl) filter ).getParameter( parameterName ) == null ) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * An immutable snapshot of the structure of the applied entity graph,
+	 * since a graph is mutable, and two instances of the same structure
+	 * result in the same interpretation.
+	 */
+	private static List<Object> appliedGraphStructure(AppliedGraph appliedGraph) {
+		final GraphSemantic semantic = appliedGraph.getSemantic();
+		if ( semantic == null || appliedGraph.getGraph() == null ) {
+			return null;
+		}
+		else {
+			return List.of( semantic, graphStructure( appliedGraph.getGraph() ) );
+		}
+	}
+
+	private static List<Object> graphStructure(GraphImplementor<?> graph) {
+		final List<AttributeNodeImplementor<?>> attributeNodes = graph.getAttributeNodeImplementors();
+		final List<Object> structure = new ArrayList<>( 3 * attributeNodes.size() + 1 );
+		structure.add( graph.getGraphedType().getTypeName() );
+		for ( AttributeNodeImplementor<?> attributeNode : attributeNodes ) {
+			structure.add( attributeNode.getAttributeName() );
+			structure.add( subGraphStructures( attributeNode.getSubGraphMap() ) );
+			structure.add( subGraphStructures( attributeNode.getKeySubGraphMap() ) );
+		}
+		return List.copyOf( structure );
+	}
+
+	private static Map<Class<?>, List<Object>> subGraphStructures(Map<? extends Class<?>, ? extends SubGraphImplementor<?>> subGraphs) {
+		if ( subGraphs.isEmpty() ) {
+			return Map.of();
+		}
+		else {
+			// the subtype may be null, so don't use Map.copyOf()
+			final Map<Class<?>, List<Object>> structures = new HashMap<>( subGraphs.size() );
+			subGraphs.forEach( (subtype, subGraph) -> structures.put( subtype, graphStructure( subGraph ) ) );
+			return structures;
+		}
+	}
+
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
-		// for now at least, skip caching Criteria-based plans
-		// - especially wrt parameters atm; this works with HQL because the
-		// parameters are part of the query string; with Criteria, they're not.
 		return keySource.isQueryPlanCacheable()
-				// At the moment we cannot cache query plan if there is filter enabled.
-			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
-				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& ! keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE;
+				// filter parameter values are bound per execution, except for those
+				// provided by a resolver, which are rendered when translating
+			&& ! hasResolvedFilterParameters( keySource.getLoadQueryInfluencers() );
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
-		// todo (6.0) : do we want to cache non-select plans?  If so, what requirements?
-		//		- very minimum is that it be a "simple" (non-multi-table) statement
-		//
-		// for now... no caching of non-select plans
-		return null;
+		if ( isCacheable( keyDetails ) ) {
+			final Object query = CRITERIA_HQL_STRING.equals( keyDetails.getQueryString() )
+					? keyDetails.getSqmStatement()
+					: keyDetails.getQueryString();
+			// the interpretation of a non-select statement does not depend on the
+			// result type, lock options, transformers, enabled fetch profiles, or graph
+			return new SqmInterpretationsKey(
+					query,
+					query.hashCode(),
+					null,
+					LockOptions.NONE,
+					null,
+					null,
+					null,
+					enabledFilterShapes( keyDetails.getLoadQueryInfluencers() ),
+					null,
+					multiValuedParameterShapes( keyDetails, null )
+			);
+		}
+		else {
+			return null;
+		}
 	}
 
 	private final Object query;
@@ -113,6 +284,9 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer<?> resultListTransformer;
 	private final Collection<String> enabledFetchProfiles;
+	private final Map<String, List<Integer>> enabledFilters;
+	private final List<Object> appliedGraph;
+	private final Map<Object, Integer> multiValuedParameters;
 	private final int hashcode;
 
 	private SqmInterpretationsKey(
@@ -122,7 +296,10 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
 			ResultListTransformer<?> resultListTransformer,
-			Collection<String> enabledFetchProfiles) {
+			Collection<String> enabledFetchProfiles,
+			Map<String, List<Integer>> enabledFilters,
+			List<Object> appliedGraph,
+			Map<Object, Integer> multiValuedParameters) {
 		this.query = query;
 		this.hashcode = hash;
 		this.resultType = resultType;
@@ -130,6 +307,9 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
 		this.enabledFetchProfiles = enabledFetchProfiles;
+		this.enabledFilters = enabledFilters;
+		this.appliedGraph = appliedGraph;
+		this.multiValuedParameters = multiValuedParameters;
 	}
 
 	@Override
@@ -142,10 +322,21 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 				lockOptions.makeDefensiveCopy(),
 				tupleTransformer,
 				resultListTransformer,
-				enabledFetchProfiles
+				enabledFetchProfiles,
+				enabledFilters,
+				appliedGraph,
+				multiValuedParameters
 		);
 	}
 
+	/**
+	 * The structure of the criteria query, if the plan is shared between
+	 * structurally equivalent criteria queries.
+	 */
+	SqmStatementStructure getStatementStructure() {
+		return query instanceof SqmStatementStructure ? (SqmStatementStructure) query : null;
+	}
+
 	@Override
 	public String getQueryString() {
 		return query instanceof String ? (String) query : null;
@@ -167,7 +358,10 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			&& Objects.equals( lockOptions, that.lockOptions )
 			&& Objects.equals( tupleTransformer, that.tupleTransformer )
 			&& Objects.equals( resultListTransformer, that.resultListTransformer )
-			&& Objects.equals( enabledFetchProfiles, that.enabledFetchProfiles );
+			&& Objects.equals( enabledFetchProfiles, that.enabledFetchProfiles )
+			&& Objects.equals( enabledFilters, that.enabledFilters )
+			&& Objects.equals( appliedGraph, that.appliedGraph )
+			&& Objects.equals( multiValuedParameters, that.multiValuedParameters );
 	}
 
 	@Override
@@ -43,8 +43,6 @@ import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
-import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
@@ -92,6 +90,8 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	private final Class<?> resultType;
 	private final TupleMetadata tupleMetadata;
 
+	private PreparedSelectionQueryImpl<R> preparedQuery;
+
 	public SqmSelectionQueryImpl(
 			String hql,
 			HqlInterpretation<R> hqlInterpretation,
@@ -114,6 +114,13 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		setComment( hql );
 	}
 
+	public SqmSelectionQueryImpl(
+			PreparedSelectionQueryImpl<R> preparedQuery,
+			SharedSessionContractImplementor session) {
+		this( preparedQuery.getQueryString(), preparedQuery.getInterpretation(), preparedQuery.getResultType(), session );
+		this.preparedQuery = preparedQuery;
+	}
+
 	private Class<?> determineResultType(SqmSelectStatement<?> sqm) {
 		final List<SqmSelection<?>> selections = sqm.getQuerySpec().getSelectClause().getSelections();
 		if ( selections.size() == 1 ) {
@@ -153,10 +160,8 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		this.expectedResultType = resultType;
 		this.resultType = resultType;
 
-		final QueryEngine queryEngine = session.getFactory().getQueryEngine();
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
 		final HqlInterpretation<R> hqlInterpretation =
-				interpretationCache.resolveHqlInterpretation( hql, resultType, queryEngine.getHqlTranslator() );
+				memento.resolveHqlInterpretation( resultType, session.getFactory() );
 
 		SqmUtil.verifyIsSelectStatement( hqlInterpretation.getSqmStatement(), hql );
 		this.sqm = (SqmSelectStatement<R>) hqlInterpretation.getSqmStatement();
@@ -375,10 +380,16 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	// Query plan
 
 	private SelectQueryPlan<R> resolveQueryPlan() {
-		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
+		return preparedQuery == null
+				? resolveCachedQueryPlan()
+				// avoid creating the key and looking up the cache
+				: preparedQuery.resolveQueryPlan( this, this::resolveCachedQueryPlan );
+	}
+
+	private SelectQueryPlan<R> resolveCachedQueryPlan() {
+		final SqmInterpretationsKey cacheKey = createInterpretationsKey( this );
 		if ( cacheKey != null ) {
-			return getSessionFactory().getQueryEngine().getInterpretationCache()
-					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+			return resolveSelectQueryPlan( cacheKey );
 		}
 		else {
 			return buildSelectQueryPlan();
@@ -525,8 +536,7 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 	@Override
 	public boolean isQueryPlanCacheable() {
 		return CRITERIA_HQL_STRING.equals( hql )
-				// For criteria queries, query plan caching requires an explicit opt-in
-				? getQueryOptions().getQueryPlanCachingEnabled() == Boolean.TRUE
+				? isCriteriaQueryPlanCacheable()
 				: super.isQueryPlanCacheable();
 	}
 
@@ -0,0 +1,249 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.spi.BaseSemanticQueryWalker;
+import org.hibernate.query.sqm.tree.expression.JpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.expression.SqmPositionalParameter;
+import org.hibernate.query.sqm.tree.expression.ValueBindJpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * The structure of a criteria query, used in place of the criteria tree itself
+ * to {@linkplain SqmInterpretationsKey key} its cached plan, so that structurally
+ * equivalent criteria queries share the plan, even when they are built separately.
+ * <p>
+ * The structure is made up of:
+ * <ul>
+ * <li>the HQL rendering of the criteria tree, where generated aliases are renamed
+ *     in order of appearance, and where values bound as parameters are rendered as
+ *     placeholders instead of being rendered as literals,
+ * <li>the type of each parameter, together with the order in which the parameters
+ *     occur in the tree, and
+ * <li>the Java types of the inlined literals, which are not apparent from the
+ *     rendering, for example, for the literals {@code 1} and {@code 1L}.
+ * </ul>
+ * The parameters themselves, in order of first occurrence, are not part of the
+ * structure, but are kept to correlate the parameters of two structurally
+ * equivalent criteria queries.
+ *
+ * @see CriteriaSelectQueryPlan
+ * @see org.hibernate.cfg.QuerySettings#CRITERIA_PLAN_CACHE_ENABLED
+ */
+final class SqmStatementStructure {
+	private static final Pattern GENERATED_ALIAS = Pattern.compile( "\\balias_\\d+\\b" );
+
+	private final String hql;
+	private final List<List<Object>> parameterShapes;
+	private final List<Integer> parameterOccurrences;
+	private final List<Class<?>> literalTypes;
+	private final List<QueryParameterImplementor<?>> parameters;
+	private final int hashCode;
+
+	private SqmStatementStructure(
+			String hql,
+			List<List<Object>> parameterShapes,
+			List<Integer> parameterOccurrences,
+			List<Class<?>> literalTypes,
+			List<QueryParameterImplementor<?>> parameters) {
+		this.hql = hql;
+		this.parameterShapes = parameterShapes;
+		this.parameterOccurrences = parameterOccurrences;
+		this.literalTypes = literalTypes;
+		this.parameters = parameters;
+		this.hashCode = Objects.hash( hql, parameterShapes, parameterOccurrences, literalTypes );
+	}
+
+	static SqmStatementStructure from(SqmSelectStatement<?> statement) {
+		final StructureCollector collector = new StructureCollector();
+		statement.accept( collector );
+		// render a copy of the tree, where the values bound as parameters are placeholders
+		final String hql = statement.copy( collector.copyContext ).toHqlString();
+		return new SqmStatementStructure(
+				canonicalizeGeneratedAliases( hql ),
+				collector.parameterShapes,
+				collector.parameterOccurrences,
+				collector.literalTypes,
+				Collections.unmodifiableList( collector.parameters )
+		);
+	}
+
+	/**
+	 * Generated aliases are derived from the identity of the node, so we
+	 * rename them in order of appearance, skipping string literals.
+	 */
+	private static String canonicalizeGeneratedAliases(String hql) {
+		final Matcher matcher = GENERATED_ALIAS.matcher( hql );
+		if ( !matcher.find() ) {
+			return hql;
+		}
+		final Map<String, String> aliases = new HashMap<>();
+		final StringBuilder result = new StringBuilder( hql.length() );
+		int end = 0;
+		boolean quoted = false;
+		do {
+			for ( int i = end; i < matcher.start(); i++ ) {
+				if ( hql.charAt( i ) == '\'' ) {
+					quoted = !quoted;
+				}
+			}
+			result.append( hql, end, matcher.start() );
+			final String alias = matcher.group();
+			result.append( quoted ? alias : aliases.computeIfAbsent( alias, a -> "alias_" + aliases.size() ) );
+			end = matcher.end();
+		}
+		while ( matcher.find() );
+		return result.append( hql, end, hql.length() ).toString();
+	}
+
+	/**
+	 * The parameters of the criteria tree, in order of first occurrence. A
+	 * parameter which is identified by its name or position, rather than by
+	 * its identity, is represented by {@code null}.
+	 */
+	List<QueryParameterImplementor<?>> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * The index of the given parameter in {@link #getParameters()}, or
+	 * {@code -1} if it is not a parameter of the criteria tree.
+	 */
+	int indexOf(QueryParameterImplementor<?> parameter) {
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			if ( parameters.get( i ) == parameter ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( !( o instanceof SqmStatementStructure ) ) {
+			return false;
+		}
+		final SqmStatementStructure that = (SqmStatementStructure) o;
+		return hashCode == that.hashCode
+			&& hql.equals( that.hql )
+			&& parameterShapes.equals( that.parameterShapes )
+			&& parameterOccurrences.equals( that.parameterOccurrences )
+			&& literalTypes.equals( that.literalTypes );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return hql;
+	}
+
+	private static class StructureCollector extends BaseSemanticQueryWalker {
+		private final SimpleSqmCopyContext copyContext = new SimpleSqmCopyContext();
+		private final Map<Object, Integer> parameterIndexes = new IdentityHashMap<>();
+		private final List<QueryParameterImplementor<?>> parameters = new ArrayList<>();
+		private final List<List<Object>> parameterShapes = new ArrayList<>();
+		private final List<Integer> parameterOccurrences = new ArrayList<>();
+		private final List<Class<?>> literalTypes = new ArrayList<>();
+
+		@Override
+		public Object visitJpaCriteriaParameter(JpaCriteriaParameter<?> parameter) {
+			final Integer index = parameterIndexes.get( parameter );
+			if ( index != null ) {
+				parameterOccurrences.add( index );
+			}
+			else if ( parameter instanceof ValueBindJpaCriteriaParameter<?> ) {
+				final ValueBindJpaCriteriaParameter<?> valueParameter = (ValueBindJpaCriteriaParameter<?>) parameter;
+				registerPlaceholder( valueParameter );
+				// a null value may be rendered differently
+				addParameter( parameter, parameter, valueParameter.getValue() == null ? "null" : "value" );
+			}
+			else {
+				addParameter( parameter, parameter, "parameter" );
+			}
+			return parameter;
+		}
+
+		@Override
+		public Object visitNamedParameterExpression(SqmNamedParameter<?> parameter) {
+			return visitParameter( parameter );
+		}
+
+		@Override
+		public Object visitPositionalParameterExpression(SqmPositionalParameter<?> parameter) {
+			return visitParameter( parameter );
+		}
+
+		private Object visitParameter(SqmParameter<?> parameter) {
+			final Integer index = parameterIndexes.get( parameter );
+			if ( index != null ) {
+				parameterOccurrences.add( index );
+			}
+			else {
+				// bound by name or position, which is part of the rendering
+				addParameter( parameter, null, "parameter" );
+			}
+			return parameter;
+		}
+
+		private void addParameter(SqmParameter<?> parameter, QueryParameterImplementor<?> queryParameter, String kind) {
+			final int index = parameters.size();
+			parameterIndexes.put( parameter, index );
+			parameterOccurrences.add( index );
+			parameters.add( queryParameter );
+			parameterShapes.add( Arrays.asList(
+					kind,
+					parameter.getAnticipatedType(),
+					parameter.allowMultiValuedBinding()
+			) );
+		}
+
+		private <T> void registerPlaceholder(ValueBindJpaCriteriaParameter<T> parameter) {
+			copyContext.registerCopy( parameter, new ValuePlaceholder<>( parameter ) );
+		}
+
+		@Override
+		public Object visitLiteral(SqmLiteral<?> literal) {
+			final JavaType<?> javaType = literal.getJavaTypeDescriptor();
+			literalTypes.add( javaType == null ? null : javaType.getJavaTypeClass() );
+			return literal;
+		}
+	}
+
+	private static class ValuePlaceholder<T> extends ValueBindJpaCriteriaParameter<T> {
+		private ValuePlaceholder(ValueBindJpaCriteriaParameter<T> parameter) {
+			super( parameter.getAnticipatedType(), null, parameter.nodeBuilder() );
+		}
+
+		@Override
+		public void appendHqlString(StringBuilder sb) {
+			sb.append( '?' );
+		}
+	}
+}
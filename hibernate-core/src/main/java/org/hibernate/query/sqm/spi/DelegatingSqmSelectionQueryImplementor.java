@@ -608,6 +608,12 @@ public abstract class DelegatingSqmSelectionQueryImplementor<R> implements SqmSe
 		return this;
 	}
 
+	@Override
+	public SqmSelectionQueryImplementor<R> setDetachWindow(int rows) {
+		getDelegate().setDetachWindow( rows );
+		return this;
+	}
+
 	@Override
 	public SqmSelectionQueryImplementor<R> setReadOnly(boolean readOnly) {
 		getDelegate().setReadOnly( readOnly );
@@ -28,6 +28,8 @@ import org.hibernate.Internal;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.QueryException;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.QueryCachePartitioning;
 import org.hibernate.dialect.DmlTargetColumnQualifierSupport;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.RowLockStrategy;
@@ -304,6 +306,12 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 	private final Dialect dialect;
 	private final Set<String> affectedTableNames = new HashSet<>();
+	private final QueryCachePartitioning queryCachePartitioning;
+	// The number of rendered references to each partitioned table, and the partitioned
+	// tables read by an entity other than via a rendered reference, for example, by
+	// a subselect entity or a union subclass, see #determineQueryCachePartitionRestrictions
+	private Map<String, Integer> partitionedTableReferenceCounts;
+	private Set<String> indirectlyReadPartitionedTables;
 	private CteStatement currentCteStatement;
 	private boolean needsSelectAliases;
 	// Column aliases that need to be injected
@@ -341,6 +349,8 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		this.dialect = jdbcServices.getDialect();
 		this.statementStack.push( statement );
 		this.parameterMarkerStrategy = jdbcServices.getParameterMarkerStrategy();
+		final CacheImplementor cache = sessionFactory.getCache();
+		this.queryCachePartitioning = cache == null ? null : cache.getQueryCachePartitioning();
 	}
 
 	private static Clause matchWithClause(Clause clause) {
@@ -889,10 +899,107 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 				getAppliedParameterBindings(),
 				getJdbcLockStrategy(),
 				getOffsetParameter(),
-				getLimitParameter()
+				getLimitParameter(),
+				determineQueryCachePartitionRestrictions( selectStatement )
 		);
 	}
 
+	/**
+	 * Determine the partitioned tables whose partition column is restricted
+	 * to a single value by a top-level condition of the {@code where} clause,
+	 * and which are not otherwise read by the query.
+	 *
+	 * @return the restricting parameter or literal of each such table
+	 *
+	 * @see QueryCachePartitioning
+	 */
+	private Map<String, Expression> determineQueryCachePartitionRestrictions(SelectStatement selectStatement) {
+		if ( partitionedTableReferenceCounts == null
+				|| !selectStatement.getCteStatements().isEmpty()
+				|| !( selectStatement.getQueryPart() instanceof QuerySpec ) ) {
+			return Collections.emptyMap();
+		}
+		final QuerySpec querySpec = (QuerySpec) selectStatement.getQueryPart();
+		final Map<String, Expression> restrictions = new HashMap<>();
+		collectQueryCachePartitionRestrictions( querySpec, querySpec.getWhereClauseRestrictions(), restrictions );
+		return restrictions;
+	}
+
+	private void collectQueryCachePartitionRestrictions(
+			QuerySpec querySpec,
+			Predicate predicate,
+			Map<String, Expression> restrictions) {
+		if ( predicate instanceof GroupedPredicate ) {
+			collectQueryCachePartitionRestrictions(
+					querySpec,
+					( (GroupedPredicate) predicate ).getSubPredicate(),
+					restrictions
+			);
+		}
+		else if ( predicate instanceof Junction ) {
+			final Junction junction = (Junction) predicate;
+			if ( junction.getNature() == Junction.Nature.CONJUNCTION ) {
+				for ( Predicate conjunct : junction.getPredicates() ) {
+					collectQueryCachePartitionRestrictions( querySpec, conjunct, restrictions );
+				}
+			}
+		}
+		else if ( predicate instanceof ComparisonPredicate ) {
+			final ComparisonPredicate comparison = (ComparisonPredicate) predicate;
+			if ( comparison.getOperator() == ComparisonOperator.EQUAL ) {
+				final Expression lhs = comparison.getLeftHandExpression();
+				final Expression rhs = comparison.getRightHandExpression();
+				if ( lhs instanceof ColumnReference ) {
+					collectQueryCachePartitionRestriction( querySpec, (ColumnReference) lhs, rhs, restrictions );
+				}
+				else if ( rhs instanceof ColumnReference ) {
+					collectQueryCachePartitionRestriction( querySpec, (ColumnReference) rhs, lhs, restrictions );
+				}
+			}
+		}
+	}
+
+	private void collectQueryCachePartitionRestriction(
+			QuerySpec querySpec,
+			ColumnReference columnReference,
+			Expression expression,
+			Map<String, Expression> restrictions) {
+		final Expression value = expression instanceof SqmParameterInterpretation
+				? ( (SqmParameterInterpretation) expression ).getResolvedExpression()
+				: expression;
+		if ( ( value instanceof JdbcParameter || value instanceof Literal )
+				&& !columnReference.isColumnExpressionFormula()
+				&& isReadAsIs( columnReference )
+				&& columnReference.getJdbcMapping().getValueConverter() == null ) {
+			final String qualifier = columnReference.getQualifier();
+			final String tableExpression = querySpec.getFromClause().queryTableReferences(
+					tableReference -> tableReference instanceof NamedTableReference
+									&& tableReference.getIdentificationVariable() != null
+									&& tableReference.getIdentificationVariable().equals( qualifier )
+							? ( (NamedTableReference) tableReference ).getTableExpression()
+							: null
+			);
+			if ( tableExpression != null
+					&& queryCachePartitioning.isPartitionColumn( tableExpression, columnReference.getColumnExpression() )
+					&& partitionedTableReferenceCounts.getOrDefault( tableExpression, 0 ) == 1
+					&& ( indirectlyReadPartitionedTables == null
+							|| !indirectlyReadPartitionedTables.contains( tableExpression ) ) ) {
+				restrictions.putIfAbsent( tableExpression, value );
+			}
+		}
+	}
+
+	/**
+	 * Is the column read without a {@linkplain org.hibernate.annotations.ColumnTransformer
+	 * custom read expression}?
+	 */
+	private static boolean isReadAsIs(ColumnReference columnReference) {
+		final String qualifier = columnReference.getQualifier();
+		final String columnExpression = columnReference.getColumnExpression();
+		return columnReference.getExpressionText()
+				.equals( qualifier == null ? columnExpression : qualifier + '.' + columnExpression );
+	}
+
 	private JdbcValuesMappingProducer buildJdbcValuesMappingProducer(SelectStatement selectStatement) {
 		return getSessionFactory()
 				.getFastSessionServices()
@@ -5973,13 +6080,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		renderTableReferenceJoins( tableGroup );
 		processNestedTableGroupJoins( tableGroup, null );
 		processTableGroupJoins( tableGroup );
-		ModelPartContainer modelPart = tableGroup.getModelPart();
-		if ( modelPart instanceof AbstractEntityPersister ) {
-			String[] querySpaces = (String[]) ( (AbstractEntityPersister) modelPart ).getQuerySpaces();
-			for ( int i = 0; i < querySpaces.length; i++ ) {
-				registerAffectedTable( querySpaces[i] );
-			}
-		}
+		registerQuerySpaces( tableGroup );
 	}
 
 	private String renderFromClauseRoot(TableGroup root, String separator) {
@@ -6016,13 +6117,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		else {
 			processTableGroupJoins( tableGroup );
 		}
-		ModelPartContainer modelPart = tableGroup.getModelPart();
-		if ( modelPart instanceof AbstractEntityPersister ) {
-			String[] querySpaces = (String[]) ( (AbstractEntityPersister) modelPart ).getQuerySpaces();
-			for ( int i = 0; i < querySpaces.length; i++ ) {
-				registerAffectedTable( querySpaces[i] );
-			}
-		}
+		registerQuerySpaces( tableGroup );
 		if ( !usesLockHint && tableGroup.getSourceAlias() != null && LockMode.READ.lessThan( effectiveLockMode ) ) {
 			if ( forUpdate == null ) {
 				forUpdate = new ForUpdateClause( effectiveLockMode );
@@ -6099,13 +6194,7 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 			processTableGroupJoins( tableGroup );
 		}
 
-		ModelPartContainer modelPart = tableGroup.getModelPart();
-		if ( modelPart instanceof AbstractEntityPersister ) {
-			String[] querySpaces = (String[]) ( (AbstractEntityPersister) modelPart ).getQuerySpaces();
-			for ( int i = 0; i < querySpaces.length; i++ ) {
-				registerAffectedTable( querySpaces[i] );
-			}
-		}
+		registerQuerySpaces( tableGroup );
 		if ( !usesLockHint && tableGroup.getSourceAlias() != null && LockMode.READ.lessThan( effectiveLockMode ) ) {
 			if ( forUpdate == null ) {
 				forUpdate = new ForUpdateClause( effectiveLockMode );
@@ -6356,6 +6445,38 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 	protected void registerAffectedTable(NamedTableReference tableReference) {
 		tableReference.applyAffectedTableNames( this::registerAffectedTable );
+		if ( queryCachePartitioning != null ) {
+			final String tableExpression = tableReference.getTableExpression();
+			if ( queryCachePartitioning.getPartitionColumn( tableExpression ) != null ) {
+				if ( partitionedTableReferenceCounts == null ) {
+					partitionedTableReferenceCounts = new HashMap<>();
+				}
+				partitionedTableReferenceCounts.merge( tableExpression, 1, Integer::sum );
+			}
+		}
+	}
+
+	private void registerQuerySpaces(TableGroup tableGroup) {
+		final ModelPartContainer modelPart = tableGroup.getModelPart();
+		if ( modelPart instanceof AbstractEntityPersister ) {
+			final String[] querySpaces = (String[]) ( (AbstractEntityPersister) modelPart ).getQuerySpaces();
+			for ( int i = 0; i < querySpaces.length; i++ ) {
+				registerAffectedTable( querySpaces[i] );
+				if ( queryCachePartitioning != null
+						&& queryCachePartitioning.getPartitionColumn( querySpaces[i] ) != null
+						&& !isNamedTableReference( tableGroup.getTableReference( querySpaces[i] ), querySpaces[i] ) ) {
+					if ( indirectlyReadPartitionedTables == null ) {
+						indirectlyReadPartitionedTables = new HashSet<>();
+					}
+					indirectlyReadPartitionedTables.add( querySpaces[i] );
+				}
+			}
+		}
+	}
+
+	private static boolean isNamedTableReference(TableReference tableReference, String tableExpression) {
+		return tableReference instanceof NamedTableReference
+				&& ( (NamedTableReference) tableReference ).getTableExpression().equals( tableExpression );
 	}
 
 	protected void registerAffectedTable(String tableExpression) {
@@ -7597,23 +7718,29 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 		if ( value instanceof Iterable
 				&& !valueMapping.getJavaTypeDescriptor().isInstance( value ) ) {
-			processIterableFilterParameterValue( valueMapping, ( (Iterable<?>) value ).iterator() );
+			processIterableFilterParameterValue( parameter, ( (Iterable<?>) value ).iterator() );
 		}
 		else {
-			processSingularFilterParameterValue( valueMapping, value );
+			processSingularFilterParameterValue( parameter, value, -1 );
 		}
 
 		return markerStart + marker.length();
 	}
 
-	private void processSingularFilterParameterValue(JdbcMapping valueMapping, Object value) {
-		visitParameterAsParameter( new FilterJdbcParameter( valueMapping, value ) );
+	private void processSingularFilterParameterValue(FilterFragmentParameter parameter, Object value, int elementIndex) {
+		visitParameterAsParameter( new FilterJdbcParameter(
+				parameter.getValueMapping(),
+				value,
+				parameter.getFilterName(),
+				parameter.getParameterName(),
+				elementIndex
+		) );
 	}
 
-	private void processIterableFilterParameterValue(JdbcMapping valueMapping, Iterator<?> iterator) {
-		while ( iterator.hasNext() ) {
+	private void processIterableFilterParameterValue(FilterFragmentParameter parameter, Iterator<?> iterator) {
+		for ( int i = 0; iterator.hasNext(); i++ ) {
 			final Object element = iterator.next();
-			processSingularFilterParameterValue( valueMapping, element );
+			processSingularFilterParameterValue( parameter, element, i );
 			if ( iterator.hasNext() ) {
 				appendSql( "," );
 			}
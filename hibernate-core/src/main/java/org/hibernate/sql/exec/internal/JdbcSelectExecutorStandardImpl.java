@@ -8,12 +8,15 @@ package org.hibernate.sql.exec.internal;
 
 import java.io.Serializable;
 import java.sql.PreparedStatement;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.CacheMode;
+import org.hibernate.cache.spi.QueryCachePartitioning;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -21,14 +24,22 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.Literal;
 import org.hibernate.sql.exec.SqlExecLogger;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.caching.internal.AssembledQueryResults;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.internal.RowTransformerArrayImpl;
+import org.hibernate.sql.results.internal.RowTransformerSingularReturnImpl;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
@@ -41,6 +52,7 @@ import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
@@ -139,11 +151,24 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		final JdbcValues jdbcValues = resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
+				jdbcParameterBindings,
 				resultsConsumer.canResultsBeCached(),
+				resolveAssembledResultShape( rowTransformer, domainResultType, resultsConsumer, executionContext ),
 				executionContext,
 				deferredResultSetAccess
 		);
 
+		if ( jdbcValues instanceof JdbcValuesCacheHit ) {
+			final AssembledQueryResults assembledResults = ( (JdbcValuesCacheHit) jdbcValues ).getAssembledResults();
+			if ( assembledResults != null ) {
+				// the cached results are immutable and were assembled for the same
+				// result shape, so there is nothing left to do per row
+				jdbcValues.finishUp( executionContext.getSession() );
+				//noinspection unchecked
+				return (T) assembledResults.getResults();
+			}
+		}
+
 		if ( rowTransformer == null ) {
 			@SuppressWarnings("unchecked")
 			final TupleTransformer<R> tupleTransformer = (TupleTransformer<R>) executionContext
@@ -245,6 +270,38 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		return result;
 	}
 
+	/**
+	 * Describes how the results of the query are assembled, if the fully
+	 * assembled results might be put into the query cache, or {@code null}
+	 * if the row transformation or result consumption is not one known to
+	 * produce the same list of results for the same JDBC values.
+	 *
+	 * @see AssembledQueryResults
+	 */
+	private static String resolveAssembledResultShape(
+			RowTransformer<?> rowTransformer,
+			Class<?> domainResultType,
+			ResultsConsumer<?, ?> resultsConsumer,
+			ExecutionContext executionContext) {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		if ( !( resultsConsumer instanceof ListResultsConsumer )
+				|| queryOptions.getTupleTransformer() != null
+				|| queryOptions.getResultListTransformer() != null ) {
+			return null;
+		}
+		else if ( rowTransformer == null
+				|| rowTransformer instanceof RowTransformerStandardImpl
+				|| rowTransformer instanceof RowTransformerSingularReturnImpl
+				|| rowTransformer instanceof RowTransformerArrayImpl ) {
+			return ( rowTransformer == null ? RowTransformerStandardImpl.class : rowTransformer.getClass() ).getName()
+					+ ':' + resultsConsumer
+					+ ':' + ( domainResultType == null ? null : domainResultType.getName() );
+		}
+		else {
+			return null;
+		}
+	}
+
 	private <T> int getResultSize(T result) {
 		if ( result instanceof List ) {
 			return ( (List<?>) result ).size();
@@ -252,17 +309,63 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		return -1;
 	}
 
+	/**
+	 * The query spaces to check for invalidation of the cached results, where
+	 * each partitioned table whose partition column is restricted to a single
+	 * value is replaced by the spaces of that partition.
+	 *
+	 * @see QueryCachePartitioning
+	 */
+	private static Set<String> resolveQuerySpaces(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			SessionFactoryImplementor factory) {
+		final Set<String> affectedTableNames = jdbcSelect.getAffectedTableNames();
+		final Map<String, Expression> restrictions = jdbcSelect.getQueryCachePartitionRestrictions();
+		final QueryCachePartitioning partitioning = factory.getCache().getQueryCachePartitioning();
+		if ( restrictions.isEmpty() || partitioning == null ) {
+			return affectedTableNames;
+		}
+		final Set<String> querySpaces = new HashSet<>( affectedTableNames.size() + restrictions.size() );
+		for ( String tableName : affectedTableNames ) {
+			final Expression restriction = restrictions.get( tableName );
+			final String partitionSpace = restriction == null
+					? null
+					: partitioning.partitionSpace( tableName, restrictionValue( restriction, jdbcParameterBindings ) );
+			if ( partitionSpace == null ) {
+				querySpaces.add( tableName );
+			}
+			else {
+				querySpaces.add( partitionSpace );
+				querySpaces.add( partitioning.allPartitionsSpace( tableName ) );
+			}
+		}
+		return querySpaces;
+	}
+
+	private static Object restrictionValue(Expression restriction, JdbcParameterBindings jdbcParameterBindings) {
+		if ( restriction instanceof JdbcParameter ) {
+			final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( (JdbcParameter) restriction );
+			return binding == null ? null : binding.getBindValue();
+		}
+		else {
+			return ( (Literal) restriction ).getLiteralValue();
+		}
+	}
+
 	private JdbcValues resolveJdbcValuesSource(
 			String queryIdentifier,
 			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
 			boolean canBeCached,
+			String assembledResultShape,
 			ExecutionContext executionContext,
 			DeferredResultSetAccess resultSetAccess) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final boolean queryCacheEnabled = factory.getSessionFactoryOptions().isQueryCacheEnabled();
 
-		final List<?> cachedResults;
+		List<?> cachedResults;
 		final CacheMode cacheMode = JdbcExecHelper.resolveCacheMode( executionContext );
 
 		final JdbcValuesMappingProducer mappingProducer = jdbcSelect.getJdbcValuesMappingProducer();
@@ -272,7 +375,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 
 		if ( cacheable && cacheMode.isGetEnabled() ) {
 			SqlExecLogger.SQL_EXEC_LOGGER.debugf( "Reading Query result cache data per CacheMode#isGetEnabled [%s]", cacheMode.name() );
-			final Set<String> querySpaces = jdbcSelect.getAffectedTableNames();
+			final Set<String> querySpaces = resolveQuerySpaces( jdbcSelect, jdbcParameterBindings, factory );
 			if ( querySpaces == null || querySpaces.size() == 0 ) {
 				SqlExecLogger.SQL_EXEC_LOGGER.tracef( "Unexpected querySpaces is empty" );
 			}
@@ -299,6 +402,16 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					session
 			);
 
+			if ( cachedResults != null ) {
+				final AssembledQueryResults assembledResults = AssembledQueryResults.fromCachedData( cachedResults );
+				if ( assembledResults != null
+						&& !assembledResults.getResultShape().equals( assembledResultShape ) ) {
+					// the results were assembled differently, for example,
+					// for a different result type, treat it as a cache miss
+					cachedResults = null;
+				}
+			}
+
 			// todo (6.0) : `querySpaces` and `session` are used in QueryCache#get to verify "up-to-dateness" via UpdateTimestampsCache
 			//		better imo to move UpdateTimestampsCache handling here and have QueryCache be a simple access to
 			//		the underlying query result cache region.
@@ -357,12 +470,22 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					resultSetAccess.usesFollowOnLocking(),
 					jdbcValuesMapping,
 					metadataForCache,
+					assembledResultShape != null && queryResultsCacheKey != null
+							&& AssembledQueryResults.isShareable( jdbcValuesMapping )
+							? assembledResultShape
+							: null,
 					executionContext
 			);
 		}
 		else {
 			final JdbcValuesMapping jdbcValuesMapping;
-			if ( cachedResults.isEmpty() || !( cachedResults.get( 0 ) instanceof JdbcValuesMetadata ) ) {
+			final AssembledQueryResults assembledResults = AssembledQueryResults.fromCachedData( cachedResults );
+			if ( assembledResults != null ) {
+				jdbcValuesMapping = assembledResults.getMetadata() == null
+						? mappingProducer.resolve( resultSetAccess, session.getLoadQueryInfluencers(), factory )
+						: mappingProducer.resolve( assembledResults.getMetadata(), session.getLoadQueryInfluencers(), factory );
+			}
+			else if ( cachedResults.isEmpty() || !( cachedResults.get( 0 ) instanceof JdbcValuesMetadata ) ) {
 				jdbcValuesMapping = mappingProducer.resolve( resultSetAccess, session.getLoadQueryInfluencers(), factory );
 			}
 			else {
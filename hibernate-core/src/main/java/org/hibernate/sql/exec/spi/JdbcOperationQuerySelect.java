@@ -11,9 +11,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.Incubating;
 import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 
@@ -29,6 +31,7 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 	private final JdbcParameter offsetParameter;
 	private final JdbcParameter limitParameter;
 	private final JdbcLockStrategy jdbcLockStrategy;
+	private final Map<String, Expression> queryCachePartitionRestrictions;
 
 	/**
 	 * @deprecated {@code filterJdbcParameters} is no longer used
@@ -109,6 +112,43 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 			JdbcLockStrategy jdbcLockStrategy,
 			JdbcParameter offsetParameter,
 			JdbcParameter limitParameter) {
+		this(
+				sql,
+				parameterBinders,
+				jdbcValuesMappingProducer,
+				affectedTableNames,
+				rowsToSkip,
+				maxRows,
+				appliedParameters,
+				jdbcLockStrategy,
+				offsetParameter,
+				limitParameter,
+				Collections.emptyMap()
+		);
+	}
+
+	/**
+	 * @param queryCachePartitionRestrictions the {@linkplain JdbcParameter parameter}
+	 * or {@linkplain org.hibernate.sql.ast.tree.expression.Literal literal} to which
+	 * the partition column of each of the given partitioned tables is restricted
+	 *
+	 * @see org.hibernate.cache.spi.QueryCachePartitioning
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	public JdbcOperationQuerySelect(
+			String sql,
+			List<JdbcParameterBinder> parameterBinders,
+			JdbcValuesMappingProducer jdbcValuesMappingProducer,
+			Set<String> affectedTableNames,
+			int rowsToSkip,
+			int maxRows,
+			Map<JdbcParameter, JdbcParameterBinding> appliedParameters,
+			JdbcLockStrategy jdbcLockStrategy,
+			JdbcParameter offsetParameter,
+			JdbcParameter limitParameter,
+			Map<String, Expression> queryCachePartitionRestrictions) {
 		super( sql, parameterBinders, affectedTableNames, appliedParameters );
 		this.jdbcValuesMappingProducer = jdbcValuesMappingProducer;
 		this.rowsToSkip = rowsToSkip;
@@ -116,6 +156,7 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 		this.jdbcLockStrategy = jdbcLockStrategy;
 		this.offsetParameter = offsetParameter;
 		this.limitParameter = limitParameter;
+		this.queryCachePartitionRestrictions = queryCachePartitionRestrictions;
 	}
 
 	public JdbcValuesMappingProducer getJdbcValuesMappingProducer() {
@@ -146,6 +187,19 @@ public class JdbcOperationQuerySelect extends AbstractJdbcOperationQuery {
 		return jdbcLockStrategy;
 	}
 
+	/**
+	 * The parameter or literal to which the partition column of each
+	 * partitioned table affecting the query results is restricted.
+	 *
+	 * @see org.hibernate.cache.spi.QueryCachePartitioning
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	public Map<String, Expression> getQueryCachePartitionRestrictions() {
+		return queryCachePartitionRestrictions;
+	}
+
 	@Override
 	public boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
 		if ( !appliedParameters.isEmpty() ) {
@@ -6,6 +6,8 @@
  */
 package org.hibernate.sql.results.caching;
 
+import java.util.List;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -14,6 +16,14 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 public interface QueryCachePutManager {
 	void registerJdbcRow(Object values);
 
+	/**
+	 * @see org.hibernate.sql.results.jdbc.spi.JdbcValues#registerAssembledResults
+	 *
+	 * @since 6.6
+	 */
+	default void registerAssembledResults(List<?> results) {
+	}
+
 	/**
 	 * @deprecated Use {@link #finishUp(int, SharedSessionContractImplementor)} instead
 	 */
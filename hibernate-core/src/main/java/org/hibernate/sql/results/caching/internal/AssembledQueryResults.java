@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.instantiation.internal.ArgumentDomainResult;
+import org.hibernate.sql.results.graph.instantiation.internal.DynamicInstantiationResultImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * The fully assembled results of a query, cached in place of the JDBC
+ * values of its rows when every result is immutable, and may therefore
+ * be shared between sessions. A cache hit then returns a copy of the
+ * results list without assembling each row again.
+ * <p>
+ * Results are shareable if they are of an immutable, serializable basic
+ * type, or are instances of a serializable record class instantiated from
+ * such values. Array rows are copied when the results are stored and
+ * when they are returned.
+ * <p>
+ * Since results assembled for one execution of a query may not be usable
+ * by a different execution of the same SQL, for example, one with a
+ * different result type, they are only returned to an execution with the
+ * same {@linkplain #getResultShape() result shape}.
+ *
+ * @see QueryCachePutManagerAssembledImpl
+ */
+public final class AssembledQueryResults implements Serializable {
+	private final String resultShape;
+	private final JdbcValuesMetadata metadata;
+	private final List<Object> results;
+
+	public AssembledQueryResults(String resultShape, JdbcValuesMetadata metadata, List<?> results) {
+		this.resultShape = resultShape;
+		this.metadata = metadata;
+		this.results = copy( results );
+	}
+
+	/**
+	 * The assembled results held by the given data read from the query
+	 * results cache, or {@code null} if it holds the JDBC values of rows.
+	 */
+	public static AssembledQueryResults fromCachedData(List<?> cachedData) {
+		return cachedData.size() == 1 && cachedData.get( 0 ) instanceof AssembledQueryResults
+				? (AssembledQueryResults) cachedData.get( 0 )
+				: null;
+	}
+
+	/**
+	 * Are all the results described by the given mapping immutable?
+	 */
+	public static boolean isShareable(JdbcValuesMapping valuesMapping) {
+		for ( DomainResult<?> domainResult : valuesMapping.getDomainResults() ) {
+			if ( !isShareable( domainResult ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isShareable(DomainResult<?> domainResult) {
+		if ( domainResult instanceof BasicResult ) {
+			return isImmutable( domainResult.getResultJavaType() );
+		}
+		else if ( domainResult instanceof DynamicInstantiationResultImpl ) {
+			final DynamicInstantiationResultImpl<?> instantiation = (DynamicInstantiationResultImpl<?>) domainResult;
+			final Class<?> javaTypeClass = instantiation.getResultJavaType().getJavaTypeClass();
+			if ( !isRecord( javaTypeClass ) || !Serializable.class.isAssignableFrom( javaTypeClass ) ) {
+				return false;
+			}
+			for ( ArgumentDomainResult<?> argumentResult : instantiation.getArgumentResults() ) {
+				if ( !( argumentResult.getRealDomainResult() instanceof BasicResult )
+						|| !isImmutable( argumentResult.getResultJavaType() ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private static boolean isImmutable(JavaType<?> javaType) {
+		return javaType != null
+				&& !javaType.getMutabilityPlan().isMutable()
+				&& Serializable.class.isAssignableFrom( javaType.getJavaTypeClass() );
+	}
+
+	private static boolean isRecord(Class<?> javaTypeClass) {
+		// Class#isRecord() is not available on Java 11
+		final Class<?> superclass = javaTypeClass.getSuperclass();
+		return superclass != null && "java.lang.Record".equals( superclass.getName() );
+	}
+
+	private static List<Object> copy(List<?> results) {
+		final List<Object> copy = new ArrayList<>( results.size() );
+		for ( Object result : results ) {
+			copy.add( result instanceof Object[] ? ( (Object[]) result ).clone() : result );
+		}
+		return copy;
+	}
+
+	public String getResultShape() {
+		return resultShape;
+	}
+
+	public JdbcValuesMetadata getMetadata() {
+		return metadata;
+	}
+
+	public int getResultCount() {
+		return results.size();
+	}
+
+	/**
+	 * A copy of the results, which may be modified by the caller.
+	 */
+	public List<Object> getResults() {
+		return copy( results );
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.util.List;
+
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * QueryCachePutManager implementation for cases where we will be putting
+ * the {@linkplain AssembledQueryResults fully assembled} Query results
+ * into the cache, instead of the JDBC values of each row.
+ *
+ * @since 6.6
+ */
+public class QueryCachePutManagerAssembledImpl implements QueryCachePutManager {
+	private final QueryResultsCache queryCache;
+	private final StatisticsImplementor statistics;
+	private final QueryKey queryKey;
+	private final String queryIdentifier;
+	private final String resultShape;
+	private final JdbcValuesMetadata metadataForCache;
+	private List<?> assembledResults;
+
+	public QueryCachePutManagerAssembledImpl(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			String resultShape,
+			JdbcValuesMetadata metadataForCache) {
+		this.queryCache = queryCache;
+		this.statistics = statistics;
+		this.queryKey = queryKey;
+		this.queryIdentifier = queryIdentifier;
+		this.resultShape = resultShape;
+		this.metadataForCache = metadataForCache;
+	}
+
+	@Override
+	public void registerJdbcRow(Object values) {
+		// the assembled results are cached instead
+	}
+
+	@Override
+	public void registerAssembledResults(List<?> results) {
+		assembledResults = results;
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		finishUp( -1, session );
+	}
+
+	@Override
+	public void finishUp(int resultCount, SharedSessionContractImplementor session) {
+		if ( assembledResults != null ) {
+			final boolean put = queryCache.put(
+					queryKey,
+					singletonList( new AssembledQueryResults( resultShape, metadataForCache, assembledResults ) ),
+					session
+			);
+			if ( put && statistics.isStatisticsEnabled() ) {
+				statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
+			}
+		}
+	}
+}
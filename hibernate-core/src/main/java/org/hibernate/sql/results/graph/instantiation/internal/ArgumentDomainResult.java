@@ -23,6 +23,10 @@ public class ArgumentDomainResult<A> implements DomainResult<A> {
 		this.realDomainResult = realDomainResult;
 	}
 
+	public DomainResult<A> getRealDomainResult() {
+		return realDomainResult;
+	}
+
 	@Override
 	public String getResultVariable() {
 		return realDomainResult.getResultVariable();
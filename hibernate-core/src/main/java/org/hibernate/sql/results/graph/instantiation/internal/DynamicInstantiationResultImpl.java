@@ -56,6 +56,10 @@ public class DynamicInstantiationResultImpl<R> implements DynamicInstantiationRe
 		return javaType;
 	}
 
+	public List<ArgumentDomainResult<?>> getArgumentResults() {
+		return argumentResults;
+	}
+
 	@Override
 	public String getResultVariable() {
 		return resultVariable;
@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.caching.internal.AssembledQueryResults;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
@@ -28,14 +29,24 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private final int[] valueIndexesToCacheIndexes;
 	private final int offset;
 	private final int resultCount;
+	private final AssembledQueryResults assembledResults;
 	private int position = -1;
 
 	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
 		// See QueryCachePutManagerEnabledImpl for what is being put into the cached results
 		this.cachedResults = cachedResults;
-		this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof JdbcValuesMetadata ? 1 : 0;
-		this.numberOfRows = cachedResults.size() - offset - 1;
-		this.resultCount = cachedResults.isEmpty() ? 0 : (int) cachedResults.get( cachedResults.size() - 1 );
+		this.assembledResults = AssembledQueryResults.fromCachedData( cachedResults );
+		if ( assembledResults != null ) {
+			// See QueryCachePutManagerAssembledImpl, there are no rows to process
+			this.offset = 0;
+			this.numberOfRows = 0;
+			this.resultCount = assembledResults.getResultCount();
+		}
+		else {
+			this.offset = !cachedResults.isEmpty() && cachedResults.get( 0 ) instanceof JdbcValuesMetadata ? 1 : 0;
+			this.numberOfRows = cachedResults.size() - offset - 1;
+			this.resultCount = cachedResults.isEmpty() ? 0 : (int) cachedResults.get( cachedResults.size() - 1 );
+		}
 		this.resolvedMapping = resolvedMapping;
 
 		final BitSet valueIndexesToCache = new BitSet();
@@ -61,6 +72,16 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		}
 	}
 
+	/**
+	 * The fully assembled results read from the cache, or {@code null}
+	 * if the cache held the JDBC values of the rows.
+	 *
+	 * @since 6.6
+	 */
+	public AssembledQueryResults getAssembledResults() {
+		return assembledResults;
+	}
+
 	@Override
 	protected boolean processNext(RowProcessingState rowProcessingState) {
 		ResultsLogger.RESULTS_MESSAGE_LOGGER.tracef(
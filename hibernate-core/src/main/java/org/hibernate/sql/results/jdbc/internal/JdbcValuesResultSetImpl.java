@@ -10,6 +10,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.BitSet;
+import java.util.List;
 
 import org.hibernate.JDBCException;
 import org.hibernate.QueryTimeoutException;
@@ -25,6 +26,8 @@ import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.ExecutionException;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.caching.internal.AssembledQueryResults;
+import org.hibernate.sql.results.caching.internal.QueryCachePutManagerAssembledImpl;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
@@ -39,6 +42,9 @@ import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	private final QueryCachePutManager queryCachePutManager;
+	// Whether the JDBC values of each row are put into the query cache,
+	// rather than the assembled results
+	private final boolean cacheJdbcRows;
 	private final ResultSetAccess resultSetAccess;
 	private final JdbcValuesMapping valuesMapping;
 	private final ExecutionContext executionContext;
@@ -64,13 +70,45 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			JdbcValuesMapping valuesMapping,
 			JdbcValuesMetadata metadataForCache,
 			ExecutionContext executionContext) {
+		this(
+				resultSetAccess,
+				queryCacheKey,
+				queryIdentifier,
+				queryOptions,
+				usesFollowOnLocking,
+				valuesMapping,
+				metadataForCache,
+				null,
+				executionContext
+		);
+	}
+
+	/**
+	 * @param assembledResultShape if not {@code null}, the
+	 * {@linkplain AssembledQueryResults assembled results} are put into the
+	 * query cache, instead of the JDBC values of the rows
+	 *
+	 * @since 6.6
+	 */
+	public JdbcValuesResultSetImpl(
+			ResultSetAccess resultSetAccess,
+			QueryKey queryCacheKey,
+			String queryIdentifier,
+			QueryOptions queryOptions,
+			boolean usesFollowOnLocking,
+			JdbcValuesMapping valuesMapping,
+			JdbcValuesMetadata metadataForCache,
+			String assembledResultShape,
+			ExecutionContext executionContext) {
 		this.queryCachePutManager = resolveQueryCachePutManager(
 				executionContext,
 				queryOptions,
 				queryCacheKey,
 				queryIdentifier,
-				metadataForCache
+				metadataForCache,
+				assembledResultShape
 		);
+		this.cacheJdbcRows = queryCachePutManager != null && assembledResultShape == null;
 		this.resultSetAccess = resultSetAccess;
 		this.valuesMapping = valuesMapping;
 		this.executionContext = executionContext;
@@ -84,7 +122,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		}
 		this.initializedIndexes = new BitSet( rowSize );
 		this.currentRowJdbcValues = new Object[rowSize];
-		if ( queryCachePutManager == null ) {
+		if ( !cacheJdbcRows ) {
 			this.valueIndexesToCacheIndexes = null;
 			this.rowToCacheSize = -1;
 		}
@@ -145,11 +183,22 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			QueryOptions queryOptions,
 			QueryKey queryCacheKey,
 			String queryIdentifier,
-			JdbcValuesMetadata metadataForCache) {
+			JdbcValuesMetadata metadataForCache,
+			String assembledResultShape) {
 		if ( queryCacheKey != null ) {
 			final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
 			final QueryResultsCache queryCache = factory.getCache()
 					.getQueryResultsCache( queryOptions.getResultCacheRegionName() );
+			if ( assembledResultShape != null ) {
+				return new QueryCachePutManagerAssembledImpl(
+						queryCache,
+						factory.getStatistics(),
+						queryCacheKey,
+						queryIdentifier,
+						assembledResultShape,
+						metadataForCache
+				);
+			}
 			return new QueryCachePutManagerEnabledImpl(
 					queryCache,
 					factory.getStatistics(),
@@ -347,6 +396,13 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		initializedIndexes.clear();
 	}
 
+	@Override
+	public void registerAssembledResults(List<?> results) {
+		if ( queryCachePutManager != null ) {
+			queryCachePutManager.registerAssembledResults( results );
+		}
+	}
+
 	@Override
 	public final void finishUp(SharedSessionContractImplementor session) {
 		if ( queryCachePutManager != null ) {
@@ -367,7 +423,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded) {
-		if ( queryCachePutManager != null ) {
+		if ( cacheJdbcRows ) {
 			if ( wasAdded ) {
 				resultCount++;
 			}
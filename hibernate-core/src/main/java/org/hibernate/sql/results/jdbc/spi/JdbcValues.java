@@ -6,6 +6,9 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import java.util.List;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -78,6 +81,17 @@ public interface JdbcValues {
 
 	void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded);
 
+	/**
+	 * Register the fully assembled results of all the rows, which may be
+	 * cached in place of the JDBC values if every result is immutable.
+	 * Must be called before {@link #finishUp}.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default void registerAssembledResults(List<?> results) {
+	}
+
 	/**
 	 * Give implementations a chance to finish processing
 	 */
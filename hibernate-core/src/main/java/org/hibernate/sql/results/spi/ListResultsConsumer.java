@@ -223,6 +223,7 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 
 			rowReader.finishUp( rowProcessingState );
 			jdbcValuesSourceProcessingState.finishUp( readRows > 1 );
+			jdbcValues.registerAssembledResults( results.getResults() );
 
 			//noinspection unchecked
 			final ResultListTransformer<R> resultListTransformer =
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * Statistics of one of the caches making up the
+ * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+ * interpretation cache}.
+ *
+ * @see Statistics#getQueryInterpretationCacheStatistics(String)
+ *
+ * @since 6.6
+ */
+@Incubating
+public interface QueryInterpretationCacheStatistics {
+	/**
+	 * The name of the cache of query plans.
+	 */
+	String QUERY_PLANS = "query-plans";
+
+	/**
+	 * The name of the cache of HQL interpretations.
+	 */
+	String HQL_INTERPRETATIONS = "hql-interpretations";
+
+	/**
+	 * The name of the cache of native query parameter interpretations.
+	 */
+	String NATIVE_QUERY_PARAMETERS = "native-query-parameters";
+
+	/**
+	 * The name of the cache.
+	 */
+	String getCacheName();
+
+	/**
+	 * The number of successful look-ups against the cache since the
+	 * last Statistics clearing.
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of unsuccessful look-ups against the cache since the
+	 * last Statistics clearing.
+	 */
+	long getMissCount();
+
+	/**
+	 * The number of entries evicted from the cache to make room for
+	 * other entries since the last Statistics clearing.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * The number of entries currently held by the cache.
+	 */
+	long getElementCount();
+
+	/**
+	 * The maximum number of entries the cache currently holds. This
+	 * varies over time when the cache is
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_ADAPTIVE
+	 * adaptive}.
+	 */
+	long getMaxElementCount();
+}
@@ -9,6 +9,8 @@ package org.hibernate.stat;
 import java.time.Instant;
 import java.util.Map;
 
+import org.hibernate.Incubating;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -395,4 +397,36 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The names of the caches making up the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}, or an empty array if the query plan cache is
+	 * disabled.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default String[] getQueryInterpretationCacheNames() {
+		return new String[0];
+	}
+
+	/**
+	 * The statistics of the named cache belonging to the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}, which are collected whether collection of
+	 * statistics is enabled or not.
+	 *
+	 * @param cacheName One of the names returned by
+	 *                  {@link #getQueryInterpretationCacheNames()}
+	 *
+	 * @return the statistics for the named cache, or {@code null} if
+	 *         there is no such cache
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default @Nullable QueryInterpretationCacheStatistics getQueryInterpretationCacheStatistics(String cacheName) {
+		return null;
+	}
 }
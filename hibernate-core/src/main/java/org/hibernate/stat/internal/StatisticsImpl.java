@@ -27,7 +27,10 @@ import org.hibernate.internal.util.NullnessUtil;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.service.Service;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -46,6 +49,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private static final CoreMessageLogger LOG = messageLogger( StatisticsImpl.class );
 
+	private final SessionFactoryImplementor sessionFactory;
 	private final MappingMetamodelImplementor metamodel;
 	private final CacheImplementor cache;
 
@@ -129,6 +133,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
+		this.sessionFactory = sessionFactory;
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
 		this.queryStatsMap = new StatsNamedContainer<>(
 				sessionFactoryOptions.getQueryStatisticsMaxSize(),
@@ -209,6 +214,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		final QueryInterpretationCache interpretationCache = getQueryInterpretationCache();
+		if ( interpretationCache != null ) {
+			interpretationCache.clearStatistics();
+		}
 
 		resetStart();
 	}
@@ -773,6 +782,39 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public String[] getQueryInterpretationCacheNames() {
+		final QueryInterpretationCache interpretationCache = getQueryInterpretationCache();
+		if ( interpretationCache == null ) {
+			return new String[0];
+		}
+		final List<QueryInterpretationCacheStatistics> cacheStatistics = interpretationCache.getStatistics();
+		final String[] names = new String[cacheStatistics.size()];
+		for ( int i = 0; i < names.length; i++ ) {
+			names[i] = cacheStatistics.get( i ).getCacheName();
+		}
+		return names;
+	}
+
+	@Override
+	public @Nullable QueryInterpretationCacheStatistics getQueryInterpretationCacheStatistics(String cacheName) {
+		final QueryInterpretationCache interpretationCache = getQueryInterpretationCache();
+		if ( interpretationCache != null ) {
+			for ( QueryInterpretationCacheStatistics cacheStatistics : interpretationCache.getStatistics() ) {
+				if ( cacheStatistics.getCacheName().equals( cacheName ) ) {
+					return cacheStatistics;
+				}
+			}
+		}
+		return null;
+	}
+
+	private @Nullable QueryInterpretationCache getQueryInterpretationCache() {
+		// the query engine might not have been built yet
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		return queryEngine == null ? null : queryEngine.getInterpretationCache();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
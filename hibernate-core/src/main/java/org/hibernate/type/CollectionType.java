@@ -315,17 +315,11 @@ public abstract class CollectionType extends AbstractType implements Association
 			return p;
 		}
 		else {
-			synchronized ( this ) {
-				p  = this.persister;
-				if ( p != null ) {
-					return p;
-				}
-				else {
-					p = factory.getRuntimeMetamodels().getMappingMetamodel().getCollectionDescriptor( role );
-					this.persister = p;
-					return p;
-				}
-			}
+			// the lookup is idempotent, so a racy initialization is harmless,
+			// and avoids pinning the carrier when using virtual threads
+			p = factory.getRuntimeMetamodels().getMappingMetamodel().getCollectionDescriptor( role );
+			this.persister = p;
+			return p;
 		}
 	}
 
@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompactCacheEntryValuesTest {
+
+	@Test
+	public void testIntegralValues() {
+		for ( long value : new long[] { 0, 1, -1, 63, -64, 64, -65, Integer.MAX_VALUE, Integer.MIN_VALUE,
+				Long.MAX_VALUE, Long.MIN_VALUE } ) {
+			assertThat( roundTrip( value ) ).isEqualTo( value );
+		}
+		assertThat( roundTrip( -123456 ) ).isEqualTo( -123456 );
+		assertThat( roundTrip( Integer.MIN_VALUE ) ).isEqualTo( Integer.MIN_VALUE );
+		assertThat( roundTrip( (short) -5 ) ).isEqualTo( (short) -5 );
+		assertThat( roundTrip( (byte) -128 ) ).isEqualTo( (byte) -128 );
+	}
+
+	@Test
+	public void testSmallValuesAreCompact() {
+		final CompactCacheEntryValues.Writer writer = CompactCacheEntryValues.writer();
+		writer.writeValue( -1L );
+		writer.writeValue( 42 );
+		// one tag and one byte for each value
+		assertThat( writer.toByteArray() ).hasSize( 4 );
+	}
+
+	@Test
+	public void testStrings() {
+		assertThat( roundTrip( "" ) ).isEqualTo( "" );
+		assertThat( roundTrip( "héllo €" ) ).isEqualTo( "héllo €" );
+
+		final char[] chars = new char[0x3FFF + 1];
+		Arrays.fill( chars, '€' );
+		final String longString = new String( chars );
+		assertThat( roundTrip( longString ) ).isEqualTo( longString );
+
+		final String veryLongString = longString + longString + longString + longString + "x";
+		assertThat( roundTrip( veryLongString ) ).isEqualTo( veryLongString );
+	}
+
+	@Test
+	public void testDecimals() {
+		// BigDecimal#equals() also compares the scale
+		assertThat( roundTrip( new BigDecimal( "-123.4500" ) ) ).isEqualTo( new BigDecimal( "-123.4500" ) );
+		assertThat( roundTrip( new BigDecimal( "1E+10" ) ) ).isEqualTo( new BigDecimal( "1E+10" ) );
+		assertThat( roundTrip( new BigInteger( "-123456789012345678901234567890" ) ) )
+				.isEqualTo( new BigInteger( "-123456789012345678901234567890" ) );
+		assertThat( roundTrip( 1.5d ) ).isEqualTo( 1.5d );
+		assertThat( roundTrip( -2.5f ) ).isEqualTo( -2.5f );
+	}
+
+	@Test
+	public void testTemporalValues() {
+		final Timestamp timestamp = new Timestamp( -86_400_123L );
+		timestamp.setNanos( 123_456_789 );
+		final Object readTimestamp = roundTrip( timestamp );
+		assertThat( readTimestamp ).isInstanceOf( Timestamp.class ).isEqualTo( timestamp );
+		assertThat( ( (Timestamp) readTimestamp ).getNanos() ).isEqualTo( 123_456_789 );
+
+		assertThat( roundTrip( LocalDate.of( 1850, 1, 1 ) ) ).isEqualTo( LocalDate.of( 1850, 1, 1 ) );
+		assertThat( roundTrip( LocalTime.MAX ) ).isEqualTo( LocalTime.MAX );
+		assertThat( roundTrip( LocalDateTime.of( 2024, 2, 29, 1, 2, 3, 4 ) ) )
+				.isEqualTo( LocalDateTime.of( 2024, 2, 29, 1, 2, 3, 4 ) );
+		assertThat( roundTrip( Instant.ofEpochSecond( -10, 5 ) ) ).isEqualTo( Instant.ofEpochSecond( -10, 5 ) );
+		assertThat( roundTrip( new java.util.Date( 123L ) ) ).isEqualTo( new java.util.Date( 123L ) );
+		assertThat( roundTrip( new java.sql.Date( 0L ) ) ).isInstanceOf( java.sql.Date.class );
+	}
+
+	@Test
+	public void testOtherValues() {
+		final UUID uuid = UUID.randomUUID();
+		assertThat( roundTrip( uuid ) ).isEqualTo( uuid );
+		assertThat( roundTrip( null ) ).isNull();
+		assertThat( roundTrip( true ) ).isEqualTo( true );
+		assertThat( roundTrip( 'c' ) ).isEqualTo( 'c' );
+		assertThat( (byte[]) roundTrip( new byte[] { 1, -2, 3 } ) ).containsExactly( 1, -2, 3 );
+		assertThat( roundTrip( LazyPropertyInitializer.UNFETCHED_PROPERTY ) )
+				.isSameAs( LazyPropertyInitializer.UNFETCHED_PROPERTY );
+
+		final Object array = roundTrip( new Serializable[] { 1L, null, new Object[] { "a" } } );
+		assertThat( array ).isInstanceOf( Serializable[].class );
+		assertThat( (Object[]) array ).containsExactly( 1L, null, new Object[] { "a" } );
+	}
+
+	@Test
+	public void testSerializedFallback() {
+		final ZonedDateTime dateTime = ZonedDateTime.of( 2020, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHours( 2 ) );
+		assertThat( roundTrip( dateTime ) ).isEqualTo( dateTime );
+	}
+
+	@Test
+	public void testMalformedData() {
+		// truncated
+		final CompactCacheEntryValues.Writer writer = CompactCacheEntryValues.writer();
+		writer.writeValue( "some string" );
+		final byte[] bytes = writer.toByteArray();
+		assertThatThrownBy( () -> CompactCacheEntryValues.reader( Arrays.copyOf( bytes, 5 ) ).readValue() )
+				.isInstanceOf( CacheException.class );
+
+		// unknown tag
+		assertThatThrownBy( () -> CompactCacheEntryValues.reader( new byte[] { 120 } ).readValue() )
+				.isInstanceOf( CacheException.class );
+
+		// array length exceeding the data
+		final CompactCacheEntryValues.Writer hugeArray = CompactCacheEntryValues.writer();
+		hugeArray.writeByte( 14 );
+		hugeArray.writeVarInt( Integer.MAX_VALUE );
+		assertThatThrownBy( () -> CompactCacheEntryValues.reader( hugeArray.toByteArray() ).readValue() )
+				.isInstanceOf( CacheException.class );
+
+		// enum ordinal without the type of the attribute
+		assertThatThrownBy( () -> CompactCacheEntryValues.reader( new byte[] { 28, 0 } ).readValue() )
+				.isInstanceOf( CacheException.class );
+	}
+
+	@Test
+	public void testUnreadableEntryIsCacheMiss() {
+		assertThat( CompactCollectionCacheEntry.INSTANCE.destructure( new byte[] { 99, 0 }, null ) ).isNull();
+		assertThat( CompactCollectionCacheEntry.INSTANCE.destructure( new byte[0], null ) ).isNull();
+	}
+
+	private static Object roundTrip(Object value) {
+		final CompactCacheEntryValues.Writer writer = CompactCacheEntryValues.writer();
+		writer.writeValue( value );
+		writer.writeValue( "end" );
+		final CompactCacheEntryValues.Reader reader = CompactCacheEntryValues.reader( writer.toByteArray() );
+		final Object read = reader.readValue();
+		assertThat( reader.readValue() ).isEqualTo( "end" );
+		return read;
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.orm.test.batch.BatchPipeliningTest.Animal;
+import org.hibernate.orm.test.batch.BatchPipeliningTest.Dog;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a pipelined JDBC batch really executes while the next one is bound,
+ * and that no other statement uses the connection meanwhile.
+ */
+@DomainModel(annotatedClasses = {
+		Animal.class,
+		Dog.class
+})
+@ServiceRegistry(
+		settings = {
+				@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5"),
+				@Setting(name = BatchSettings.BATCH_PIPELINING, value = "true")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = BatchPipeliningConnectionUsageTest.MonitoringConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+public class BatchPipeliningConnectionUsageTest {
+
+	private static final int DOG_COUNT = 103;
+
+	private static final Set<String> STATEMENT_EXECUTIONS = Set.of(
+			"execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+	);
+	private static final Set<String> STATEMENT_BINDINGS = Set.of( "addBatch", "clearParameters" );
+	private static final Set<String> CONNECTION_USAGES = Set.of(
+			"createStatement", "prepareStatement", "prepareCall",
+			"commit", "rollback", "setAutoCommit", "setSavepoint", "releaseSavepoint", "close"
+	);
+
+	private static final MonitoringConnectionProvider CONNECTION_PROVIDER = new MonitoringConnectionProvider();
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Dog" ).executeUpdate();
+			session.createMutationQuery( "delete from Animal" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testExecutionOverlapsBindingOnly(SessionFactoryScope scope) {
+		CONNECTION_PROVIDER.reset();
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < DOG_COUNT; i++ ) {
+				session.persist( new Dog( i, "dog #" + i, "breed #" + i ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			for ( Dog dog : session.createSelectionQuery( "from Dog", Dog.class ).getResultList() ) {
+				dog.breed = "rebred #" + dog.id;
+				if ( dog.id % 2 == 0 ) {
+					session.remove( dog );
+				}
+			}
+		} );
+
+		assertThat( CONNECTION_PROVIDER.overlappingBindings ).isPositive();
+		assertThat( CONNECTION_PROVIDER.violations ).isEmpty();
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Dog where breed like 'rebred%'", Long.class )
+						.getSingleResult()
+		).isEqualTo( DOG_COUNT / 2 ) );
+	}
+
+	public static class MonitoringConnectionProviderSettingProvider
+			implements SettingProvider.Provider<MonitoringConnectionProvider> {
+		@Override
+		public MonitoringConnectionProvider getSetting() {
+			return CONNECTION_PROVIDER;
+		}
+	}
+
+	/**
+	 * Wraps every connection to record what happens while a batch is executing.
+	 * The execution of a batch waits until the next batch is being bound, at least
+	 * once, so that the overlap is observed however fast the database is.
+	 */
+	public static class MonitoringConnectionProvider extends ConnectionProviderDelegate {
+		private final Object monitor = new Object();
+		private final List<String> violations = new ArrayList<>();
+		private CountDownLatch firstOverlap = new CountDownLatch( 1 );
+		private Statement executingStatement;
+		private int overlappingBindings;
+
+		void reset() {
+			synchronized ( monitor ) {
+				violations.clear();
+				firstOverlap = new CountDownLatch( 1 );
+				overlappingBindings = 0;
+			}
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			final Connection connection = super.getConnection();
+			return (Connection) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class[] { Connection.class },
+					new ConnectionHandler( connection )
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( ( (ConnectionHandler) Proxy.getInvocationHandler( connection ) ).connection );
+		}
+
+		private void beforeConnectionUsage(Method method) {
+			synchronized ( monitor ) {
+				if ( executingStatement != null && CONNECTION_USAGES.contains( method.getName() ) ) {
+					violations.add( "Connection." + method.getName() + "() during a batch execution" );
+				}
+			}
+		}
+
+		private void beforeStatementUsage(Statement statement, Method method) {
+			synchronized ( monitor ) {
+				if ( executingStatement == null ) {
+					return;
+				}
+				final String name = method.getName();
+				if ( STATEMENT_EXECUTIONS.contains( name ) || name.equals( "close" ) || name.equals( "clearBatch" ) ) {
+					violations.add( "Statement." + name + "() during a batch execution" );
+				}
+				else if ( STATEMENT_BINDINGS.contains( name ) || name.startsWith( "set" ) ) {
+					if ( statement == executingStatement ) {
+						violations.add( "Statement." + name + "() on the executing statement" );
+					}
+					else {
+						overlappingBindings++;
+						firstOverlap.countDown();
+					}
+				}
+			}
+		}
+
+		private Object executeBatch(Statement statement, Statement target, Method method, Object[] args)
+				throws Throwable {
+			final CountDownLatch overlap;
+			synchronized ( monitor ) {
+				if ( executingStatement != null ) {
+					violations.add( "Concurrent batch executions" );
+				}
+				executingStatement = statement;
+				overlap = firstOverlap;
+			}
+			try {
+				// give the flushing thread the time to start binding the next batch
+				overlap.await( 10, TimeUnit.SECONDS );
+				return invoke( target, method, args );
+			}
+			finally {
+				synchronized ( monitor ) {
+					executingStatement = null;
+				}
+			}
+		}
+
+		private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke( target, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+
+		private class ConnectionHandler implements InvocationHandler {
+			private final Connection connection;
+
+			private ConnectionHandler(Connection connection) {
+				this.connection = connection;
+			}
+
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				beforeConnectionUsage( method );
+				final Object result = MonitoringConnectionProvider.invoke( connection, method, args );
+				if ( result instanceof PreparedStatement ) {
+					return Proxy.newProxyInstance(
+							getClass().getClassLoader(),
+							new Class[] { result instanceof CallableStatement ? CallableStatement.class : PreparedStatement.class },
+							new StatementHandler( (PreparedStatement) result )
+					);
+				}
+				return result;
+			}
+		}
+
+		private class StatementHandler implements InvocationHandler {
+			private final PreparedStatement statement;
+
+			private StatementHandler(PreparedStatement statement) {
+				this.statement = statement;
+			}
+
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				if ( method.getName().equals( "executeBatch" ) ) {
+					return executeBatch( (Statement) proxy, statement, method, args );
+				}
+				beforeStatementUsage( (Statement) proxy, method );
+				return MonitoringConnectionProvider.invoke( statement, method, args );
+			}
+		}
+	}
+}
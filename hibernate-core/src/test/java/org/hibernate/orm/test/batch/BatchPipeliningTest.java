@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DomainModel(annotatedClasses = {
+		BatchPipeliningTest.Animal.class,
+		BatchPipeliningTest.Dog.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5"),
+		@Setting(name = BatchSettings.BATCH_PIPELINING, value = "true"),
+		// so that not-null constraint violations happen in the database
+		@Setting(name = AvailableSettings.CHECK_NULLABILITY, value = "false")
+})
+@SessionFactory
+public class BatchPipeliningTest {
+
+	private static final int ANIMAL_COUNT = 103;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Dog" ).executeUpdate();
+			session.createMutationQuery( "delete from Animal" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertUpdateDelete(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ANIMAL_COUNT; i++ ) {
+				// joined inheritance, so each batch is a group of two statements
+				session.persist( new Dog( i, "dog #" + i, "breed #" + i ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Dog> dogs = session.createSelectionQuery( "from Dog order by id", Dog.class ).getResultList();
+			assertThat( dogs ).hasSize( ANIMAL_COUNT );
+			for ( Dog dog : dogs ) {
+				assertThat( dog.breed ).isEqualTo( "breed #" + dog.id );
+				dog.name = "renamed #" + dog.id;
+				dog.breed = "rebred #" + dog.id;
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Dog> dogs = session.createSelectionQuery( "from Dog order by id", Dog.class ).getResultList();
+			for ( Dog dog : dogs ) {
+				assertThat( dog.name ).isEqualTo( "renamed #" + dog.id );
+				assertThat( dog.breed ).isEqualTo( "rebred #" + dog.id );
+				if ( dog.id % 2 == 0 ) {
+					session.remove( dog );
+				}
+			}
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Dog", Long.class ).getSingleResult()
+		).isEqualTo( ANIMAL_COUNT / 2 ) );
+	}
+
+	@Test
+	public void testFailureInAsynchronousExecution(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 0; i < ANIMAL_COUNT; i++ ) {
+					// the first full batch fails, while the next ones are being bound
+					session.persist( new Animal( i, i == 2 ? null : "animal #" + i ) );
+				}
+				assertThrows( ConstraintViolationException.class, session::flush );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Animal", Long.class ).getSingleResult()
+		).isZero() );
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		Integer id;
+		@Column(nullable = false)
+		String name;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		String breed;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name, String breed) {
+			super( id, name );
+			this.breed = breed;
+		}
+	}
+}
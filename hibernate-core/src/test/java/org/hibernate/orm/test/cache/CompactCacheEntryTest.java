@@ -0,0 +1,306 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cache.spi.entry.CompactCollectionCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		CompactCacheEntryTest.Product.class,
+		CompactCacheEntryTest.DiscountedProduct.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+		@Setting(name = CacheSettings.USE_COMPACT_CACHE, value = "true")
+})
+public class CompactCacheEntryTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Product", Product.class ).getResultList().forEach( session::remove );
+		} );
+	}
+
+	@Test
+	public void testEntityEntryIsCompact(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Product.class );
+		assertThat( persister.getCacheEntryStructure() ).isInstanceOf( CompactCacheEntry.class );
+		assertThat( scope.getSessionFactory().getMappingMetamodel()
+				.getCollectionDescriptor( Product.class.getName() + ".tags" )
+				.getCacheEntryStructure() ).isInstanceOf( CompactCollectionCacheEntry.class );
+
+		scope.inTransaction( session -> session.persist( new Product( 1L, "chair", new BigDecimal( "25.50" ) ) ) );
+
+		scope.inTransaction( session -> {
+			final EntityDataAccess entityDataAccess = persister.getCacheAccessStrategy();
+			final Object cacheKey = entityDataAccess.generateCacheKey(
+					1L,
+					persister,
+					scope.getSessionFactory(),
+					null
+			);
+			assertThat( entityDataAccess.get( session, cacheKey ) ).isInstanceOf( byte[].class );
+		} );
+	}
+
+	@Test
+	public void testEntriesAreAssembled(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final Product product = new Product( 1L, "chair", new BigDecimal( "25.50" ) );
+			product.tags.add( "furniture" );
+			product.tags.add( "wood" );
+			session.persist( product );
+			final DiscountedProduct discounted = new DiscountedProduct( 2L, "table", new BigDecimal( "100" ) );
+			discounted.discountEnds = LocalDate.of( 2024, 12, 31 );
+			session.persist( discounted );
+		} );
+
+		// populate the collection cache
+		scope.inTransaction( session -> assertThat( session.find( Product.class, 1L ).tags ).hasSize( 2 ) );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1L );
+			assertThat( product.name ).isEqualTo( "chair" );
+			assertThat( product.price ).isEqualTo( new BigDecimal( "25.50" ) );
+			assertThat( product.version ).isEqualTo( 0 );
+			assertThat( product.tags ).containsExactlyInAnyOrder( "furniture", "wood" );
+
+			final Product discounted = session.find( Product.class, 2L );
+			assertThat( discounted ).isInstanceOf( DiscountedProduct.class );
+			assertThat( discounted.name ).isEqualTo( "table" );
+			assertThat( ( (DiscountedProduct) discounted ).discountEnds ).isEqualTo( LocalDate.of( 2024, 12, 31 ) );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 0 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testTypedValuesAreWrittenWithoutClass(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Product.class );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final Product product = new Product( 1L, "chair", new BigDecimal( "25.50" ) );
+			product.category = Category.FURNITURE;
+			product.availability = Availability.BACK_ORDER;
+			product.sku = new Sku( "CH-042" );
+			session.persist( product );
+		} );
+
+		scope.inTransaction( session -> {
+			final EntityDataAccess entityDataAccess = persister.getCacheAccessStrategy();
+			final Object cacheKey = entityDataAccess.generateCacheKey(
+					1L,
+					persister,
+					scope.getSessionFactory(),
+					null
+			);
+			final String structured = new String(
+					(byte[]) entityDataAccess.get( session, cacheKey ),
+					StandardCharsets.ISO_8859_1
+			);
+			assertThat( structured ).contains( "FURNITURE", "CH-042" );
+			assertThat( structured ).doesNotContain( Category.class.getSimpleName() );
+			assertThat( structured ).doesNotContain( Availability.class.getSimpleName() );
+			assertThat( structured ).doesNotContain( Sku.class.getSimpleName() );
+		} );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1L );
+			assertThat( product.category ).isEqualTo( Category.FURNITURE );
+			assertThat( product.availability ).isEqualTo( Availability.BACK_ORDER );
+			assertThat( product.sku ).isEqualTo( new Sku( "CH-042" ) );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testEntryWrittenForSubclassIsReadForRoot(SessionFactoryScope scope) {
+		final EntityPersister rootPersister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Product.class );
+		final EntityPersister subclassPersister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( DiscountedProduct.class );
+		scope.inTransaction( session -> {
+			final DiscountedProduct discounted = new DiscountedProduct( 2L, "table", new BigDecimal( "100" ) );
+			discounted.discountEnds = LocalDate.of( 2024, 12, 31 );
+			session.persist( discounted );
+		} );
+
+		scope.inTransaction( session -> {
+			final DiscountedProduct discounted = session.find( DiscountedProduct.class, 2L );
+			final Object[] state = session.getPersistenceContextInternal().getEntry( discounted ).getLoadedState();
+			final CacheEntry entry = subclassPersister.buildCacheEntry( discounted, state, discounted.version, session );
+
+			final Object structured = subclassPersister.getCacheEntryStructure().structure( entry );
+			final CacheEntry read = (CacheEntry) rootPersister.getCacheEntryStructure()
+					.destructure( structured, scope.getSessionFactory() );
+			assertThat( read.getSubclass() ).isEqualTo( subclassPersister.getEntityName() );
+			assertThat( read.getVersion() ).isEqualTo( entry.getVersion() );
+			assertThat( read.getDisassembledState() ).containsExactly( entry.getDisassembledState() );
+		} );
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Product {
+		@Id
+		private Long id;
+		@Version
+		private Integer version;
+		private String name;
+		private BigDecimal price;
+		@Enumerated(EnumType.STRING)
+		private Category category;
+		private Availability availability;
+		@JavaType(SkuJavaType.class)
+		@JdbcTypeCode(SqlTypes.VARCHAR)
+		private Sku sku;
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private Set<String> tags = new HashSet<>();
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, BigDecimal price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+
+	@Entity(name = "DiscountedProduct")
+	public static class DiscountedProduct extends Product {
+		private LocalDate discountEnds;
+
+		public DiscountedProduct() {
+		}
+
+		public DiscountedProduct(Long id, String name, BigDecimal price) {
+			super( id, name, price );
+		}
+	}
+
+	public enum Category {
+		FURNITURE,
+		LIGHTING
+	}
+
+	public enum Availability {
+		IN_STOCK,
+		BACK_ORDER
+	}
+
+	public static final class Sku implements Serializable {
+		private final String code;
+
+		public Sku(String code) {
+			this.code = code;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Sku && code.equals( ( (Sku) o ).code );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode( code );
+		}
+	}
+
+	public static class SkuJavaType extends AbstractClassJavaType<Sku> {
+		public SkuJavaType() {
+			super( Sku.class );
+		}
+
+		@Override
+		public String toString(Sku value) {
+			return value.code;
+		}
+
+		@Override
+		public Sku fromString(CharSequence string) {
+			return new Sku( string.toString() );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <X> X unwrap(Sku value, Class<X> type, WrapperOptions options) {
+			if ( value == null ) {
+				return null;
+			}
+			if ( String.class.isAssignableFrom( type ) ) {
+				return (X) value.code;
+			}
+			throw unknownUnwrap( type );
+		}
+
+		@Override
+		public <X> Sku wrap(X value, WrapperOptions options) {
+			if ( value == null ) {
+				return null;
+			}
+			if ( value instanceof String ) {
+				return new Sku( (String) value );
+			}
+			throw unknownWrap( value.getClass() );
+		}
+	}
+}
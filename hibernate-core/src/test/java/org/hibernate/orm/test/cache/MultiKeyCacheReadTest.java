@@ -0,0 +1,219 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that multi-id loading reads the second-level cache with a single
+ * {@link org.hibernate.cache.spi.support.StorageAccess#getAllFromCache} call
+ * rather than one region call per id.
+ */
+@DomainModel(annotatedClasses = MultiKeyCacheReadTest.Item.class)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CACHE_REGION_FACTORY,
+				provider = MultiKeyCacheReadTest.CountingRegionFactorySettingProvider.class
+		)
+)
+@SessionFactory(generateStatistics = true, useCollectingStatementInspector = true)
+public class MultiKeyCacheReadTest {
+
+	private static final int ITEM_COUNT = 10;
+
+	private static final CountingRegionFactory REGION_FACTORY = new CountingRegionFactory();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				session.persist( new Item( i, "item #" + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAll();
+	}
+
+	@Test
+	public void testMultiLoadWithMixedHits(SessionFactoryScope scope) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = 0; i < ITEM_COUNT; i++ ) {
+			ids.add( i );
+			if ( i % 2 == 0 ) {
+				scope.getSessionFactory().getCache().evictEntityData( Item.class, i );
+			}
+		}
+		final int misses = ( ITEM_COUNT + 1 ) / 2;
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statistics.clear();
+		statementInspector.clear();
+		REGION_FACTORY.storageAccess.reset();
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.byMultipleIds( Item.class ).multiLoad( ids );
+			assertThat( items ).hasSize( ITEM_COUNT );
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				assertThat( items.get( i ).name ).isEqualTo( "item #" + i );
+			}
+		} );
+
+		assertThat( REGION_FACTORY.storageAccess.bulkGets.get() ).isEqualTo( 1 );
+		// the only single-key reads are the lock checks of the read-write puts of the misses
+		assertThat( REGION_FACTORY.storageAccess.singleGets.get() ).isEqualTo( misses );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( ITEM_COUNT - misses );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( misses );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( misses );
+		statementInspector.assertExecutedCount( 1 );
+	}
+
+	@Test
+	public void testMultiLoadAllHits(SessionFactoryScope scope) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = 0; i < ITEM_COUNT; i++ ) {
+			ids.add( i );
+		}
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statistics.clear();
+		statementInspector.clear();
+		REGION_FACTORY.storageAccess.reset();
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.withBatchSize( 3 )
+					.multiLoad( ids );
+			assertThat( items ).hasSize( ITEM_COUNT );
+		} );
+
+		assertThat( REGION_FACTORY.storageAccess.bulkGets.get() ).isEqualTo( 1 );
+		assertThat( REGION_FACTORY.storageAccess.singleGets.get() ).isZero();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( ITEM_COUNT );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isZero();
+		statementInspector.assertExecutedCount( 0 );
+	}
+
+	public static class CountingRegionFactorySettingProvider
+			implements SettingProvider.Provider<CountingRegionFactory> {
+		@Override
+		public CountingRegionFactory getSetting() {
+			return REGION_FACTORY;
+		}
+	}
+
+	/**
+	 * Backs the entity region with a {@link CountingStorageAccess}.
+	 */
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		private final CountingStorageAccess storageAccess = new CountingStorageAccess();
+
+		@Override
+		public DomainDataRegion buildDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new DomainDataRegionImpl(
+					regionConfig,
+					this,
+					storageAccess,
+					DefaultCacheKeysFactory.INSTANCE,
+					buildingContext
+			);
+		}
+	}
+
+	/**
+	 * Counts the single-key and the multi-key reads reaching the region.
+	 */
+	public static class CountingStorageAccess extends MapStorageAccessImpl {
+		private final AtomicInteger singleGets = new AtomicInteger();
+		private final AtomicInteger bulkGets = new AtomicInteger();
+
+		void reset() {
+			singleGets.set( 0 );
+			bulkGets.set( 0 );
+		}
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			singleGets.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			bulkGets.incrementAndGet();
+			final Map<Object, Object> items = new HashMap<>( keys.size() );
+			for ( Object key : keys ) {
+				final Object item = super.getFromCache( key, session );
+				if ( item != null ) {
+					items.put( key, item );
+				}
+			}
+			return items;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
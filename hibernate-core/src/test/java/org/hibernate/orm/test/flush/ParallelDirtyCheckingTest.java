@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Interceptor;
+import org.hibernate.Session;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.hibernate.type.Type;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		ParallelDirtyCheckingTest.Category.class,
+		ParallelDirtyCheckingTest.Item.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "10"))
+@SessionFactory(generateStatistics = true)
+public class ParallelDirtyCheckingTest {
+
+	private static final int ITEM_COUNT = 1000;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Category first = new Category( 1L, "first" );
+			final Category second = new Category( 2L, "second" );
+			session.persist( first );
+			session.persist( second );
+			for ( long i = 0; i < ITEM_COUNT; i++ ) {
+				session.persist( new Item( i, "item #" + i, first ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Category" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testFlushDetectsChanges(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final Category second = session.find( Category.class, 2L );
+			final List<Item> items = session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			for ( Item item : items ) {
+				if ( item.id % 10 == 0 ) {
+					item.name = "renamed #" + item.id;
+				}
+				else if ( item.id % 10 == 1 ) {
+					// an association change is dirty checked sequentially
+					item.category = second;
+				}
+			}
+		} );
+
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( ITEM_COUNT / 5 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 10L ).name ).isEqualTo( "renamed #10" );
+			assertThat( session.find( Item.class, 11L ).category.id ).isEqualTo( 2L );
+			assertThat( session.find( Item.class, 12L ).name ).isEqualTo( "item #12" );
+			assertThat( session.find( Item.class, 12L ).category.id ).isEqualTo( 1L );
+		} );
+	}
+
+	@Test
+	public void testFlushWithoutChanges(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			assertThat( items ).hasSize( ITEM_COUNT );
+			session.flush();
+		} );
+
+		assertThat( statistics.getEntityUpdateCount() ).isZero();
+	}
+
+	@Test
+	public void testFlushDetectsChangesMadeByInterceptor(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final List<Item> items = new ArrayList<>();
+		final Interceptor interceptor = new Interceptor() {
+			@Override
+			public boolean onFlushDirty(
+					Object entity,
+					Object id,
+					Object[] currentState,
+					Object[] previousState,
+					String[] propertyNames,
+					Type[] types) {
+				// change an entity which is flushed later
+				items.get( ITEM_COUNT - 1 ).name = "changed by interceptor";
+				return false;
+			}
+		};
+		statistics.clear();
+
+		try ( Session session = scope.getSessionFactory().withOptions().interceptor( interceptor ).openSession() ) {
+			session.getTransaction().begin();
+			items.addAll( session.createSelectionQuery( "from Item order by id", Item.class ).getResultList() );
+			items.get( 0 ).name = "renamed";
+			session.getTransaction().commit();
+		}
+
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+		scope.inTransaction( session -> assertThat( session.find( Item.class, ITEM_COUNT - 1L ).name )
+				.isEqualTo( "changed by interceptor" ) );
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		Long id;
+		String name;
+
+		public Category() {
+		}
+
+		public Category(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+		@ManyToOne
+		Category category;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Category category) {
+			this.id = id;
+			this.name = name;
+			this.category = category;
+		}
+	}
+}
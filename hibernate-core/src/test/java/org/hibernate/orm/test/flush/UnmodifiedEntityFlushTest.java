@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.annotations.DynamicUpdate;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = UnmodifiedEntityFlushTest.Reading.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class UnmodifiedEntityFlushTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Reading( 1L, "first", 1.5, new Location( 10, 20 ) ) ) );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Reading" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFlushUnmodified(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Reading reading = session.find( Reading.class, 1L );
+			// same value, different instance
+			reading.location = new Location( 10, 20 );
+			statementInspector.clear();
+			session.flush();
+			statementInspector.assertExecutedCount( 0 );
+		} );
+	}
+
+	@Test
+	public void testFlushModified(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Reading reading = session.find( Reading.class, 1L );
+			reading.location.longitude = 30;
+			statementInspector.clear();
+			session.flush();
+			statementInspector.assertExecutedCount( 1 );
+			// dynamic update, so only the dirty columns are updated
+			final String update = statementInspector.getSqlQueries().get( 0 );
+			assertThat( update ).contains( "longitude" ).doesNotContain( "name" );
+		} );
+
+		scope.inTransaction( session -> {
+			final Reading reading = session.find( Reading.class, 1L );
+			assertThat( reading.location.latitude ).isEqualTo( 10 );
+			assertThat( reading.location.longitude ).isEqualTo( 30 );
+			reading.amount = 2.5;
+			reading.name = "renamed";
+		} );
+
+		scope.inTransaction( session -> {
+			final Reading reading = session.find( Reading.class, 1L );
+			assertThat( reading.amount ).isEqualTo( 2.5 );
+			assertThat( reading.name ).isEqualTo( "renamed" );
+		} );
+	}
+
+	@Test
+	public void testDirtyCalculationIsReportedOnce(SessionFactoryScope scope) {
+		final DirtyCalculationListener listener = new DirtyCalculationListener();
+		scope.inTransaction( session -> {
+			session.addEventListeners( listener );
+			final Reading reading = session.find( Reading.class, 1L );
+			session.flush();
+			assertThat( listener.results ).containsExactly( false );
+
+			reading.name = "renamed";
+			listener.results.clear();
+			session.flush();
+			assertThat( listener.results ).containsExactly( true );
+			assertThat( listener.started ).isEqualTo( 2 );
+		} );
+	}
+
+	private static class DirtyCalculationListener extends BaseSessionEventListener {
+		private final List<Boolean> results = new ArrayList<>();
+		private int started;
+
+		@Override
+		public void dirtyCalculationStart() {
+			started++;
+		}
+
+		@Override
+		public void dirtyCalculationEnd(boolean dirty) {
+			results.add( dirty );
+		}
+	}
+
+	@Entity(name = "Reading")
+	@DynamicUpdate
+	public static class Reading {
+		@Id
+		Long id;
+		String name;
+		Double amount;
+		@Embedded
+		Location location;
+
+		public Reading() {
+		}
+
+		public Reading(Long id, String name, Double amount, Location location) {
+			this.id = id;
+			this.name = name;
+			this.amount = amount;
+			this.location = location;
+		}
+	}
+
+	@Embeddable
+	public static class Location {
+		int latitude;
+		int longitude;
+
+		public Location() {
+		}
+
+		public Location(int latitude, int longitude) {
+			this.latitude = latitude;
+			this.longitude = longitude;
+		}
+	}
+}
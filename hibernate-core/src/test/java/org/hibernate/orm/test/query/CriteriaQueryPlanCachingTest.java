@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaParameterExpression;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = CriteriaQueryPlanCachingTest.Book.class)
+@ServiceRegistry(settings = @Setting(name = QuerySettings.CRITERIA_PLAN_CACHE_ENABLED, value = "true"))
+@SessionFactory(generateStatistics = true)
+public class CriteriaQueryPlanCachingTest {
+
+	private static final int EXECUTIONS = 3;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Book( i, "book #" + i, i ) );
+			}
+		} );
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testValuesBoundAsParameters(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> {
+				// a new criteria tree for each execution
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<Book> query = cb.createQuery( Book.class );
+				final JpaRoot<Book> book = query.from( Book.class );
+				query.where(
+						cb.equal( book.get( "title" ), "book #" + id ),
+						cb.ge( book.<Integer>get( "price" ), id )
+				);
+				final List<Book> books = session.createQuery( query ).getResultList();
+				assertThat( books ).hasSize( 1 );
+				assertThat( books.get( 0 ).id ).isEqualTo( id );
+			} );
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( EXECUTIONS - 1 );
+	}
+
+	@Test
+	public void testCriteriaParameters(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<Book> query = cb.createQuery( Book.class );
+				final JpaRoot<Book> book = query.from( Book.class );
+				final JpaParameterExpression<Integer> minPrice = cb.parameter( Integer.class );
+				final JpaParameterExpression<Integer> maxPrice = cb.parameter( Integer.class, "maxPrice" );
+				query.where( cb.between( book.<Integer>get( "price" ), minPrice, maxPrice ) )
+						.orderBy( cb.asc( book.get( "id" ) ) );
+				final List<Book> books = session.createQuery( query )
+						.setParameter( minPrice, id )
+						.setParameter( maxPrice, id + 1 )
+						.getResultList();
+				assertThat( books ).hasSize( 2 );
+				assertThat( books.get( 0 ).id ).isEqualTo( id );
+				assertThat( books.get( 1 ).id ).isEqualTo( id + 1 );
+			} );
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( EXECUTIONS - 1 );
+	}
+
+	@Test
+	public void testDifferentStructure(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+			for ( Object literal : List.of( 1, 1L, 1 ) ) {
+				final JpaCriteriaQuery<Object> query = cb.createQuery( Object.class );
+				final JpaRoot<Book> book = query.from( Book.class );
+				// the literals are inlined, and only differ in their type
+				query.select( cb.literal( literal ) ).where( cb.equal( book.get( "id" ), 1 ) );
+				assertThat( session.createQuery( query ).getSingleResult() ).isEqualTo( literal );
+			}
+		} );
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testTupleResults(SessionFactoryScope scope) {
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> {
+				final HibernateCriteriaBuilder cb = session.getCriteriaBuilder();
+				final JpaCriteriaQuery<Tuple> query = cb.createTupleQuery();
+				final JpaRoot<Book> book = query.from( Book.class );
+				final Path<String> title = book.get( "title" );
+				query.multiselect( book.get( "id" ), title ).where( cb.equal( book.get( "id" ), id ) );
+				// the elements of the tuple are the selections of this criteria query
+				final Tuple tuple = session.createQuery( query ).getSingleResult();
+				assertThat( tuple.get( title ) ).isEqualTo( "book #" + id );
+			} );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		int price;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, int price) {
+			this.id = id;
+			this.title = title;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		FilterAndGraphQueryPlanCachingTest.Branch.class,
+		FilterAndGraphQueryPlanCachingTest.Client.class
+})
+@SessionFactory(generateStatistics = true)
+public class FilterAndGraphQueryPlanCachingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Branch branch = new Branch( 1, "main" );
+			session.persist( branch );
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Client( i, "client #" + i, i, i % 3 == 0 ? "EU" : "US", branch ) );
+			}
+		} );
+
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Client" ).executeUpdate();
+			session.createMutationQuery( "delete from Branch" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testFilterParameterBoundPerExecution(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int minRating = 0; minRating < 5; minRating++ ) {
+			final int rating = minRating;
+			scope.inTransaction( session -> {
+				session.enableFilter( "minRating" ).setParameter( "rating", rating );
+				final List<Client> clients = session.createSelectionQuery( "from Client", Client.class )
+						.getResultList();
+				assertThat( clients ).hasSize( 10 - rating )
+						.allSatisfy( client -> assertThat( client.rating ).isGreaterThanOrEqualTo( rating ) );
+			} );
+		}
+
+		// one miss for the HQL interpretation, and one for the plan
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Client", Client.class ).getResultList()
+		).hasSize( 10 ) );
+		// the same query without the filter has its own plan
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testMultiValuedFilterParameter(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final List<List<String>> regionLists = List.of(
+				List.of( "EU" ),
+				List.of( "US" ),
+				List.of( "EU", "US" ),
+				List.of( "US", "APAC" )
+		);
+		for ( List<String> regions : regionLists ) {
+			scope.inTransaction( session -> {
+				session.enableFilter( "regions" ).setParameterList( "regions", regions );
+				final List<Client> clients = session.createSelectionQuery( "from Client", Client.class )
+						.getResultList();
+				assertThat( clients ).isNotEmpty()
+						.allSatisfy( client -> assertThat( regions ).contains( client.region ) );
+				assertThat( clients ).hasSize( regions.contains( "EU" ) ? ( regions.contains( "US" ) ? 10 : 4 ) : 6 );
+			} );
+		}
+
+		// the plan depends on the number of values of the filter parameter
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testEntityGraph(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				// a new, but structurally identical, graph for each execution
+				final RootGraph<Client> graph = session.createEntityGraph( Client.class );
+				graph.addAttributeNodes( "branch" );
+				final List<Client> clients = session.createSelectionQuery( "from Client", Client.class )
+						.setEntityGraph( graph, GraphSemantic.FETCH )
+						.getResultList();
+				assertThat( clients ).hasSize( 10 )
+						.allSatisfy( client -> assertThat( Hibernate.isInitialized( client.branch ) ).isTrue() );
+			} );
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			final List<Client> clients = session.createSelectionQuery( "from Client", Client.class )
+					.getResultList();
+			assertThat( clients ).hasSize( 10 )
+					.allSatisfy( client -> assertThat( Hibernate.isInitialized( client.branch ) ).isFalse() );
+		} );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 3 );
+	}
+
+	@Entity(name = "Branch")
+	public static class Branch {
+		@Id
+		Integer id;
+		String name;
+
+		public Branch() {
+		}
+
+		public Branch(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Client")
+	@FilterDef(name = "minRating", parameters = @ParamDef(name = "rating", type = Integer.class))
+	@FilterDef(name = "regions", parameters = @ParamDef(name = "regions", type = String.class))
+	@Filter(name = "minRating", condition = "rating >= :rating")
+	@Filter(name = "regions", condition = "region in (:regions)")
+	public static class Client {
+		@Id
+		Integer id;
+		String name;
+		int rating;
+		String region;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Branch branch;
+
+		public Client() {
+		}
+
+		public Client(Integer id, String name, int rating, String region, Branch branch) {
+			this.id = id;
+			this.name = name;
+			this.rating = rating;
+			this.region = region;
+			this.branch = branch;
+		}
+	}
+}
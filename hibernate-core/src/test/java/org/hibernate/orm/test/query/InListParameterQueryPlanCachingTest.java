@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = InListParameterQueryPlanCachingTest.Item.class)
+@SessionFactory(generateStatistics = true)
+public class InListParameterQueryPlanCachingTest {
+
+	private static final int ITEM_COUNT = 20;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < ITEM_COUNT; i++ ) {
+				session.persist( new Item( i, i % 5 ) );
+			}
+		} );
+	}
+
+	@BeforeEach
+	public void clearPlans(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPlanPerCardinality(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final List<List<Integer>> idLists = List.of(
+				List.of( 1, 2, 3 ),
+				List.of( 4, 5, 6 ),
+				List.of( 7 ),
+				List.of( 8, 9, 10 ),
+				List.of( 11 )
+		);
+		for ( List<Integer> ids : idLists ) {
+			scope.inTransaction( session -> assertThat(
+					session.createSelectionQuery( "select id from Item where id in :ids order by id", Integer.class )
+							.setParameter( "ids", ids )
+							.getResultList()
+			).isEqualTo( ids ) );
+		}
+
+		// one miss for the HQL interpretation, and one for each number of values
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 3 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 * idLists.size() - 3 );
+	}
+
+	@Test
+	public void testParameterUsedTwice(SessionFactoryScope scope) {
+		for ( int i = 0; i < 3; i++ ) {
+			final List<Integer> values = List.of( i, i + 10 );
+			scope.inTransaction( session -> {
+				final List<Integer> ids = session.createSelectionQuery(
+								"select id from Item where id in :values or category in :values order by id",
+								Integer.class
+						)
+						.setParameter( "values", values )
+						.getResultList();
+				for ( int id = 0; id < ITEM_COUNT; id++ ) {
+					assertThat( ids.contains( id ) )
+							.isEqualTo( values.contains( id ) || values.contains( id % 5 ) );
+				}
+			} );
+		}
+
+		assertThat( scope.getSessionFactory().getStatistics().getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testConcurrentExecutions(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < 4; i++ ) {
+				final int thread = i;
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < 25; j++ ) {
+						// threads share the plans, but not the number of values
+						final List<Integer> ids = ( thread + j ) % 2 == 0
+								? List.of( j % ITEM_COUNT )
+								: List.of( j % ITEM_COUNT, ( j + 1 ) % ITEM_COUNT );
+						scope.inTransaction( session -> assertThat(
+								session.createSelectionQuery( "select id from Item where id in :ids", Integer.class )
+										.setParameter( "ids", ids )
+										.getResultList()
+						).containsExactlyInAnyOrderElementsOf( ids ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		int category;
+
+		public Item() {
+		}
+
+		public Item(Integer id, int category) {
+			this.id = id;
+			this.category = category;
+		}
+	}
+}
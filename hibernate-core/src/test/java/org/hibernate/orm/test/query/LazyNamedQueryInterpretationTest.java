@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = LazyNamedQueryInterpretationTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.QUERY_STARTUP_CHECKING, value = "true"),
+		@Setting(name = QuerySettings.LAZY_NAMED_QUERY_INTERPRETATION, value = "true")
+})
+@SessionFactory(generateStatistics = true)
+public class LazyNamedQueryInterpretationTest {
+
+	@Test
+	public void testNamedQueriesInterpretedOnFirstUse(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		// the broken query did not prevent the SessionFactory from starting
+		assertThat( cachedQueries( sessionFactory ) ).doesNotContain( "from Book where title = :title" );
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> session.createNamedQuery( "Book.byTitle", Book.class )
+				.setParameter( "title", "Hibernate in Action" )
+				.getResultList() );
+		assertThat( hqlInterpretationMisses( statistics ) ).isEqualTo( 1 );
+
+		// the interpretation is kept by the named query, even after being evicted
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		statistics.clear();
+		scope.inTransaction( session -> session.createNamedQuery( "Book.byTitle", Book.class )
+				.setParameter( "title", "Java Persistence with Hibernate" )
+				.getResultList() );
+		assertThat( hqlInterpretationMisses( statistics ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testErrorReportedOnFirstUse(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy( () -> session.createNamedQuery( "Book.broken" ) )
+				.isInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	private static long hqlInterpretationMisses(Statistics statistics) {
+		return statistics.getQueryInterpretationCacheStatistics( QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS )
+				.getMissCount();
+	}
+
+	private static Set<String> cachedQueries(SessionFactoryImplementor sessionFactory) {
+		final Set<String> queries = new HashSet<>();
+		sessionFactory.getQueryEngine().getInterpretationCache()
+				.forEachCachedHqlInterpretation( (hql, resultType) -> queries.add( hql ) );
+		return queries;
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+	@NamedQuery(name = "Book.broken", query = "from Book where author = :author")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		NonSelectQueryPlanCachingTest.Account.class,
+		NonSelectQueryPlanCachingTest.Vehicle.class,
+		NonSelectQueryPlanCachingTest.Car.class
+})
+@SessionFactory(generateStatistics = true)
+public class NonSelectQueryPlanCachingTest {
+
+	private static final int EXECUTIONS = 3;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Account( i, "account #" + i, 0 ) );
+				session.persist( new Car( i, "car #" + i, 0 ) );
+			}
+		} );
+
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Account" ).executeUpdate();
+			session.createMutationQuery( "delete from Car" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testUpdate(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			final int balance = i + 1;
+			scope.inTransaction( session -> assertThat(
+					session.createMutationQuery( "update Account set balance = :balance where id < :id" )
+							.setParameter( "balance", balance )
+							.setParameter( "id", balance )
+							.executeUpdate()
+			).isEqualTo( balance ) );
+		}
+
+		// one miss for the HQL interpretation, and one for the plan
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 * ( EXECUTIONS - 1 ) );
+
+		scope.inTransaction( session -> {
+			final List<Integer> balances = session.createSelectionQuery(
+					"select balance from Account order by id",
+					Integer.class
+			).getResultList();
+			assertThat( balances ).startsWith( 3, 3, 3, 0 );
+		} );
+	}
+
+	@Test
+	public void testDelete(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> assertThat(
+					session.createMutationQuery( "delete from Account where id = :id" )
+							.setParameter( "id", id )
+							.executeUpdate()
+			).isEqualTo( 1 ) );
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 * ( EXECUTIONS - 1 ) );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Account", Long.class ).getSingleResult()
+		).isEqualTo( 10L - EXECUTIONS ) );
+	}
+
+	@Test
+	public void testInsert(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			final int id = 100 + i;
+			scope.inTransaction( session -> assertThat(
+					session.createMutationQuery( "insert into Account (id, name, balance) values (:id, :name, 0)" )
+							.setParameter( "id", id )
+							.setParameter( "name", "inserted #" + id )
+							.executeUpdate()
+			).isEqualTo( 1 ) );
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 2 * ( EXECUTIONS - 1 ) );
+		scope.inTransaction( session -> assertThat(
+				session.find( Account.class, 102 ).name
+		).isEqualTo( "inserted #102" ) );
+	}
+
+	@Test
+	public void testMultiTableUpdate(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			final int mileage = i + 1;
+			scope.inTransaction( session -> assertThat(
+					session.createMutationQuery( "update Car set name = :name, mileage = :mileage where id < :id" )
+							.setParameter( "name", "driven" )
+							.setParameter( "mileage", mileage )
+							.setParameter( "id", mileage )
+							.executeUpdate()
+			).isEqualTo( mileage ) );
+		}
+
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		scope.inTransaction( session -> {
+			final Car car = session.find( Car.class, 0 );
+			assertThat( car.name ).isEqualTo( "driven" );
+			assertThat( car.mileage ).isEqualTo( EXECUTIONS );
+		} );
+	}
+
+	@Test
+	public void testMultiValuedParameter(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			final List<Integer> ids = i == 0 ? List.of( 0 ) : List.of( 2 * i - 1, 2 * i );
+			scope.inTransaction( session -> session.createMutationQuery( "update Account set balance = 1 where id in :ids" )
+					.setParameter( "ids", ids )
+					.executeUpdate() );
+		}
+
+		// one miss for the HQL interpretation, and one for each number of values
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 3 );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Account where balance = 1", Long.class )
+						.getSingleResult()
+		).isEqualTo( 2L * EXECUTIONS - 1 ) );
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		Integer id;
+		String name;
+		int balance;
+
+		public Account() {
+		}
+
+		public Account(Integer id, String name, int balance) {
+			this.id = id;
+			this.name = name;
+			this.balance = balance;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		Integer id;
+		String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		int mileage;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, int mileage) {
+			super( id, name );
+			this.mileage = mileage;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NamedQueryValidationException;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@BaseUnitTest
+public class ParallelNamedQueryCheckingTest {
+
+	@Test
+	public void testNamedQueriesInterpretedAtStartup() {
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( Book.class ) ) {
+			final Set<String> cachedQueries = new HashSet<>();
+			sessionFactory.getQueryEngine().getInterpretationCache()
+					.forEachCachedHqlInterpretation( (hql, resultType) -> cachedQueries.add( hql ) );
+			assertThat( cachedQueries ).contains(
+					"from Book",
+					"from Book where title = :title",
+					"from Book where isbn = :isbn",
+					"select count(*) from Book",
+					"select title from Book order by title",
+					"select max(id) from Book"
+			);
+		}
+	}
+
+	@Test
+	public void testErrorsReported() {
+		assertThatThrownBy( () -> buildSessionFactory( Book.class, Broken.class ).close() )
+				.isInstanceOf( NamedQueryValidationException.class )
+				.hasMessageContaining( "Broken.byAuthor" )
+				.hasMessageContaining( "Broken.fromUnknown" )
+				.hasMessageNotContaining( "Book.all" );
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Class<?>... entityClasses) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( QuerySettings.QUERY_STARTUP_CHECKING, true )
+				.applySetting( QuerySettings.QUERY_STARTUP_CHECKING_PARALLELISM, 4 )
+				.build();
+		try {
+			final MetadataSources sources = new MetadataSources( registry );
+			for ( Class<?> entityClass : entityClasses ) {
+				sources.addAnnotatedClass( entityClass );
+			}
+			return (SessionFactoryImplementor) sources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.all", query = "from Book")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+	@NamedQuery(name = "Book.byIsbn", query = "from Book where isbn = :isbn")
+	@NamedQuery(name = "Book.count", query = "select count(*) from Book")
+	@NamedQuery(name = "Book.titles", query = "select title from Book order by title")
+	@NamedQuery(name = "Book.maxId", query = "select max(id) from Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		private String isbn;
+	}
+
+	@Entity(name = "Broken")
+	@NamedQuery(name = "Broken.byAuthor", query = "from Broken where author = :author")
+	@NamedQuery(name = "Broken.fromUnknown", query = "from Unknown")
+	public static class Broken {
+		@Id
+		private Long id;
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.IllegalSelectQueryException;
+import org.hibernate.query.PreparedSelectionQuery;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DomainModel(annotatedClasses = PreparedSelectionQueryTest.Article.class)
+@SessionFactory(generateStatistics = true)
+public class PreparedSelectionQueryTest {
+
+	private static final int EXECUTIONS = 3;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Article( i, "article #" + i, i % 2 == 0 ) );
+			}
+		} );
+	}
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Article" ).executeUpdate() );
+	}
+
+	@Test
+	public void testExecuteFromSessionsAndStatelessSessions(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final PreparedSelectionQuery<Article> query = scope.getSessionFactory()
+				.prepareQuery( "from Article where id < :id order by id", Article.class );
+		// the HQL interpretation
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+
+		for ( int i = 1; i <= EXECUTIONS; i++ ) {
+			final int id = i;
+			scope.inTransaction( session -> assertThat(
+					query.createQuery( session ).setParameter( "id", id ).getResultList()
+			).hasSize( id ) );
+			scope.inStatelessTransaction( session -> assertThat(
+					session.createSelectionQuery( query ).setParameter( "id", id ).getResultList()
+			).hasSize( id ) );
+		}
+
+		// the plan is resolved once, and then kept by the prepared query
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isZero();
+	}
+
+	@Test
+	public void testExecuteWithEnabledFilter(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final PreparedSelectionQuery<Article> query = scope.getSessionFactory()
+				.prepareQuery( "from Article order by id", Article.class );
+
+		scope.inTransaction( session -> assertThat( query.createQuery( session ).getResultList() ).hasSize( 10 ) );
+		for ( int i = 0; i < EXECUTIONS; i++ ) {
+			scope.inTransaction( session -> {
+				session.enableFilter( "published" ).setParameter( "published", true );
+				final List<Article> articles = query.createQuery( session ).getResultList();
+				assertThat( articles ).hasSize( 5 ).allMatch( article -> article.published );
+			} );
+		}
+		scope.inTransaction( session -> assertThat( query.createQuery( session ).getResultList() ).hasSize( 10 ) );
+
+		// the plan for the filtered query comes from the query plan cache
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 3 );
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( EXECUTIONS - 1 );
+	}
+
+	@Test
+	public void testExecuteWithLockMode(SessionFactoryScope scope) {
+		final PreparedSelectionQuery<Article> query = scope.getSessionFactory()
+				.prepareQuery( "from Article where id = :id", Article.class );
+		scope.inTransaction( session -> {
+			final Article article = query.createQuery( session )
+					.setParameter( "id", 1 )
+					.setLockMode( LockMode.PESSIMISTIC_WRITE )
+					.getSingleResult();
+			assertThat( session.getCurrentLockMode( article ) ).isEqualTo( LockMode.PESSIMISTIC_WRITE );
+		} );
+		scope.inTransaction( session -> {
+			final Article article = query.createQuery( session ).setParameter( "id", 1 ).getSingleResult();
+			assertThat( session.getCurrentLockMode( article ) ).isEqualTo( LockMode.READ );
+		} );
+	}
+
+	@Test
+	public void testPrepareMutationQuery(SessionFactoryScope scope) {
+		assertThrows(
+				IllegalSelectQueryException.class,
+				() -> scope.getSessionFactory().prepareQuery( "delete from Article", Article.class )
+		);
+	}
+
+	@Entity(name = "Article")
+	@FilterDef(name = "published", parameters = @ParamDef(name = "published", type = Boolean.class))
+	@Filter(name = "published", condition = "published = :published")
+	public static class Article {
+		@Id
+		Integer id;
+		String title;
+		boolean published;
+
+		public Article() {
+		}
+
+		public Article(Integer id, String title, boolean published) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+		}
+	}
+}
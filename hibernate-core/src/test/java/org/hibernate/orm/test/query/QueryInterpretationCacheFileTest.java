@@ -0,0 +1,218 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@BaseUnitTest
+public class QueryInterpretationCacheFileTest {
+
+	private static final String QUERY = "from Book where title = :title";
+	private static final String SUMMARY_QUERY = "select title from Book";
+	private static final String PUBLISHER_QUERY = "from Publisher where name = :name";
+
+	@Test
+	public void testQueriesInterpretedAfterRestart(@TempDir Path tempDir) {
+		final Path file = tempDir.resolve( "queries.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			sessionFactory.inSession( session -> session.createSelectionQuery( QUERY, Book.class ) );
+		}
+		assertThat( Files.exists( file ) ).isTrue();
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			assertThat( awaitCachedQueries( sessionFactory ) ).containsEntry( QUERY, Book.class );
+		}
+	}
+
+	@Test
+	public void testQueriesKeptWhenClosedDuringWarmUp(@TempDir Path tempDir) {
+		final Path file = tempDir.resolve( "queries.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			sessionFactory.inSession( session -> session.createSelectionQuery( QUERY, Book.class ) );
+		}
+		// closed right away, possibly before the warm-up interpreted the query
+		buildSessionFactory( file, Book.class ).close();
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			assertThat( awaitCachedQueries( sessionFactory ) ).containsEntry( QUERY, Book.class );
+		}
+	}
+
+	@Test
+	public void testFileIgnoredForDifferentMapping(@TempDir Path tempDir) {
+		final Path file = tempDir.resolve( "queries.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			sessionFactory.inSession( session -> session.createSelectionQuery( QUERY, Book.class ) );
+		}
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class, Author.class ) ) {
+			assertThat( cachedQueries( sessionFactory ) ).isEmpty();
+		}
+	}
+
+	@Test
+	public void testSelectQueryPlansCachedAfterRestart(@TempDir Path tempDir) {
+		final Path file = tempDir.resolve( "queries.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Publisher.class ) ) {
+			sessionFactory.inSession( session -> session.createNamedQuery( "Publisher.byNameForUpdate", Publisher.class ) );
+		}
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Publisher.class ) ) {
+			// the query string was interpreted with no result type when checking the named query,
+			// and with a result type, and has a plan with and without the lock mode of the named query
+			assertThat( awaitCachedQueryPlans( sessionFactory, 4 ) ).isEqualTo( 4 );
+			sessionFactory.getStatistics().clear();
+			sessionFactory.inSession( session -> {
+				( (QuerySqmImpl<?>) session.createQuery( PUBLISHER_QUERY, Publisher.class ) ).prepareSelectQueryPlan();
+				( (QuerySqmImpl<?>) session.createNamedQuery( "Publisher.byNameForUpdate", Publisher.class ) )
+						.prepareSelectQueryPlan();
+			} );
+			assertThat( sessionFactory.getStatistics().getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+			assertThat( sessionFactory.getStatistics().getQueryPlanCacheMissCount() ).isZero();
+		}
+	}
+
+	@Test
+	public void testQueriesWithUnknownResultTypeSkipped(@TempDir Path tempDir) {
+		final Path file = tempDir.resolve( "queries.bin" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			sessionFactory.inSession( session -> {
+				session.createSelectionQuery( SUMMARY_QUERY, BookSummary.class );
+				session.createSelectionQuery( QUERY, Book.class );
+			} );
+		}
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( file, Book.class ) ) {
+			awaitCachedQueryPlans( sessionFactory, 1 );
+			// BookSummary is neither mapped nor known to the type system
+			assertThat( awaitCachedQueries( sessionFactory ) )
+					.containsEntry( QUERY, Book.class )
+					.doesNotContainKey( SUMMARY_QUERY );
+		}
+	}
+
+	/**
+	 * The plans are resolved in the background, so wait for them
+	 */
+	private static int awaitCachedQueryPlans(SessionFactoryImplementor sessionFactory, int expected) {
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		int plans = sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedQueryPlans();
+		while ( plans < expected && System.nanoTime() < deadline ) {
+			try {
+				Thread.sleep( 10 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			plans = sessionFactory.getQueryEngine().getInterpretationCache().getNumberOfCachedQueryPlans();
+		}
+		return plans;
+	}
+
+	/**
+	 * The queries are interpreted in the background, so wait for them
+	 */
+	private static Map<String, Class<?>> awaitCachedQueries(SessionFactoryImplementor sessionFactory) {
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		Map<String, Class<?>> queries = cachedQueries( sessionFactory );
+		while ( queries.isEmpty() && System.nanoTime() < deadline ) {
+			try {
+				Thread.sleep( 10 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			queries = cachedQueries( sessionFactory );
+		}
+		return queries;
+	}
+
+	private static Map<String, Class<?>> cachedQueries(SessionFactoryImplementor sessionFactory) {
+		final Map<String, Class<?>> queries = new HashMap<>();
+		sessionFactory.getQueryEngine().getInterpretationCache().forEachCachedHqlInterpretation( queries::put );
+		return queries;
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Path file, Class<?>... entityClasses) {
+		final StandardServiceRegistry registry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( QuerySettings.QUERY_INTERPRETATION_CACHE_FILE, file.toString() )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, true )
+				.build();
+		try {
+			final MetadataSources sources = new MetadataSources( registry );
+			for ( Class<?> entityClass : entityClasses ) {
+				sources.addAnnotatedClass( entityClass );
+			}
+			return (SessionFactoryImplementor) sources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+	}
+
+	public static class BookSummary {
+		private final String title;
+
+		public BookSummary(String title) {
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+	}
+
+	@Entity(name = "Publisher")
+	@NamedQuery(name = "Publisher.byNameForUpdate", query = PUBLISHER_QUERY, lockMode = LockModeType.PESSIMISTIC_WRITE)
+	public static class Publisher {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryCacheAssembledResultsTest.Product.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true")
+})
+public class QueryCacheAssembledResultsTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1L, "chair", 25 ) );
+			session.persist( new Product( 2L, "table", 100 ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void clearCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testScalarProjection(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<String> names = session.createSelectionQuery( "select name from Product order by id", String.class )
+						.setCacheable( true )
+						.getResultList();
+				assertThat( names ).containsExactly( "chair", "table" );
+			} );
+		}
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testArrayProjectionIsCopied(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Object[]> rows = findNamesAndPrices( session );
+			assertThat( rows ).hasSize( 2 );
+			rows.get( 0 )[0] = "modified";
+		} );
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<Object[]> rows = findNamesAndPrices( session );
+				assertThat( rows ).hasSize( 2 );
+				assertThat( rows.get( 0 ) ).containsExactly( "chair", 25 );
+				assertThat( rows.get( 1 ) ).containsExactly( "table", 100 );
+				rows.get( 0 )[0] = "modified";
+			} );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testDifferentResultTypeIsNotShared(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThat( findNamesAndPrices( session ) ).hasSize( 2 ) );
+		scope.inTransaction( session -> {
+			final List<Object> rows = session.createSelectionQuery( "select name, price from Product order by id", Object.class )
+					.setCacheable( true )
+					.getResultList();
+			assertThat( rows ).hasSize( 2 );
+			assertThat( (Object[]) rows.get( 1 ) ).containsExactly( "table", 100 );
+		} );
+	}
+
+	private static List<Object[]> findNamesAndPrices(Session session) {
+		return session.createSelectionQuery( "select name, price from Product order by id", Object[].class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+		private String name;
+		private Integer price;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, Integer price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cache.spi.QueryCachePartitioning;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryCachePartitioningTest.PurchaseOrder.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.QUERY_CACHE_PARTITION_COLUMNS, value = "purchase_orders.tenant_id")
+})
+public class QueryCachePartitioningTest {
+	private static final int ACME = 1;
+	private static final int GLOBEX = 2;
+	private static final String TENANT_QUERY = "from PurchaseOrder where tenantId = :tenant";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new PurchaseOrder( 1L, ACME ) );
+			session.persist( new PurchaseOrder( 2L, GLOBEX ) );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( findByTenant( session, ACME ) ).hasSize( 1 );
+			assertThat( findByTenant( session, GLOBEX ) ).hasSize( 1 );
+			assertThat( findAll( session ) ).hasSize( 2 );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from PurchaseOrder" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInsertInvalidatesOnlyItsPartition(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new PurchaseOrder( 3L, GLOBEX ) ) );
+
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( findByTenant( session, ACME ) ).hasSize( 1 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( findByTenant( session, GLOBEX ) ).hasSize( 2 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( findAll( session ) ).hasSize( 3 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testUpdateInvalidatesOldAndNewPartitions(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.find( PurchaseOrder.class, 1L ).tenantId = GLOBEX );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertThat( findByTenant( session, ACME ) ).isEmpty();
+			assertThat( findByTenant( session, GLOBEX ) ).hasSize( 2 );
+		} );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testBulkUpdateInvalidatesAllPartitions(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.createMutationQuery( "update PurchaseOrder set tenantId = 3 where id = 2" )
+				.executeUpdate() );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertThat( findByTenant( session, ACME ) ).hasSize( 1 );
+			assertThat( findByTenant( session, GLOBEX ) ).isEmpty();
+		} );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testCharacterValuesAreNotPartitioned() {
+		final QueryCachePartitioning partitioning = QueryCachePartitioning.fromSettings(
+				Map.<String, Object>of( CacheSettings.QUERY_CACHE_PARTITION_COLUMNS, "orders.region" )
+		);
+		assertThat( partitioning.partitionSpace( "orders", 7 ) ).isEqualTo( "orders#region=7" );
+		assertThat( partitioning.partitionSpace( "orders", 7L ) ).isEqualTo( "orders#region=7" );
+		// 'EU' and 'eu ' might denote the same partition
+		assertThat( partitioning.partitionSpace( "orders", "EU" ) ).isNull();
+		assertThat( partitioning.partitionSpace( "orders", 'E' ) ).isNull();
+	}
+
+	private static List<PurchaseOrder> findByTenant(SharedSessionContractImplementor session, int tenant) {
+		return session.createSelectionQuery( TENANT_QUERY, PurchaseOrder.class )
+				.setParameter( "tenant", tenant )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	private static List<PurchaseOrder> findAll(SharedSessionContractImplementor session) {
+		return session.createSelectionQuery( "from PurchaseOrder", PurchaseOrder.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Table(name = "purchase_orders")
+	public static class PurchaseOrder {
+		@Id
+		private Long id;
+		@Column(name = "tenant_id")
+		private Integer tenantId;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Long id, Integer tenantId) {
+			this.id = id;
+			this.tenantId = tenantId;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		QueryCacheTimestampsLookupTest.Author.class,
+		QueryCacheTimestampsLookupTest.Book.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true")
+		},
+		settingProviders = @SettingProvider(
+				provider = QueryCacheTimestampsLookupTest.RegionFactorySettingProvider.class,
+				settingName = AvailableSettings.CACHE_REGION_FACTORY
+		)
+)
+public class QueryCacheTimestampsLookupTest {
+	private static final String QUERY = "select b from Book b join b.author a where a.name = :name";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L, "Gavin" );
+			session.persist( author );
+			session.persist( new Book( 1L, "Hibernate in Action", author ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSpacesFetchedInSingleLookup(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).hasSize( 1 ) );
+
+		statistics.clear();
+		CountingStorageAccess.SINGLE_GETS.set( 0 );
+		CountingStorageAccess.MULTI_GETS.set( 0 );
+
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).hasSize( 1 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getUpdateTimestampsCacheHitCount() ).isEqualTo( 2 );
+		assertThat( CountingStorageAccess.MULTI_GETS.get() ).isEqualTo( 1 );
+		assertThat( CountingStorageAccess.SINGLE_GETS.get() ).isEqualTo( 0 );
+	}
+
+	private static List<Book> executeQuery(SharedSessionContractImplementor session) {
+		return session.createSelectionQuery( QUERY, Book.class )
+				.setParameter( "name", "Gavin" )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	public static class RegionFactorySettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TimestampsCountingRegionFactory.class.getName();
+		}
+	}
+
+	public static class TimestampsCountingRegionFactory extends CachingRegionFactory {
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new CountingStorageAccess();
+		}
+	}
+
+	public static class CountingStorageAccess extends MapStorageAccessImpl {
+		static final AtomicInteger SINGLE_GETS = new AtomicInteger();
+		static final AtomicInteger MULTI_GETS = new AtomicInteger();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			SINGLE_GETS.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			MULTI_GETS.incrementAndGet();
+			final Map<Object, Object> items = new HashMap<>();
+			for ( Object key : keys ) {
+				final Object item = super.getFromCache( key, session );
+				if ( item != null ) {
+					items.put( key, item );
+				}
+			}
+			return items;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
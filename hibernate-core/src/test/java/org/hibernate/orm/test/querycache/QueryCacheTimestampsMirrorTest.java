@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cache.internal.LocalMirrorTimestampsCacheFactory;
+import org.hibernate.cache.internal.LocalMirrorTimestampsRegion;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryCacheTimestampsMirrorTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = CacheSettings.QUERY_CACHE_TIMESTAMPS_MIRROR_REFRESH_INTERVAL, value = "600000")
+		},
+		settingProviders = {
+				@SettingProvider(
+						provider = QueryCacheTimestampsMirrorTest.RegionFactorySettingProvider.class,
+						settingName = AvailableSettings.CACHE_REGION_FACTORY
+				),
+				@SettingProvider(
+						provider = QueryCacheTimestampsMirrorTest.TimestampsCacheFactorySettingProvider.class,
+						settingName = AvailableSettings.QUERY_CACHE_FACTORY
+				)
+		}
+)
+public class QueryCacheTimestampsMirrorTest {
+	private static final String QUERY = "from Book";
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testHitsServedFromMirror(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).hasSize( 1 ) );
+
+		statistics.clear();
+		CountingStorageAccess.GETS.set( 0 );
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).hasSize( 1 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( CountingStorageAccess.GETS.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testLocalInvalidationVisibleImmediately(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).hasSize( 1 ) );
+
+		scope.inTransaction( session -> session.persist( new Book( 2L, "Java Persistence with Hibernate" ) ) );
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).hasSize( 2 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testRemoteInvalidationVisibleAfterEviction(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).hasSize( 1 ) );
+
+		// another node invalidates the space, writing to the shared region only
+		final long timestamp = sessionFactory.getCache().getRegionFactory().nextTimestamp();
+		CountingStorageAccess.INSTANCE.putIntoCache( "Book", timestamp, null );
+
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).hasSize( 1 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		( (LocalMirrorTimestampsRegion) sessionFactory.getCache().getTimestampsCache().getRegion() ).evict( "Book" );
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).hasSize( 1 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+	}
+
+	private static List<Book> executeQuery(SharedSessionContractImplementor session) {
+		return session.createSelectionQuery( QUERY, Book.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	public static class RegionFactorySettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return TimestampsCountingRegionFactory.class.getName();
+		}
+	}
+
+	public static class TimestampsCacheFactorySettingProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return LocalMirrorTimestampsCacheFactory.class.getName();
+		}
+	}
+
+	public static class TimestampsCountingRegionFactory extends CachingRegionFactory {
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			CountingStorageAccess.INSTANCE = new CountingStorageAccess();
+			return CountingStorageAccess.INSTANCE;
+		}
+	}
+
+	public static class CountingStorageAccess extends MapStorageAccessImpl {
+		static final AtomicInteger GETS = new AtomicInteger();
+		static CountingStorageAccess INSTANCE;
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			GETS.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			GETS.incrementAndGet();
+			return super.getAllFromCache( keys, session );
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
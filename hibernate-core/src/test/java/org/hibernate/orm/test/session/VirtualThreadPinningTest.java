@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.session;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Drives the session lifecycle on virtual threads, and fails if a virtual
+ * thread gets pinned to its carrier while executing Hibernate code.
+ * <p>
+ * Pinning is detected using the {@code jdk.VirtualThreadPinned} JFR event,
+ * which is what {@code -Djdk.tracePinnedThreads} reports. The test is skipped
+ * on JDKs without virtual threads.
+ */
+@DomainModel(annotatedClasses = VirtualThreadPinningTest.Ticket.class)
+@ServiceRegistry(settings = {
+		// avoid reporting contention in the logging framework
+		@Setting(name = AvailableSettings.SHOW_SQL, value = "false"),
+		@Setting(name = AvailableSettings.LOG_SESSION_METRICS, value = "false")
+})
+@SessionFactory
+public class VirtualThreadPinningTest {
+
+	// less than the size of the connection pool used by the tests
+	private static final int THREAD_COUNT = 4;
+	private static final int ITERATIONS = 25;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Ticket" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSessionLifecycle(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		final List<String> pinnings = new ArrayList<>();
+		try ( Recording recording = new Recording() ) {
+			recording.enable( "jdk.VirtualThreadPinned" ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.start();
+			try {
+				final List<Future<?>> futures = new ArrayList<>();
+				for ( int i = 0; i < THREAD_COUNT; i++ ) {
+					final int thread = i;
+					futures.add( executor.submit( () -> runSessionLifecycle( scope, thread ) ) );
+				}
+				for ( Future<?> future : futures ) {
+					future.get( 1, TimeUnit.MINUTES );
+				}
+			}
+			finally {
+				executor.shutdown();
+				executor.awaitTermination( 1, TimeUnit.MINUTES );
+				recording.stop();
+			}
+
+			final Path dump = Files.createTempFile( "virtual-thread-pinning", ".jfr" );
+			try {
+				recording.dump( dump );
+				for ( RecordedEvent event : RecordingFile.readAllEvents( dump ) ) {
+					if ( isInsideHibernate( event ) ) {
+						pinnings.add( event.toString() );
+					}
+				}
+			}
+			finally {
+				Files.deleteIfExists( dump );
+			}
+		}
+
+		assertThat( pinnings ).isEmpty();
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Ticket", Long.class ).getSingleResult()
+		).isEqualTo( THREAD_COUNT * ITERATIONS ) );
+	}
+
+	private static void runSessionLifecycle(SessionFactoryScope scope, int thread) {
+		for ( int i = 0; i < ITERATIONS; i++ ) {
+			final int id = thread * ITERATIONS + i;
+			scope.inTransaction( session -> {
+				final Ticket ticket = new Ticket( id, "ticket #" + id );
+				session.persist( ticket );
+				session.flush();
+				final List<Ticket> tickets = session.createSelectionQuery(
+								"from Ticket where id <= :id",
+								Ticket.class
+						)
+						.setParameter( "id", id )
+						.getResultList();
+				assertThat( tickets ).contains( ticket );
+				// updated on commit
+				ticket.title = "updated by #" + thread;
+			} );
+		}
+	}
+
+	private static boolean isInsideHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			if ( frame.isJavaFrame() ) {
+				final String className = frame.getMethod().getType().getName();
+				if ( className.startsWith( "org.hibernate." )
+						&& !className.startsWith( "org.hibernate.orm.test." )
+						&& !className.startsWith( "org.hibernate.testing." ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			// virtual threads are not available (or still a preview feature)
+			assumeTrue( false, "Virtual threads are not supported by this JDK" );
+			throw new AssertionError( e );
+		}
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		Integer id;
+		String title;
+
+		public Ticket() {
+		}
+
+		public Ticket(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
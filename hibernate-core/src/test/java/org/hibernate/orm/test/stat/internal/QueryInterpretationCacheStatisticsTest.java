@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.QueryInterpretationCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = QueryInterpretationCacheStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "128"),
+		@Setting(name = QuerySettings.QUERY_PLAN_CACHE_ADAPTIVE, value = "true")
+})
+@SessionFactory(generateStatistics = true)
+public class QueryInterpretationCacheStatisticsTest {
+
+	@BeforeEach
+	public void clearStatistics(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@Test
+	public void testHitsAndMisses(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getQueryInterpretationCacheNames() ).containsExactly(
+				QueryInterpretationCacheStatistics.QUERY_PLANS,
+				QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS,
+				QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS
+		);
+		assertThat( statistics.getQueryInterpretationCacheStatistics( "unknown" ) ).isNull();
+
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				session.createSelectionQuery( "from Employee where name = :name", Employee.class )
+						.setParameter( "name", "Gavin" )
+						.getResultList();
+				session.createNativeQuery( "select count(*) from Employee where name = :name", Long.class )
+						.setParameter( "name", "Gavin" )
+						.getSingleResult();
+			} );
+		}
+
+		final QueryInterpretationCacheStatistics hqlInterpretations =
+				statistics.getQueryInterpretationCacheStatistics( QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS );
+		assertThat( hqlInterpretations.getMissCount() ).isEqualTo( 1 );
+		assertThat( hqlInterpretations.getHitCount() ).isEqualTo( 2 );
+		assertThat( hqlInterpretations.getElementCount() ).isEqualTo( 1 );
+
+		final QueryInterpretationCacheStatistics queryPlans =
+				statistics.getQueryInterpretationCacheStatistics( QueryInterpretationCacheStatistics.QUERY_PLANS );
+		// the plans of both the HQL and the native query
+		assertThat( queryPlans.getMissCount() ).isEqualTo( 2 );
+		assertThat( queryPlans.getHitCount() ).isEqualTo( 4 );
+		assertThat( queryPlans.getElementCount() ).isEqualTo( 2 );
+
+		final QueryInterpretationCacheStatistics nativeQueryParameters =
+				statistics.getQueryInterpretationCacheStatistics( QueryInterpretationCacheStatistics.NATIVE_QUERY_PARAMETERS );
+		assertThat( nativeQueryParameters.getMissCount() ).isEqualTo( 1 );
+		assertThat( nativeQueryParameters.getHitCount() ).isEqualTo( 2 );
+
+		statistics.clear();
+		assertThat( hqlInterpretations.getMissCount() ).isZero();
+		assertThat( hqlInterpretations.getHitCount() ).isZero();
+		assertThat( hqlInterpretations.getElementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testEvictionsAndGrowth(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final QueryInterpretationCacheStatistics hqlInterpretations =
+				statistics.getQueryInterpretationCacheStatistics( QueryInterpretationCacheStatistics.HQL_INTERPRETATIONS );
+
+		// more distinct queries than the cache can ever hold
+		scope.inSession( session -> {
+			for ( int round = 0; round < 2; round++ ) {
+				for ( int i = 0; i < 200; i++ ) {
+					session.createSelectionQuery( "from Employee where id = " + i, Employee.class );
+				}
+			}
+		} );
+
+		assertThat( hqlInterpretations.getMissCount() + hqlInterpretations.getHitCount() ).isEqualTo( 400 );
+		assertThat( hqlInterpretations.getEvictionCount() ).isPositive();
+		// the cache grew up to its budget
+		assertThat( hqlInterpretations.getMaxElementCount() ).isEqualTo( 128 );
+		assertThat( hqlInterpretations.getElementCount() ).isLessThanOrEqualTo( 128 );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+		String name;
+	}
+}
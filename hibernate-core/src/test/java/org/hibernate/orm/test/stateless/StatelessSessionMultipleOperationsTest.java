@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@code xxxMultiple()} operations of {@link org.hibernate.StatelessSession}
+ */
+@SessionFactory(useCollectingStatementInspector = true)
+@DomainModel(annotatedClasses = StatelessSessionMultipleOperationsTest.Record.class)
+public class StatelessSessionMultipleOperationsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Record" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInsertUpdateDeleteMultiple(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Record> records = new ArrayList<>();
+		for ( long i = 1; i <= 20; i++ ) {
+			records.add( new Record( i, "hello #" + i ) );
+		}
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> {
+			session.insertMultiple( records );
+			// the session-level batch size is restored
+			assertThat( session.getJdbcBatchSize() ).isNull();
+		} );
+		// a single batched statement is prepared for all the inserts
+		statementInspector.assertExecutedCount( 1 );
+		statementInspector.assertIsInsert( 0 );
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Record", Long.class ).getSingleResult() )
+					.isEqualTo( 20L );
+		} );
+
+		records.forEach( record -> record.message = "goodbye #" + record.id );
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.updateMultiple( records ) );
+		statementInspector.assertExecutedCount( 1 );
+		statementInspector.assertIsUpdate( 0 );
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.get( Record.class, 1L ).message ).isEqualTo( "goodbye #1" );
+			assertThat( session.get( Record.class, 20L ).message ).isEqualTo( "goodbye #20" );
+		} );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.deleteMultiple( records.subList( 0, 10 ) ) );
+		statementInspector.assertExecutedCount( 1 );
+		assertThat( statementInspector.getSqlQueries().get( 0 ) ).startsWithIgnoringCase( "delete" );
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Record", Long.class ).getSingleResult() )
+					.isEqualTo( 10L );
+		} );
+	}
+
+	@Test
+	public void testGetMultiple(SessionFactoryScope scope) {
+		final List<Record> records = new ArrayList<>();
+		for ( long i = 1; i <= 30; i++ ) {
+			records.add( new Record( i, "hello #" + i ) );
+		}
+		scope.inStatelessTransaction( session -> session.insertMultiple( records ) );
+
+		scope.inStatelessTransaction( session -> {
+			final List<Record> found = session.getMultiple( Record.class, List.of( 25L, 99L, 1L, 25L, 30L ) );
+			assertThat( found ).hasSize( 5 );
+			assertThat( found.get( 0 ).message ).isEqualTo( "hello #25" );
+			assertThat( found.get( 1 ) ).isNull();
+			assertThat( found.get( 2 ).message ).isEqualTo( "hello #1" );
+			assertThat( found.get( 3 ).message ).isEqualTo( "hello #25" );
+			assertThat( found.get( 4 ).message ).isEqualTo( "hello #30" );
+
+			assertThat( session.getMultiple( Record.class, List.of() ) ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testUpsertMultiple(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.insert( new Record( 1L, "hello earth" ) ) );
+
+		scope.inStatelessTransaction( session -> {
+			session.setJdbcBatchSize( 5 );
+			session.upsertMultiple( List.of( new Record( 1L, "goodbye earth" ), new Record( 2L, "hello mars" ) ) );
+			assertThat( session.getJdbcBatchSize() ).isEqualTo( 5 );
+		} );
+		scope.inStatelessTransaction( session -> {
+			assertThat( session.get( Record.class, 1L ).message ).isEqualTo( "goodbye earth" );
+			assertThat( session.get( Record.class, 2L ).message ).isEqualTo( "hello mars" );
+		} );
+	}
+
+	@Entity(name = "Record")
+	public static class Record {
+		@Id
+		Long id;
+		String message;
+
+		Record(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+
+		Record() {
+		}
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		StreamDetachWindowTest.Document.class,
+		StreamDetachWindowTest.Author.class
+})
+@SessionFactory
+public class StreamDetachWindowTest {
+
+	private static final int DOCUMENT_COUNT = 50;
+	private static final int AUTHOR_COUNT = 2;
+	private static final int WINDOW = 5;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Author> authors = new ArrayList<>();
+			for ( int i = 0; i < AUTHOR_COUNT; i++ ) {
+				final Author author = new Author( i, "author #" + i );
+				session.persist( author );
+				authors.add( author );
+			}
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				final Document document = new Document( i, "document #" + i );
+				document.author = authors.get( i % AUTHOR_COUNT );
+				document.tags.add( "tag #" + i );
+				session.persist( document );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Document", Document.class ).getResultList().forEach( session::remove );
+			session.createQuery( "from Author", Author.class ).getResultList().forEach( session::remove );
+		} );
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Document> documents = new ArrayList<>();
+			final AtomicInteger maxManaged = new AtomicInteger();
+			try (Stream<Document> stream = session.createSelectionQuery( "from Document order by id", Document.class )
+					.setDetachWindow( WINDOW )
+					.stream()) {
+				stream.forEach( document -> {
+					documents.add( document );
+					final int managed = session.getPersistenceContextInternal().getNumberOfManagedEntities();
+					maxManaged.set( Math.max( maxManaged.get(), managed ) );
+				} );
+			}
+
+			assertThat( documents ).hasSize( DOCUMENT_COUNT );
+			// entities are detached in chunks, and the eagerly fetched authors are used by every chunk
+			assertThat( maxManaged.get() ).isEqualTo( 2 * WINDOW - 1 + AUTHOR_COUNT );
+			// all but the last window were detached
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				assertThat( session.contains( documents.get( i ) ) ).isEqualTo( i >= DOCUMENT_COUNT - WINDOW );
+			}
+			assertThat( session.contains( documents.get( 0 ).author ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testEntityReturnedAgainStaysManaged(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Author> authors = new ArrayList<>();
+			try (ScrollableResults<Object[]> results = session.createSelectionQuery(
+							"select d.author, d from Document d order by d.id",
+							Object[].class
+					)
+					.setDetachWindow( 1 )
+					.scroll( ScrollMode.FORWARD_ONLY )) {
+				while ( results.next() ) {
+					authors.add( (Author) results.get()[0] );
+				}
+			}
+
+			assertThat( authors ).hasSize( DOCUMENT_COUNT );
+			// an author returned again within the window is never detached and reloaded
+			final Author lastAuthor = authors.get( DOCUMENT_COUNT - 1 );
+			assertThat( session.contains( lastAuthor ) ).isTrue();
+			assertThat( session.contains( authors.get( DOCUMENT_COUNT - 2 ) ) ).isFalse();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 2 );
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Author> authors = new ArrayList<>();
+			try (Stream<Author> stream = session.createSelectionQuery(
+							"select d.author from Document d order by d.author.id, d.id",
+							Author.class
+					)
+					.setDetachWindow( 1 )
+					.stream()) {
+				stream.forEach( authors::add );
+			}
+
+			assertThat( authors ).hasSize( DOCUMENT_COUNT );
+			for ( int i = 1; i < DOCUMENT_COUNT; i++ ) {
+				if ( authors.get( i ).id.equals( authors.get( i - 1 ).id ) ) {
+					assertThat( authors.get( i ) ).isSameAs( authors.get( i - 1 ) );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testChangesAreFlushedBeforeDetaching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (Stream<Document> stream = session.createSelectionQuery( "from Document order by id", Document.class )
+					.setDetachWindow( WINDOW )
+					.stream()) {
+				stream.forEach( document -> {
+					document.title = "revised " + document.title;
+					document.author.name = "revised author #" + document.author.id;
+				} );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select count(*) from Document where title like 'revised%'", Long.class )
+					.getSingleResult() ).isEqualTo( DOCUMENT_COUNT );
+			assertThat( session.createSelectionQuery( "select count(*) from Author where name like 'revised%'", Long.class )
+					.getSingleResult() ).isEqualTo( AUTHOR_COUNT );
+		} );
+	}
+
+	@Test
+	public void testScrollTuplesWithCollections(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Document> documents = new ArrayList<>();
+			try (ScrollableResults<Object[]> results = session.createSelectionQuery(
+							"select d, d.title from Document d order by d.id",
+							Object[].class
+					)
+					.setDetachWindow( 1 )
+					.scroll( ScrollMode.FORWARD_ONLY )) {
+				while ( results.next() ) {
+					final Document document = (Document) results.get()[0];
+					// initialize the collection, which must be detached along with its owner
+					assertThat( document.tags ).hasSize( 1 );
+					documents.add( document );
+					// the document and its author
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 2 );
+					assertThat( session.getPersistenceContextInternal().getCollectionEntriesSize() ).isEqualTo( 1 );
+				}
+			}
+
+			assertThat( documents ).hasSize( DOCUMENT_COUNT );
+			assertThat( session.contains( documents.get( 0 ) ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testWithoutDetachWindow(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (Stream<Document> stream = session.createSelectionQuery( "from Document", Document.class ).stream()) {
+				assertThat( stream.count() ).isEqualTo( DOCUMENT_COUNT );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() )
+					.isEqualTo( DOCUMENT_COUNT + AUTHOR_COUNT );
+		} );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		Integer id;
+		String title;
+		@ElementCollection
+		List<String> tags = new ArrayList<>();
+		@ManyToOne
+		Author author;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OpenAddressingHashMapTest {
+	@Test
+	public void testSimpleMapAccess() {
+		final Map<String, Integer> map = new OpenAddressingHashMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "one", 1 ) );
+		assertNull( map.put( "two", 2 ) );
+		assertEquals( 1, map.put( "one", 11 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( 11, map.get( "one" ) );
+		assertEquals( 2, map.remove( "two" ) );
+		assertNull( map.remove( "two" ) );
+		assertFalse( map.containsKey( "two" ) );
+		assertNull( map.get( null ) );
+		assertThrows( NullPointerException.class, () -> map.put( null, 0 ) );
+	}
+
+	@Test
+	public void testNullValues() {
+		final Map<String, Integer> map = new OpenAddressingHashMap<>();
+		map.put( "null", null );
+		assertTrue( map.containsKey( "null" ) );
+		assertNull( map.get( "null" ) );
+		assertEquals( 1, map.size() );
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		final Map<CollidingKey, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( new CollidingKey( i ), i );
+		}
+		for ( int i = 0; i < 100; i += 2 ) {
+			map.remove( new CollidingKey( i ) );
+		}
+		assertEquals( 50, map.size() );
+		for ( int i = 0; i < 100; i++ ) {
+			assertEquals( i % 2 == 0 ? null : i, map.get( new CollidingKey( i ) ) );
+		}
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final Map<Integer, Integer> expected = new HashMap<>();
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>();
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 100_000; i++ ) {
+			final int key = random.nextInt( 5_000 );
+			switch ( random.nextInt( 3 ) ) {
+				case 0:
+					assertEquals( expected.put( key, i ), map.put( key, i ) );
+					break;
+				case 1:
+					assertEquals( expected.remove( key ), map.remove( key ) );
+					break;
+				default:
+					assertEquals( expected.get( key ), map.get( key ) );
+			}
+		}
+		assertEquals( expected.size(), map.size() );
+		assertEquals( expected, map );
+		assertEquals( expected.keySet(), map.keySet() );
+		assertEquals( expected.entrySet(), map.entrySet() );
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertFalse( map.values().iterator().hasNext() );
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( i, i );
+		}
+		final Iterator<Integer> iterator = map.values().iterator();
+		while ( iterator.hasNext() ) {
+			if ( iterator.next() % 2 == 0 ) {
+				iterator.remove();
+			}
+		}
+		assertEquals( 50, map.size() );
+		assertFalse( map.containsKey( 0 ) );
+		assertTrue( map.containsKey( 1 ) );
+
+		for ( Map.Entry<Integer, Integer> entry : map.entrySet() ) {
+			entry.setValue( -entry.getValue() );
+		}
+		assertEquals( -1, map.get( 1 ) );
+	}
+
+	@Test
+	public void testFailFastIterator() {
+		final Map<Integer, Integer> map = new OpenAddressingHashMap<>();
+		map.put( 1, 1 );
+		map.put( 2, 2 );
+		final Iterator<Integer> iterator = map.keySet().iterator();
+		iterator.next();
+		map.put( 3, 3 );
+		assertThrows( ConcurrentModificationException.class, iterator::next );
+	}
+
+	private static class CollidingKey {
+		private final int value;
+
+		private CollidingKey(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CollidingKey && ( (CollidingKey) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 1;
+		}
+	}
+}
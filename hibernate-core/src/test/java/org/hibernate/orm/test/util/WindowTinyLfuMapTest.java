@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.internal.util.collections.WindowTinyLfuMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WindowTinyLfuMapTest {
+	@Test
+	public void testSimpleMapAccess() {
+		final WindowTinyLfuMap<String, Integer> map = new WindowTinyLfuMap<>( 10 );
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "one", 1 ) );
+		assertNull( map.put( "two", 2 ) );
+		assertEquals( 1, map.put( "one", 11 ) );
+		assertEquals( 11, map.putIfAbsent( "one", 111 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( 11, map.get( "one" ) );
+		assertTrue( map.replace( "one", 11, 12 ) );
+		assertFalse( map.replace( "one", 11, 13 ) );
+		assertEquals( 12, map.get( "one" ) );
+		assertFalse( map.remove( "two", 3 ) );
+		assertTrue( map.remove( "two", 2 ) );
+		assertNull( map.remove( "two" ) );
+		assertFalse( map.containsKey( "two" ) );
+		assertEquals( Map.of( "one", 12 ), new HashMap<>( map ) );
+		assertThrows( NullPointerException.class, () -> map.put( null, 0 ) );
+		assertThrows( NullPointerException.class, () -> map.put( "null", null ) );
+		map.clear();
+		assertTrue( map.isEmpty() );
+	}
+
+	@Test
+	public void testBounded() {
+		final WindowTinyLfuMap<Integer, Integer> map = new WindowTinyLfuMap<>( 100 );
+		for ( int i = 0; i < 1000; i++ ) {
+			map.put( i, i );
+			assertTrue( map.size() <= 100 );
+		}
+		assertEquals( 100, map.size() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final WindowTinyLfuMap<Integer, Integer> map = new WindowTinyLfuMap<>( 100 );
+		for ( int i = 0; i < 50; i++ ) {
+			map.put( i, i );
+		}
+		for ( int round = 0; round < 10; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				map.get( i );
+			}
+		}
+		// keys which are used only once
+		for ( int i = 1000; i < 5000; i++ ) {
+			map.put( i, i );
+		}
+		int retained = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( map.containsKey( i ) ) {
+				retained++;
+			}
+		}
+		// reads might be dropped, but most of them are recorded
+		assertTrue( retained >= 40, "Only " + retained + " frequently used entries retained" );
+		assertEquals( 100, map.size() );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final WindowTinyLfuMap<Integer, Integer> map = new WindowTinyLfuMap<>( 500 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int thread = 0; thread < 4; thread++ ) {
+				final Random random = new Random( thread );
+				futures.add( executor.submit( () -> {
+					for ( int i = 0; i < 100_000; i++ ) {
+						final int key = random.nextInt( 2000 );
+						final Integer value = map.get( key );
+						if ( value == null ) {
+							map.putIfAbsent( key, key );
+						}
+						else {
+							assertEquals( key, value );
+						}
+						if ( i % 100 == 0 ) {
+							map.remove( random.nextInt( 2000 ) );
+						}
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertTrue( map.size() <= 500 );
+		map.forEach( (key, value) -> assertEquals( key, value ) );
+	}
+}
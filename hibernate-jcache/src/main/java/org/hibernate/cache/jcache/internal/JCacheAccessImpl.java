@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -38,6 +42,11 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		return underlyingCache.get( key );
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return underlyingCache.getAll( asSet( keys ) );
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		underlyingCache.put( key, value );
@@ -48,6 +57,10 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		underlyingCache.remove( key );
 	}
 
+	private static Set<?> asSet(Collection<?> keys) {
+		return keys instanceof Set ? (Set<?>) keys : new HashSet<>( keys );
+	}
+
 	@Override
 	public void evictData(Object key) {
 		underlyingCache.remove( key );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.orm.test.jcache;
 
+import java.util.List;
+import java.util.Map;
 import javax.cache.Cache;
 
 import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
@@ -17,6 +19,7 @@ import org.hibernate.testing.orm.junit.BaseUnitTest;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hibernate.testing.transaction.TransactionUtil2.inSession;
@@ -65,6 +68,32 @@ public class StorageAccessTest {
 		}
 	}
 
+	@Test
+	public void testBulkGetStorageAccessUse() {
+		TestHelper.preBuildAllCaches();
+		try (final SessionFactoryImplementor sessionFactory = TestHelper.buildStandardSessionFactory() ) {
+			final Region region = sessionFactory.getCache().getRegion( TestHelper.entityRegionNames[0] );
+
+			final JCacheAccessImpl access = (JCacheAccessImpl) ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+			final Cache jcache = access.getUnderlyingCache();
+
+			inSession(
+					sessionFactory,
+					s -> {
+						jcache.put( "key1", "value1" );
+						jcache.put( "key2", "value2" );
+
+						final Map<Object, Object> values = access.getAllFromCache( List.of( "key1", "key2", "key3" ), s );
+						assertThat( values, equalTo( Map.of( "key1", "value1", "key2", "value2" ) ) );
+
+						jcache.remove( "key1" );
+						jcache.remove( "key2" );
+						assertThat( access.getAllFromCache( List.of( "key1", "key2" ), s ).isEmpty(), is( true ) );
+					}
+			);
+		}
+	}
+
 	@Test
 	@SuppressWarnings({"EmptyTryBlock", "unused"})
 	public void testCachesReleasedOnSessionFactoryClose() {
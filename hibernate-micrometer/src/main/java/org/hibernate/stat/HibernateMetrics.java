@@ -9,6 +9,7 @@ package org.hibernate.stat;
 import io.micrometer.common.lang.NonNullApi;
 import io.micrometer.common.lang.NonNullFields;
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -22,6 +23,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A {@link MeterBinder} implementation that provides Hibernate metrics. It exposes the
@@ -332,6 +334,81 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+
+		// Query interpretation caches
+		Arrays.stream( statistics.getQueryInterpretationCacheNames() )
+				.forEach( cacheName -> {
+					counter(registry,
+							"hibernate.cache.query.interpretation.requests",
+							"The number of look-ups satisfied by the query interpretation cache",
+							stats -> queryInterpretationCacheStatistic( stats, cacheName,
+									QueryInterpretationCacheStatistics::getHitCount ),
+							"cache",
+							cacheName,
+							"result",
+							"hit"
+					);
+					counter(registry,
+							"hibernate.cache.query.interpretation.requests",
+							"The number of look-ups not satisfied by the query interpretation cache",
+							stats -> queryInterpretationCacheStatistic( stats, cacheName,
+									QueryInterpretationCacheStatistics::getMissCount ),
+							"cache",
+							cacheName,
+							"result",
+							"miss"
+					);
+					counter(registry,
+							"hibernate.cache.query.interpretation.evictions",
+							"The number of entries evicted from the query interpretation cache",
+							stats -> queryInterpretationCacheStatistic( stats, cacheName,
+									QueryInterpretationCacheStatistics::getEvictionCount ),
+							"cache",
+							cacheName
+					);
+					gauge(registry,
+							"hibernate.cache.query.interpretation.size",
+							"The number of entries in the query interpretation cache",
+							stats -> queryInterpretationCacheStatistic( stats, cacheName,
+									QueryInterpretationCacheStatistics::getElementCount ),
+							"cache",
+							cacheName
+					);
+					gauge(registry,
+							"hibernate.cache.query.interpretation.max.size",
+							"The maximum number of entries in the query interpretation cache",
+							stats -> queryInterpretationCacheStatistic( stats, cacheName,
+									QueryInterpretationCacheStatistics::getMaxElementCount ),
+							"cache",
+							cacheName
+					);
+				} );
+	}
+
+	private void gauge(
+			MeterRegistry registry,
+			String name,
+			String description,
+			ToDoubleFunction<Statistics> f,
+			String... extraTags) {
+		if ( this.statistics == null ) {
+			return;
+		}
+
+		Gauge.builder( name, statistics, f )
+				.tags( tags )
+				.tags( extraTags )
+				.description( description )
+				.register( registry );
+	}
+
+	private static double queryInterpretationCacheStatistic(
+			Statistics statistics,
+			String cacheName,
+			ToLongFunction<QueryInterpretationCacheStatistics> f) {
+		final QueryInterpretationCacheStatistics cacheStatistics =
+				statistics.getQueryInterpretationCacheStatistics( cacheName );
+		return cacheStatistics == null ? 0 : f.applyAsLong( cacheStatistics );
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
@@ -111,6 +111,12 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
 
+		Assert.assertNotNull(registry.get("hibernate.cache.query.interpretation.requests").tags("cache", "query-plans", "result", "hit").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.interpretation.requests").tags("cache", "hql-interpretations", "result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.interpretation.evictions").tags("cache", "native-query-parameters").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.interpretation.size").tags("cache", "query-plans").gauge());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.interpretation.max.size").tags("cache", "query-plans").gauge());
+
 		// prepare some test data...
 		Session session = openSession();
 		session.beginTransaction();